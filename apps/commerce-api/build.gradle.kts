@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
 dependencies {
     // add-ons
     implementation(project(":modules:jpa"))
@@ -14,6 +18,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // querydsl
     implementation("com.querydsl:querydsl-jpa::jakarta")
 
@@ -24,3 +31,13 @@ dependencies {
     testImplementation(testFixtures(project(":modules:resilience")))
 
 }
+
+// ./gradlew :apps:commerce-api:jmh
+// 일부만 실행: ./gradlew :apps:commerce-api:jmh -PjmhIncludes=ProductStatement
+jmh {
+    profilers = listOf("gc") // 연산당 할당량(gc.alloc.rate.norm)을 함께 측정
+    resultFormat = "JSON"
+    // 커밋(버전)별로 결과 파일을 남겨 최적화 전후를 비교한다
+    resultsFile = layout.buildDirectory.file("results/jmh/results-${project.version}.json")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
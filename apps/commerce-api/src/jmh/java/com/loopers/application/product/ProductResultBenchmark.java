@@ -0,0 +1,59 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductBenchmarkFixture;
+import com.loopers.domain.product.ProductInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 응답 한 페이지 조립 (브랜드 이름 / 좋아요 여부 합치기)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductResultBenchmark {
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<ProductInfo.ProductWithSignal> products;
+    private Map<Long, String> brandNames;
+    private Set<Long> likedIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = ProductBenchmarkFixture.products(pageSize);
+        brandNames = products.stream()
+                .map(ProductInfo.ProductWithSignal::getBrandId)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), brandId -> "브랜드 " + brandId));
+        likedIds = products.stream()
+                .map(ProductInfo.ProductWithSignal::getId)
+                .filter(id -> id % 3 == 0)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Benchmark
+    public List<ProductResult.Summary> summaryOf() {
+        return ProductResult.Summary.of(brandNames, likedIds, products);
+    }
+}
@@ -0,0 +1,101 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.domain.BaseEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * 주문 시 쿠폰별 할인 금액 계산. 저장소는 고정 목록을 돌려주는 스텁으로 두어 계산 비용만 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CouponServiceBenchmark {
+    @Param({"10"})
+    public int itemCount;
+
+    private CouponService couponService;
+    private CouponCommand.User.Order couponCommand;
+    private Map<Long, Long> orderItemMap;
+    private Map<Long, Long> productPriceMap;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        List<CouponEntity> coupons = List.of(
+                withId(new CouponEntity(CouponEntity.Type.PERCENTAGE, 10L), 1L),
+                withId(new CouponEntity(CouponEntity.Type.FIXED, 3_000L), 2L)
+        );
+        couponService = new CouponService(new StubCouponRepository(coupons));
+        couponCommand = new CouponCommand.User.Order(1L, List.of(1L, 2L));
+        orderItemMap = LongStream.rangeClosed(1, itemCount).boxed()
+                .collect(Collectors.toMap(Function.identity(), productId -> productId % 3 + 1));
+        productPriceMap = LongStream.rangeClosed(1, itemCount).boxed()
+                .collect(Collectors.toMap(Function.identity(), productId -> 19_900L + productId * 1_000));
+    }
+
+    @Benchmark
+    public Map<Long, Long> getCouponValueMap() {
+        return couponService.getCouponValueMap(couponCommand, orderItemMap, productPriceMap);
+    }
+
+    private static CouponEntity withId(CouponEntity coupon, Long id) throws ReflectiveOperationException {
+        Field field = BaseEntity.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(coupon, id);
+        return coupon;
+    }
+
+    private record StubCouponRepository(List<CouponEntity> coupons) implements CouponRepository {
+        @Override
+        public CouponEntity save(CouponEntity coupon) {
+            return coupon;
+        }
+
+        @Override
+        public Optional<CouponEntity> find(Long id) {
+            return coupons.stream().filter(coupon -> coupon.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<CouponEntity> find(List<Long> ids) {
+            return coupons;
+        }
+
+        @Override
+        public List<CouponEntity> findWithLock(List<Long> ids) {
+            return coupons;
+        }
+
+        @Override
+        public List<CouponUsageEntity> saveUsages(List<CouponUsageEntity> issuedCoupons) {
+            return issuedCoupons;
+        }
+
+        @Override
+        public boolean existsUsages(Long userId, List<Long> couponIds) {
+            return false;
+        }
+    }
+}
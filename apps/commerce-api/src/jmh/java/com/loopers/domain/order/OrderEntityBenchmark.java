@@ -0,0 +1,48 @@
+package com.loopers.domain.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 주문 완료/결제 요청마다 계산하는 총액 (상품 합계 - 쿠폰 할인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderEntityBenchmark {
+    @Param({"1", "10"})
+    public int itemCount;
+
+    private OrderEntity order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<OrderCommand.Item> items = LongStream.rangeClosed(1, itemCount)
+                .mapToObj(productId -> new OrderCommand.Item(productId, 19_900L + productId * 1_000, productId % 3 + 1))
+                .toList();
+        List<OrderCommand.Coupon> coupons = List.of(new OrderCommand.Coupon(1L, 3_000L), new OrderCommand.Coupon(2L, 1_000L));
+        order = OrderEntity.from(new OrderCommand.Order(1L, "POINT", items, coupons));
+    }
+
+    @Benchmark
+    public Long getTotalPrice() {
+        return order.getTotalPrice();
+    }
+}
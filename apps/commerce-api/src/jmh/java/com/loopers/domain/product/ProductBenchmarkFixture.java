@@ -0,0 +1,33 @@
+package com.loopers.domain.product;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * 벤치마크 간 같은 모양의 상품 목록을 쓰도록 모아 둔 픽스처
+ */
+public class ProductBenchmarkFixture {
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2025, 8, 1, 9, 30, 0, 0, ZoneOffset.UTC);
+
+    public static List<ProductInfo.ProductWithSignal> products(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(ProductBenchmarkFixture::product)
+                .toList();
+    }
+
+    public static ProductInfo.ProductWithSignal product(long id) {
+        return ProductInfo.ProductWithSignal.of(
+                100_000L + id,
+                "빈티지 가죽 크로스백 " + id,
+                id % 50,
+                19_900L + id * 1_000,
+                id * 7,
+                CREATED_AT,
+                CREATED_AT.plusHours(id),
+                ProductEntity.State.of("OPEN", CREATED_AT.plusDays(1)),
+                id * 13
+        );
+    }
+}
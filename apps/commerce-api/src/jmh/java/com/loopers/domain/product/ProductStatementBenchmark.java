@@ -0,0 +1,52 @@
+package com.loopers.domain.product;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회마다 여러 번 불리는 정렬/브랜드 조건 조회. 호출마다 criteria 를 stream 으로 훑는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductStatementBenchmark {
+    @Param({"true", "false"})
+    public boolean filteredByBrand;
+
+    private ProductStatement statement;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProductStatement.Builder builder = ProductStatement.builder()
+                .orderBy(new ProductStatement.LikeCount());
+        if (filteredByBrand) {
+            builder.brandId(7L);
+        }
+        statement = builder.build();
+    }
+
+    @Benchmark
+    public ProductStatement.OrderBy getOrderBy() {
+        return statement.getOrderBy();
+    }
+
+    @Benchmark
+    public Long getBrandId() {
+        return statement.getBrandId();
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductInfo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 상품 목록 캐시 한 페이지의 인코딩 형식 비교.
+ * ns/op 는 인코딩/디코딩 시간, gc.alloc.rate.norm 은 페이지당 할당 바이트, payloadBytes 는 Redis 에 기록되는 크기다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductCacheCodecBenchmark {
+    @Param({"JSON", "BINARY"})
+    public String codec;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private ProductCacheCodec target;
+    private ProductCachePage page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = "JSON".equals(codec) ? new ProductCacheJsonCodec() : new ProductCacheBinaryCodec();
+        ZonedDateTime createdAt = ZonedDateTime.of(2025, 8, 1, 9, 30, 0, 0, ZoneOffset.UTC);
+        List<ProductInfo.ProductWithSignal> products = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> ProductInfo.ProductWithSignal.of(
+                        100_000L + id,
+                        "빈티지 가죽 크로스백 " + id,
+                        id % 50,
+                        19_900L + id * 1_000,
+                        id * 7,
+                        createdAt,
+                        createdAt.plusHours(id),
+                        ProductEntity.State.of("OPEN", createdAt.plusDays(1)),
+                        id * 13
+                ))
+                .toList();
+        page = new ProductCachePage(products, 35L, System.currentTimeMillis() + 60_000L);
+        encoded = target.encode(page);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) {
+        byte[] bytes = target.encode(page);
+        payload.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public ProductCachePage decode() {
+        return target.decode(encoded);
+    }
+}
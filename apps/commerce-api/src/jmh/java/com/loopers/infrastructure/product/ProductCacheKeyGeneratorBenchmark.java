@@ -0,0 +1,51 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 캐시 조회마다 만드는 페이지 키. (이전 withSignalFrom 은 pageFrom / idsFrom 으로 나뉘었다)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductCacheKeyGeneratorBenchmark {
+    private ProductStatement statement;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        statement = ProductStatement.builder()
+                .orderBy(new ProductStatement.Price(true))
+                .brandId(7L)
+                .build();
+        pageable = PageRequest.of(3, 20);
+    }
+
+    @Benchmark
+    public String pageFrom() {
+        return ProductCacheKeyGenerator.pageFrom(statement, pageable);
+    }
+
+    @Benchmark
+    public String idsFrom() {
+        return ProductCacheKeyGenerator.idsFrom(statement, pageable, 42L);
+    }
+}
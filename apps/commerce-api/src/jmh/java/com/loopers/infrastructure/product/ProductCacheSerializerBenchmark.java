@@ -0,0 +1,60 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductBenchmarkFixture;
+import com.loopers.domain.product.ProductInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 상세/목록 항목 캐시의 기록·읽기 한 쌍. 코덱 자체 비교는 {@link ProductCacheCodecBenchmark} 에서 본다.
+ * 읽기는 형식 판별(canDecode)을 거치므로, 설정 형식과 읽기 순서의 조합에 따른 차이가 함께 드러난다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductCacheSerializerBenchmark {
+    @Param({"JSON", "BINARY"})
+    public String codec;
+
+    private ProductCacheSerializer.Serializer serializer;
+    private ProductCacheSerializer.Deserializer deserializer;
+    private ProductInfo.ProductWithSignal product;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProductCacheProperties properties = new ProductCacheProperties(
+                new ProductCacheProperties.Near(0, Duration.ZERO), ProductCacheProperties.Codec.valueOf(codec),
+                Duration.ofHours(1), Duration.ofHours(3), Duration.ofMinutes(1), Duration.ofSeconds(10));
+        serializer = new ProductCacheSerializer.Serializer(properties);
+        deserializer = new ProductCacheSerializer.Deserializer();
+        product = ProductBenchmarkFixture.product(1L);
+        serialized = serializer.serializeProduct(product);
+    }
+
+    @Benchmark
+    public byte[] serializeProduct() {
+        return serializer.serializeProduct(product);
+    }
+
+    @Benchmark
+    public ProductInfo.ProductWithSignal deserializeProduct() {
+        return deserializer.deserializeProduct(serialized);
+    }
+}
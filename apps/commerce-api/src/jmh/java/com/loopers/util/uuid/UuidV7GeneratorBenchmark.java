@@ -0,0 +1,54 @@
+package com.loopers.util.uuid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 키에 쓰는 UUIDv7 생성. 스레드별 상태라 스레드 수를 늘려도 개당 시간이 유지되는지 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidV7GeneratorBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    @Benchmark
+    public UUID generateUuidV7() {
+        return UuidV7Generator.generateUuidV7();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generateUuidV7Contended() {
+        return UuidV7Generator.generateUuidV7();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID generateUuidV7AllCores() {
+        return UuidV7Generator.generateUuidV7();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<UUID> generateUuidV7Batch() {
+        return UuidV7Generator.generateUuidV7s(BATCH_SIZE);
+    }
+}
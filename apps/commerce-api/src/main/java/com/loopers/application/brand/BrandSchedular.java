@@ -0,0 +1,39 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BrandSchedular {
+    private final BrandDictionary brandDictionary;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            int loaded = brandDictionary.load();
+            log.info("브랜드 사전 적재 완료 - count: {}", loaded);
+        } catch (Exception e) {
+            // 사전에 없는 브랜드는 조회 시 DB 에서 채우므로 기동은 계속한다.
+            log.error("브랜드 사전 적재 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${brand.dictionary.refresh-interval}")
+    public void refresh() {
+        try {
+            int refreshed = brandDictionary.refresh();
+            if (refreshed > 0) {
+                log.debug("브랜드 사전 갱신 - rows: {}", refreshed);
+            }
+        } catch (Exception e) {
+            log.error("브랜드 사전 갱신 실패", e);
+        }
+    }
+}
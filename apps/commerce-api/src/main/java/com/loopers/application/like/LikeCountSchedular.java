@@ -0,0 +1,35 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.like.LikeCountFlusher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountSchedular {
+    private static final long FLUSH_RETENTION_DAYS = 7;
+
+    private final LikeCountFlusher likeCountFlusher;
+
+    /**
+     * 모드와 관계없이 실행한다. LOCKING 으로 전환한 뒤에도 버퍼에 남은 변경분을 반영하기 위함이다.
+     */
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval}")
+    public void flush() {
+        int applied = likeCountFlusher.flush();
+        if (applied > 0) {
+            log.debug("좋아요 수 배치 반영 - batches: {}", applied);
+        }
+    }
+
+    @Scheduled(cron = "${like.counter.purge-cron}")
+    public void purge() {
+        int deleted = likeCountFlusher.purge(ZonedDateTime.now().minusDays(FLUSH_RETENTION_DAYS));
+        log.info("반영 완료된 좋아요 수 배치 기록 정리 - deleted: {}", deleted);
+    }
+}
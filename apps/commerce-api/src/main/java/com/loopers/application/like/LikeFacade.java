@@ -19,10 +19,7 @@ public class LikeFacade {
 
     @Transactional
     public LikeResult.Result likeProduct(Long userId, Long productId) {
-        userService.find(userId).orElseThrow(()-> new CoreException(
-                ErrorType.NOT_FOUND, "사용자를 찾을 수 없습니다 : " + userId));
-        productService.find(productId).orElseThrow(()-> new CoreException(
-                ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다 : " + productId));
+        assertExists(userId, productId);
 
         var command = new LikeCommand.Product(userId, productId);
         LikeEntity like = likeService.register(command);
@@ -32,14 +29,23 @@ public class LikeFacade {
 
     @Transactional
     public LikeResult.Result dislikeProduct(Long userId, Long productId) {
-        userService.find(userId).orElseThrow(()-> new CoreException(
-                ErrorType.NOT_FOUND, "사용자를 찾을 수 없습니다 : " + userId));
-        productService.find(productId).orElseThrow(()-> new CoreException(
-                ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다 : " + productId));
+        assertExists(userId, productId);
 
         LikeCommand.Product command = new LikeCommand.Product(userId, productId);
         LikeEntity like = likeService.remove(command);
 
         return LikeResult.Result.of(like, false);
     }
+
+    /**
+     * 엔티티를 읽지 않고 캐시된 존재 여부만 확인한다.
+     */
+    private void assertExists(Long userId, Long productId) {
+        if (!userService.exists(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "사용자를 찾을 수 없습니다 : " + userId);
+        }
+        if (!productService.exists(productId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다 : " + productId);
+        }
+    }
 }
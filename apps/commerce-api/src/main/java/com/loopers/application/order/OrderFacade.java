@@ -5,9 +5,9 @@ import com.loopers.domain.order.*;
 import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductInventoryService;
 import com.loopers.domain.product.ProductMapper;
 import com.loopers.domain.product.ProductService;
-import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -18,17 +18,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
 public class OrderFacade {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderService orderService;
     private final ProductService productService;
     private final UserService userService;
     private final CouponService couponService;
     private final ProductMapper productMapper;
     private final PaymentService paymentService;
+    private final ProductInventoryService productInventoryService;
 
     @Transactional
     public OrderResult.Summary order(OrderCriteria.Order criteria) {
@@ -43,6 +45,7 @@ public class OrderFacade {
 
         var orderCommand = criteria.toCommandWithProductPriceList(productPriceMap, couponValueMap);
         OrderEntity order = orderService.register(orderCommand);
+        productInventoryService.reserve(order.getId(), criteria.getOrderItemMap());
 
         if(criteria.paymentType().equals(OrderEntity.PaymentType.PG.getValue())){
             var paymentCommand = new PaymentCommand.RegisterOrder(criteria.userId(), order.getId(), order.getTotalPrice());
@@ -52,40 +55,45 @@ public class OrderFacade {
         return OrderResult.Summary.from(order);
     }
 
+    /**
+     * 주문 항목과 쿠폰은 읽지 않고, 합계는 SQL 로 계산한 요약만 조회한다.
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     */
     @Transactional(readOnly = true)
-    public List<OrderResult.Summary> list(Long userId) {
-        UserEntity user = userService.find(userId).orElseThrow(() -> new CoreException(
-                ErrorType.NOT_FOUND, "User가 존재하지 않습니다: " + userId));
-
-        var criteria = OrderStatement.userId(user.getId());
-        List<OrderEntity> orders = orderService.find(criteria);
-        return orders.stream()
-                .map(OrderResult.Summary::from)
-                .collect(Collectors.toList());
+    public OrderResult.CursorPage list(Long userId, Long cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        if (!userService.exists(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "User가 존재하지 않습니다: " + userId);
+        }
+
+        List<OrderInfo.Summary> orders = orderService.findSummaries(userId, cursor, size);
+        Long nextCursor = orders.size() < size ? null : orders.getLast().orderId();
+        return new OrderResult.CursorPage(OrderResult.Summary.of(orders), nextCursor);
     }
 
     @Transactional(readOnly = true)
     public OrderResult.Detail detail(Long userId, Long orderId) {
-        UserEntity user = userService.find(userId).orElseThrow(() -> new CoreException(
-                ErrorType.NOT_FOUND, "User가 존재하지 않습니다: " + userId));
+        if (!userService.exists(userId)) {
+            throw new CoreException(ErrorType.NOT_FOUND, "User가 존재하지 않습니다: " + userId);
+        }
 
-        OrderEntity order = orderService.find(orderId).orElseThrow(() -> new CoreException(
+        OrderInfo.Detail order = orderService.findDetail(orderId).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "주문이 존재하지 않습니다: " + orderId));
 
-        if (!order.getUserId().equals(user.getId())) {
+        if (!order.summary().userId().equals(userId)) {
             throw new CoreException(ErrorType.BAD_REQUEST, "해당 주문을 조회할 권한이 없습니다.");
         }
 
-        var productIds = order.getOrderedProductIds();
-        List<ProductEntity> products = productService.find(productIds);
-
-        return OrderResult.Detail.from(order, products);
+        return OrderResult.Detail.from(order);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void complete(OrderCommand.Complete command) {
         OrderEntity orderEntity = orderService.complete(command);
-        productService.deduct(orderEntity.getItemQuantityMap());
+        productInventoryService.commit(orderEntity.getId(), orderEntity.getItemQuantityMap());
         couponService.useCoupons(orderEntity.getUserId(), orderEntity.getCouponIds());
     }
 }
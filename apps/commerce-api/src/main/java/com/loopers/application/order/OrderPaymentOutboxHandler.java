@@ -0,0 +1,48 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.*;
+import com.loopers.domain.outbox.OutboxHandler;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문과 함께 outbox 에 기록된 결제 요청을 결제 수단으로 전달한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderPaymentOutboxHandler implements OutboxHandler<OrderCommand.RequestPayment> {
+    private final OrderPaymentSelector orderPaymentSelector;
+    private final OrderService orderService;
+
+    @Override
+    public Class<OrderCommand.RequestPayment> getEventType() {
+        return OrderCommand.RequestPayment.class;
+    }
+
+    /**
+     * 다시 시도해도 결과가 같은 업무 오류는 주문을 취소하고 전달을 마친다.
+     * PG 가 호출을 거절한 경우(SERVICE_UNAVAILABLE)를 포함해 그 외의 예외는 그대로 던져 outbox 가 backoff 후 다시 전달하게 한다.
+     */
+    @Override
+    public void handle(OrderCommand.RequestPayment command) {
+        log.info("결제 요청 전달 시작 - userId: {}, orderId: {}, totalPrice: {}, paymentType: {}",
+                command.userId(), command.orderId(), command.totalPrice(), command.paymentType());
+        try {
+            OrderEntity.PaymentType paymentType = OrderEntity.PaymentType.of(command.paymentType());
+            OrderPaymentWay paymentWay = orderPaymentSelector.get(paymentType);
+            paymentWay.request(command.userId(), command.orderId(), command.totalPrice());
+            log.info("결제 요청 완료 - orderId: {}, paymentWay: {}", command.orderId(), paymentWay.getClass().getSimpleName());
+        } catch (CoreException e) {
+            if (e.getErrorType() == ErrorType.SERVICE_UNAVAILABLE) {
+                log.warn("결제 요청 거절, 다시 전달합니다 - orderId: {}", command.orderId(), e);
+                throw e;
+            }
+            log.error("결제 요청 처리 실패, 주문을 취소합니다 - orderId: {}", command.orderId(), e);
+            orderService.cancel(new OrderCommand.Cancel(command.orderId()));
+        }
+    }
+}
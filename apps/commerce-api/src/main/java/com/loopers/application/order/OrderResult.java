@@ -1,7 +1,7 @@
 package com.loopers.application.order;
 
 import com.loopers.domain.order.OrderEntity;
-import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.order.OrderInfo;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 
@@ -24,6 +24,31 @@ public class OrderResult {
                 order.getState().name()
             );
         }
+
+        public static Summary from(OrderInfo.Summary order) {
+            return new Summary(
+                order.orderId(),
+                order.userId(),
+                order.orderedAt().toString(),
+                order.totalPrice(),
+                order.state().name()
+            );
+        }
+
+        public static List<Summary> of(List<OrderInfo.Summary> orders) {
+            return orders.stream()
+                .map(Summary::from)
+                .toList();
+        }
+    }
+
+    /**
+     * @param nextCursor 다음 페이지 요청에 전달할 마지막 주문 id, 마지막 페이지면 null
+     */
+    public record CursorPage(
+        List<Summary> items,
+        Long nextCursor
+    ) {
     }
 
     public record Detail(
@@ -35,32 +60,32 @@ public class OrderResult {
         List<Item> items,
         List<Coupon> coupons
     ) {
-        public static Detail from(OrderEntity order, List<ProductEntity> products) {
-            List<Item> itemInfos = order.getOrderItems().stream()
+        public static Detail from(OrderInfo.Detail order) {
+            List<Item> itemInfos = order.items().stream()
                 .map(item -> {
-                    ProductEntity product = products.stream()
-                        .filter(p -> p.getId().equals(item.getProductId()))
-                        .findFirst()
-                        .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다: " + item.getProductId()));
+                    if (item.productName() == null) {
+                        throw new CoreException(ErrorType.NOT_FOUND, "상품이 존재하지 않습니다: " + item.productId());
+                    }
                     return new Item(
-                        product.getId(),
-                        product.getName(),
-                        item.getQuantity(),
-                        item.getPrice()
+                        item.productId(),
+                        item.productName(),
+                        item.quantity(),
+                        item.price()
                     );
                 })
                 .toList();
 
-            List<Coupon> coupons = order.getOrderCoupons().stream()
-                .map(coupon -> new Coupon(coupon.getCouponId(), coupon.getValue()))
+            List<Coupon> coupons = order.coupons().stream()
+                .map(coupon -> new Coupon(coupon.couponId(), coupon.value()))
                 .toList();
 
+            OrderInfo.Summary summary = order.summary();
             return new Detail(
-                order.getId(),
-                order.getUserId(),
-                order.getCreatedAt().toString(),
-                order.getTotalPrice(),
-                order.getState().name(),
+                summary.orderId(),
+                summary.userId(),
+                summary.orderedAt().toString(),
+                summary.totalPrice(),
+                summary.state().name(),
                 itemInfos,
                 coupons
             );
@@ -0,0 +1,138 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxHandler;
+import com.loopers.domain.outbox.OutboxInfo;
+import com.loopers.domain.outbox.OutboxProperties;
+import com.loopers.domain.outbox.OutboxService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 메시지를 가져와 이벤트 종류별 {@link OutboxHandler} 로 전달한다.
+ * 전달은 가상 스레드에서 하되, 외부 시스템을 보호하도록 동시 전달 수를 제한한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+    private static final String DISPATCH_METRIC = "outbox.dispatch";
+
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OutboxHandler<?>> handlers;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxDispatcher(
+            OutboxService outboxService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            OutboxProperties properties,
+            List<OutboxHandler<?>> handlers
+    ) {
+        this.outboxService = outboxService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(handler -> handler.getEventType().getName(), Function.identity()));
+        this.permits = new Semaphore(properties.getConcurrency());
+        Gauge.builder("outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("outbox.failed", failed, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래 기다린 PENDING 메시지의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 묶음을 가져와 모두 전달하거나 재시도로 돌린 뒤 반환한다.
+     *
+     * @return 가져온 메시지 수
+     */
+    public int dispatch() {
+        List<OutboxInfo.Message> messages = outboxService.claim();
+        List<Future<?>> deliveries = new ArrayList<>(messages.size());
+        for (OutboxInfo.Message message : messages) {
+            deliveries.add(executor.submit(() -> deliver(message)));
+        }
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return messages.size();
+            } catch (ExecutionException e) {
+                log.error("outbox 전달 작업 실패", e.getCause());
+            }
+        }
+        return messages.size();
+    }
+
+    public void refreshLag() {
+        OutboxInfo.Lag lag = outboxService.findLag();
+        pending.set(lag.pending());
+        failed.set(lag.failed());
+        lagMillis.set(lag.oldestPendingAge().toMillis());
+    }
+
+    private void deliver(OutboxInfo.Message message) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result;
+        try {
+            handle(message);
+            outboxService.complete(message);
+            result = "success";
+        } catch (Exception e) {
+            log.warn("outbox 전달 실패 - id: {}, type: {}, attempts: {}",
+                    message.id(), message.eventType(), message.attempts(), e);
+            result = outboxService.retry(message, e.toString()) ? "retry" : "failed";
+        } finally {
+            permits.release();
+        }
+        sample.stop(meterRegistry.timer(DISPATCH_METRIC, "type", simpleName(message.eventType()), "result", result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void handle(OutboxInfo.Message message) throws Exception {
+        OutboxHandler<T> handler = (OutboxHandler<T>) handlers.get(message.eventType());
+        if (handler == null) {
+            throw new IllegalStateException("outbox 이벤트를 처리할 handler 가 없습니다: " + message.eventType());
+        }
+        handler.handle(objectMapper.readValue(message.payload(), handler.getEventType()));
+    }
+
+    private String simpleName(String eventType) {
+        return eventType.substring(eventType.lastIndexOf('.') + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
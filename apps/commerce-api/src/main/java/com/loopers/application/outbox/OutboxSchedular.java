@@ -0,0 +1,40 @@
+package com.loopers.application.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OutboxSchedular {
+    private static final int MAX_ROUNDS = 10;
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    /**
+     * 밀린 메시지가 있으면 다음 주기를 기다리지 않고 몇 묶음 더 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval}")
+    public void dispatch() {
+        try {
+            for (int round = 0; round < MAX_ROUNDS; round++) {
+                if (outboxDispatcher.dispatch() == 0) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("outbox 발송 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics-interval}")
+    public void refreshLag() {
+        try {
+            outboxDispatcher.refreshLag();
+        } catch (Exception e) {
+            log.warn("outbox 지연 지표 갱신 실패", e);
+        }
+    }
+}
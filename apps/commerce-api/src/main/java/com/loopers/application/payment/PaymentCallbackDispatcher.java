@@ -0,0 +1,151 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInfo;
+import com.loopers.domain.payment.PaymentCallbackProperties;
+import com.loopers.domain.payment.PaymentCallbackService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 수신 큐의 PG 콜백을 묶음으로 가져와 주문별로 모아 결제/주문에 반영한다.
+ * PG 주문 조회가 그 주문의 모든 거래를 돌려주므로, 같은 주문의 콜백은 가장 최근 것 하나로 한 번만 반영한다.
+ * 반영은 가상 스레드에서 하되, PG 조회를 보호하도록 동시에 처리하는 주문 수를 제한한다.
+ */
+@Slf4j
+@Component
+public class PaymentCallbackDispatcher {
+    private static final String PROCESS_METRIC = "payment.callback.process";
+
+    private final PaymentCallbackService paymentCallbackService;
+    private final PaymentFacade paymentFacade;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Timer completion;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public PaymentCallbackDispatcher(
+            PaymentCallbackService paymentCallbackService,
+            PaymentFacade paymentFacade,
+            MeterRegistry meterRegistry,
+            PaymentCallbackProperties properties
+    ) {
+        this.paymentCallbackService = paymentCallbackService;
+        this.paymentFacade = paymentFacade;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(properties.getConcurrency());
+        this.completion = Timer.builder("payment.callback.completion")
+                .description("콜백을 받은 뒤 주문 완료 처리까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("payment.callback.pending", pending, AtomicLong::get)
+                .description("처리를 기다리는 콜백 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.callback.failed", failed, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("payment.callback.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래 기다린 PENDING 콜백의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 묶음을 가져와 주문마다 반영하거나 재시도로 돌린 뒤 반환한다.
+     *
+     * @return 가져온 콜백 수
+     */
+    public int dispatch() {
+        List<PaymentCallbackInfo.Message> callbacks = paymentCallbackService.claim();
+        Map<String, List<PaymentCallbackInfo.Message>> byOrder = callbacks.stream()
+                .collect(Collectors.groupingBy(PaymentCallbackInfo.Message::orderKey, LinkedHashMap::new, Collectors.toList()));
+        List<Future<?>> tasks = new ArrayList<>(byOrder.size());
+        for (List<PaymentCallbackInfo.Message> orderCallbacks : byOrder.values()) {
+            tasks.add(executor.submit(() -> process(orderCallbacks)));
+        }
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return callbacks.size();
+            } catch (ExecutionException e) {
+                log.error("PG 콜백 처리 작업 실패", e.getCause());
+            }
+        }
+        return callbacks.size();
+    }
+
+    public void refreshLag() {
+        PaymentCallbackInfo.Lag lag = paymentCallbackService.findLag();
+        pending.set(lag.pending());
+        failed.set(lag.failed());
+        lagMillis.set(lag.oldestPendingAge().toMillis());
+    }
+
+    private void process(List<PaymentCallbackInfo.Message> orderCallbacks) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        PaymentCallbackInfo.Message latest = orderCallbacks.stream()
+                .max(Comparator.comparing(PaymentCallbackInfo.Message::id))
+                .orElseThrow();
+        long startedAt = System.nanoTime();
+        String result;
+        try {
+            paymentFacade.pay(PaymentCriteria.Transaction.from(latest));
+            paymentCallbackService.complete(orderCallbacks);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            orderCallbacks.forEach(callback -> completion.record(callback.waited().plus(elapsed)));
+            result = "success";
+        } catch (CoreException e) {
+            if (e.getErrorType() == ErrorType.SERVICE_UNAVAILABLE) {
+                result = retry(latest, orderCallbacks, e);
+            } else {
+                // 결제나 주문을 찾을 수 없는 콜백은 다시 시도해도 같으므로 FAILED 로 남기고, 결제는 PENDING 결제 재조회에 맡긴다.
+                log.warn("PG 콜백 처리 불가 - orderKey: {}, transactionKey: {}", latest.orderKey(), latest.transactionKey(), e);
+                paymentCallbackService.fail(orderCallbacks, e.toString());
+                result = "failed";
+            }
+        } catch (Exception e) {
+            result = retry(latest, orderCallbacks, e);
+        } finally {
+            permits.release();
+        }
+        meterRegistry.timer(PROCESS_METRIC, "result", result).record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private String retry(PaymentCallbackInfo.Message latest, List<PaymentCallbackInfo.Message> orderCallbacks, Exception e) {
+        log.warn("PG 콜백 처리 실패 - orderKey: {}, transactionKey: {}, attempts: {}",
+                latest.orderKey(), latest.transactionKey(), latest.attempts(), e);
+        return paymentCallbackService.retry(orderCallbacks, e.toString()) ? "retry" : "failed";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
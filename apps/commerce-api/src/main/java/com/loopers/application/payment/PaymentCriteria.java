@@ -1,6 +1,8 @@
 package com.loopers.application.payment;
 
 import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.payment.PaymentCallbackInfo;
+import com.loopers.domain.payment.PaymentCommand;
 
 public class PaymentCriteria {
     public record Point(
@@ -27,6 +29,22 @@ public class PaymentCriteria {
             String status,
             String reason
     ){
+        public static Transaction from(PaymentCallbackInfo.Message callback) {
+            return new Transaction(
+                    callback.transactionKey(),
+                    callback.orderKey(),
+                    callback.cardType(),
+                    callback.cardNo(),
+                    callback.amount(),
+                    callback.status(),
+                    callback.reason()
+            );
+        }
+
+        public PaymentCommand.Callback toCallback() {
+            return new PaymentCommand.Callback(transactionKey, orderKey, cardType, cardNo, amount, status, reason);
+        }
+
         public OrderCommand.Complete toCommand(Long userId, Long orderId, Long totalPrice) {
             return new OrderCommand.Complete(
                     userId,
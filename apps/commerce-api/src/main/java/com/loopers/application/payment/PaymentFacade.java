@@ -2,11 +2,12 @@ package com.loopers.application.payment;
 
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.order.*;
+import com.loopers.domain.payment.PaymentCallbackService;
 import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.domain.payment.PaymentEntity;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.point.PointService;
-import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductInventoryService;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -19,11 +20,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class PaymentFacade {
     private final UserService userService;
-    private final ProductService productService;
+    private final ProductInventoryService productInventoryService;
     private final OrderService orderService;
     private final CouponService couponService;
     private final PointService pointService;
     private final PaymentService paymentService;
+    private final PaymentCallbackService paymentCallbackService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
@@ -34,7 +36,7 @@ public class PaymentFacade {
         OrderEntity order = orderService.find(criteria.orderId()).orElseThrow(()-> new CoreException(
                 ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다: " + criteria.orderId()));
 
-        productService.deduct(order.getItemQuantityMap());
+        productInventoryService.commit(order.getId(), order.getItemQuantityMap());
         couponService.useCoupons(criteria.userId(), order.getCouponIds());
 
         OrderCommand.Complete command = criteria.toCommand(order.getTotalPrice());
@@ -45,14 +47,29 @@ public class PaymentFacade {
     }
 
     public PaymentResult.Summary pay(PaymentCriteria.Transaction criteria) {
+        PaymentEntity payment = findPayment(criteria);
+        PaymentCommand.Transaction paymentCommand = PaymentCommand.Transaction.of(criteria, payment);
+        paymentService.pay(paymentCommand);
+        return complete(criteria, payment);
+    }
+
+    /**
+     * PG 콜백을 수신 큐에 기록만 하고 바로 반환한다. 결제/주문 반영은 {@link PaymentCallbackDispatcher} 가 이어서 한다.
+     */
+    public PaymentResult.Callback receive(PaymentCriteria.Transaction criteria) {
+        boolean accepted = paymentCallbackService.enqueue(criteria.toCallback());
+        return new PaymentResult.Callback(criteria.transactionKey(), accepted);
+    }
+
+    private PaymentEntity findPayment(PaymentCriteria.Transaction criteria) {
         PaymentEntity payment = paymentService.findByOrderKey(criteria.orderKey()).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + criteria.orderKey()));
         userService.find(payment.getUserId()).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "User가 존재하지 않습니다: " + payment.getUserId()));
+        return payment;
+    }
 
-        PaymentCommand.Transaction paymentCommand = PaymentCommand.Transaction.of(criteria, payment);
-        paymentService.pay(paymentCommand);
-
+    private PaymentResult.Summary complete(PaymentCriteria.Transaction criteria, PaymentEntity payment) {
         OrderCommand.Complete command = criteria.toCommand(payment.getUserId(), payment.getOrderId(), payment.getAmount());
         eventPublisher.publishEvent(command);
         OrderEntity orderEntity = orderService.find(command.orderId()).orElseThrow(
@@ -20,4 +20,13 @@ public class PaymentResult {
             );
         }
     }
+
+    /**
+     * @param accepted 처음 받은 콜백이면 true, 이미 받은 transactionKey 면 false
+     */
+    public record Callback(
+            String transactionKey,
+            boolean accepted
+    ) {
+    }
 }
@@ -1,4 +1,76 @@
 package com.loopers.application.payment;
 
+import com.loopers.domain.payment.PaymentCallbackService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
 public class PaymentSchedular {
+    private static final int MAX_CALLBACK_ROUNDS = 10;
+
+    private final PaymentSweeper paymentSweeper;
+    private final PaymentCallbackDispatcher paymentCallbackDispatcher;
+    private final PaymentCallbackService paymentCallbackService;
+
+    @Scheduled(fixedDelayString = "${payment.sweep.interval}")
+    public void sweep() {
+        try {
+            int swept = paymentSweeper.sweep();
+            if (swept > 0) {
+                log.info("PENDING 결제 재조회 - swept: {}", swept);
+            }
+        } catch (Exception e) {
+            log.error("PENDING 결제 재조회 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payment.sweep.metrics-interval}")
+    public void refreshBacklog() {
+        try {
+            paymentSweeper.refreshBacklog();
+        } catch (Exception e) {
+            log.warn("PENDING 결제 적체 지표 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 밀린 콜백이 있으면 다음 주기를 기다리지 않고 몇 묶음 더 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${payment.callback.poll-interval}")
+    public void dispatchCallbacks() {
+        try {
+            for (int round = 0; round < MAX_CALLBACK_ROUNDS; round++) {
+                if (paymentCallbackDispatcher.dispatch() == 0) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("PG 콜백 처리 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payment.callback.metrics-interval}")
+    public void refreshCallbackLag() {
+        try {
+            paymentCallbackDispatcher.refreshLag();
+        } catch (Exception e) {
+            log.warn("PG 콜백 적체 지표 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payment.callback.purge-interval}")
+    public void purgeCallbacks() {
+        try {
+            int purged = paymentCallbackService.purge();
+            if (purged > 0) {
+                log.info("처리 완료 PG 콜백 정리 - purged: {}", purged);
+            }
+        } catch (Exception e) {
+            log.warn("처리 완료 PG 콜백 정리 실패", e);
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.payment.PaymentCommand;
+import com.loopers.domain.payment.PaymentEntity;
+import com.loopers.domain.payment.PaymentInfo;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentSweepProperties;
+import com.loopers.domain.payment.PaymentSweepShards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PG 콜백을 받지 못해 PENDING 으로 남은 결제를 PG 에 다시 조회해 주문을 완료하거나 취소한다.
+ * 이 노드가 소유한 shard 의 결제만 id 순으로 나눠 가져오고, PG 조회는 동시 조회 수를 제한해 비동기로 보낸다.
+ */
+@Slf4j
+@Component
+public class PaymentSweeper {
+    private static final String SWEEP_METRIC = "payment.sweep";
+    private static final String RESULT_METRIC = "payment.sweep.result";
+
+    private final PaymentService paymentService;
+    private final PaymentSweepShards paymentSweepShards;
+    private final PaymentSweepProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public PaymentSweeper(
+            PaymentService paymentService,
+            PaymentSweepShards paymentSweepShards,
+            PaymentSweepProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentService = paymentService;
+        this.paymentSweepShards = paymentSweepShards;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(properties.getConcurrency());
+        Gauge.builder("payment.sweep.backlog", backlog, AtomicLong::get)
+                .description("PG 재조회 대상인 PENDING 결제 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 소유한 shard 의 오래된 PENDING 결제를 모두 한 번씩 처리한다.
+     *
+     * @return 처리한 결제 수
+     */
+    public int sweep() {
+        List<Integer> shards = paymentSweepShards.own();
+        if (shards.isEmpty()) {
+            return 0;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime staleBefore = now.minus(properties.getStaleAfter());
+        ZonedDateTime abandonBefore = now.minus(properties.getAbandonAfter());
+        int swept = 0;
+        long cursor = 0L;
+        try {
+            while (true) {
+                List<PaymentEntity> payments = paymentService.findStalePending(
+                        shards, paymentSweepShards.getShardCount(), staleBefore, cursor, properties.getBatchSize());
+                if (payments.isEmpty()) {
+                    break;
+                }
+                List<CompletableFuture<Void>> reconciles = new ArrayList<>(payments.size());
+                for (PaymentEntity payment : payments) {
+                    reconciles.add(reconcile(payment, abandonBefore));
+                }
+                CompletableFuture.allOf(reconciles.toArray(CompletableFuture[]::new)).join();
+                swept += payments.size();
+                cursor = payments.getLast().getId();
+                if (payments.size() < properties.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            sample.stop(meterRegistry.timer(SWEEP_METRIC));
+        }
+        return swept;
+    }
+
+    public void refreshBacklog() {
+        backlog.set(paymentService.countStalePending(ZonedDateTime.now().minus(properties.getStaleAfter())));
+    }
+
+    private CompletableFuture<Void> reconcile(PaymentEntity payment, ZonedDateTime abandonBefore) throws InterruptedException {
+        permits.acquire();
+        CompletableFuture<Optional<PaymentInfo.Order>> found;
+        try {
+            found = Objects.requireNonNull(paymentService.findPgOrder(payment));
+        } catch (RuntimeException e) {
+            found = CompletableFuture.failedFuture(e);
+        }
+        return found
+                .thenApply(orderInfo -> apply(payment, orderInfo, abandonBefore))
+                .exceptionally(e -> {
+                    log.warn("결제 재조회 실패 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId(), e);
+                    return "error";
+                })
+                .thenAccept(result -> {
+                    permits.release();
+                    meterRegistry.counter(RESULT_METRIC, "result", result).increment();
+                });
+    }
+
+    private String apply(PaymentEntity payment, Optional<PaymentInfo.Order> orderInfo, ZonedDateTime abandonBefore) {
+        if (orderInfo.isEmpty()) {
+            if (payment.getCreatedAt().isAfter(abandonBefore)) {
+                return "pending";
+            }
+            paymentService.fail(payment.getId());
+            eventPublisher.publishEvent(new PaymentCommand.Cancel(payment.getOrderId()));
+            log.info("PG 거래 없이 방치된 결제 취소 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+            return "abandoned";
+        }
+        PaymentEntity reconciled = paymentService.reconcile(payment.getId(), orderInfo.get());
+        switch (reconciled.getState()) {
+            case SUCCESS -> {
+                eventPublisher.publishEvent(new OrderCommand.Complete(
+                        payment.getUserId(), payment.getOrderId(), payment.getAmount(), "PG"));
+                log.info("PENDING 결제 완료 처리 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+                return "completed";
+            }
+            case FAILED -> {
+                eventPublisher.publishEvent(new PaymentCommand.Cancel(payment.getOrderId()));
+                log.info("PENDING 결제 실패 처리 - paymentId: {}, orderId: {}", payment.getId(), payment.getOrderId());
+                return "canceled";
+            }
+            default -> {
+                return "pending";
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductCacheSchedular {
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    @Scheduled(fixedDelayString = "${product.cache.invalidation-interval}")
+    public void invalidate() {
+        try {
+            int invalidated = productCacheInvalidator.flush();
+            if (invalidated > 0) {
+                log.debug("상품 캐시 무효화 반영 - products: {}", invalidated);
+            }
+        } catch (Exception e) {
+            log.error("상품 캐시 무효화 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.like.LikeCommand;
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.product.ProductCacheInvalidator;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductInventoryService;
+import com.loopers.domain.product.ProductRankingService;
+import com.loopers.domain.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 커밋된 좋아요/상품 상태 변경을 랭킹 인덱스와 상품 캐시에 반영하고, 취소된 주문의 재고 예약을 되돌린다.
+ * 반영에 실패해도 요청은 성공으로 두고, 정합성 검사와 재구축으로 맞춘다.
+ * 캐시 무효화는 모아 두었다가 {@link ProductCacheSchedular} 가 주기적으로 한 번에 반영한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductEventHandler {
+    private final ProductRankingService productRankingService;
+    private final ProductInventoryService productInventoryService;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final ProductService productService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(LikeCommand.Counted command) {
+        if (command.targetType() != LikeEntity.TargetType.PRODUCT) {
+            return;
+        }
+        try {
+            productRankingService.increase(command.targetId(), command.delta());
+        } catch (Exception e) {
+            log.warn("상품 랭킹 좋아요 수 반영 실패 - productId: {}, delta: {}", command.targetId(), command.delta(), e);
+        }
+        try {
+            productService.increaseCachedLikeCount(command.targetId(), command.delta());
+        } catch (Exception e) {
+            log.warn("캐시된 좋아요 수 반영 실패 - productId: {}, delta: {}", command.targetId(), command.delta(), e);
+        }
+        productCacheInvalidator.liked(List.of(command.targetId()));
+    }
+
+    /**
+     * write-behind 모드에서는 like_summary 에 반영된 뒤에 다시 세대를 올려야 좋아요 순 목록이 새 순서로 다시 계산된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(LikeCommand.Applied command) {
+        productCacheInvalidator.liked(command.batch().deltas().stream()
+                .filter(delta -> delta.targetType() == LikeEntity.TargetType.PRODUCT)
+                .map(LikeCountBatch.Delta::targetId)
+                .toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCommand.Released command) {
+        try {
+            productRankingService.add(command);
+        } catch (Exception e) {
+            log.warn("상품 랭킹 추가 실패 - productId: {}", command.productId(), e);
+        }
+        productCacheInvalidator.listed(command.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCommand.SoldOut command) {
+        try {
+            productRankingService.remove(command);
+        } catch (Exception e) {
+            log.warn("상품 랭킹 제거 실패 - productId: {}", command.productId(), e);
+        }
+        productCacheInvalidator.listed(command.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCommand.Changed command) {
+        productCacheInvalidator.changed(command.productIds());
+    }
+
+    /**
+     * 취소된 주문의 재고 예약을 되돌린다. 실패하면 예약 만료 시 다시 정리된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(OrderCommand.Canceled command) {
+        try {
+            productInventoryService.release(command.orderId());
+        } catch (Exception e) {
+            log.warn("재고 예약 해제 실패 - orderId: {}", command.orderId(), e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.loopers.application.product;
 
-import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.like.LikeEntity;
 import com.loopers.domain.like.LikeService;
@@ -16,10 +15,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
 public class ProductFacade {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final ProductService productService;
     private final BrandService brandService;
@@ -37,34 +39,78 @@ public class ProductFacade {
 
     @Transactional(readOnly = true)
     public List<ProductResult.Summary> list(ProductStatement statement, Pageable pageable) {
+        return list(statement, pageable, null);
+    }
+
+    /**
+     * @param userId 좋아요 여부를 표시할 사용자, 비로그인이면 null
+     */
+    @Transactional(readOnly = true)
+    public List<ProductResult.Summary> list(ProductStatement statement, Pageable pageable, Long userId) {
 
         List<ProductInfo.ProductWithSignal> productWithSignals = productService.findWithSignals(statement, pageable);
 
-        List<Long> brandIds = productWithSignals.stream().map(ProductInfo.ProductWithSignal::getBrandId).distinct().toList();
-        List<BrandEntity> brands = brandService.find(brandIds);
+        Map<Long, String> brandNames = brandService.findNames(
+                productWithSignals.stream().map(ProductInfo.ProductWithSignal::getBrandId).distinct().toList());
+
+        return ProductResult.Summary.of(brandNames, likedIdsOf(userId, productWithSignals), productWithSignals);
+    }
 
-        return ProductResult.Summary.of(brands, productWithSignals);
+    @Transactional(readOnly = true)
+    public ProductResult.CursorPage list(ProductStatement statement, String cursor, int size) {
+        return list(statement, cursor, size, null);
+    }
+
+    /**
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param userId 좋아요 여부를 표시할 사용자, 비로그인이면 null
+     */
+    @Transactional(readOnly = true)
+    public ProductResult.CursorPage list(ProductStatement statement, String cursor, int size, Long userId) {
+        if (size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        ProductCursor decoded = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(statement.getOrderBy(), cursor);
+        List<ProductInfo.ProductWithSignal> productWithSignals = productService.findWithSignals(statement, decoded, size);
+
+        Map<Long, String> brandNames = brandService.findNames(
+                productWithSignals.stream().map(ProductInfo.ProductWithSignal::getBrandId).distinct().toList());
+
+        String nextCursor = productWithSignals.size() < size ? null
+                : ProductCursor.after(statement.getOrderBy(), productWithSignals.getLast()).encode(statement.getOrderBy());
+        return new ProductResult.CursorPage(
+                ProductResult.Summary.of(brandNames, likedIdsOf(userId, productWithSignals), productWithSignals), nextCursor);
     }
 
     @Transactional(readOnly = true)
     public ProductResult.Detail get(Long id) {
+        return get(id, null);
+    }
+
+    /**
+     * @param userId 좋아요 여부를 표시할 사용자, 비로그인이면 null
+     */
+    @Transactional(readOnly = true)
+    public ProductResult.Detail get(Long id, Long userId) {
         ProductInfo.ProductWithSignal productWithSignal = productService.findWithSignal(id).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "조회할 수 없는 상품입니다: " + id));
-        BrandEntity brand = brandService.find(productWithSignal.getBrandId()).orElseThrow(() -> new CoreException(
+        String brandName = brandService.findName(productWithSignal.getBrandId()).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "조회할 수 없는 브랜드입니다: " + productWithSignal.getBrandId()));
 
-        return ProductResult.Detail.of(brand, productWithSignal);
+        boolean liked = !likeService.findLikedTargetIds(userId, LikeEntity.TargetType.PRODUCT, List.of(id)).isEmpty();
+
+        return ProductResult.Detail.of(brandName, productWithSignal, liked);
     }
 
     @Transactional
     public ProductResult.Detail release(Long id) {
         ProductEntity releasedProduct = productService.release(id);
-        BrandEntity brand = brandService.find(releasedProduct.getBrandId()).orElseThrow(() -> new CoreException(
+        String brandName = brandService.findName(releasedProduct.getBrandId()).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "조회할 수 없는 브랜드입니다: " + releasedProduct.getBrandId()));
         LikeSummaryEntity likeSummary = likeService.findSummary(releasedProduct.getId(), LikeEntity.TargetType.PRODUCT)
                 .orElseGet(() -> LikeSummaryEntity.of(releasedProduct.getId(), LikeEntity.TargetType.PRODUCT));
 
-        return ProductResult.Detail.of(brand, releasedProduct, likeSummary);
+        return ProductResult.Detail.of(brandName, releasedProduct, likeSummary);
     }
 
     @Transactional(readOnly = true)
@@ -78,9 +124,14 @@ public class ProductFacade {
         var productIds = likeList.stream().map(LikeEntity::getTargetId).toList();
         List<ProductInfo.ProductWithSignal> productWithSignals = productService.findWithSignals(productIds);
 
-        var brandIds = productWithSignals.stream().map(ProductInfo.ProductWithSignal::getBrandId).distinct().toList();
-        List<BrandEntity> brandList = brandService.find(brandIds);
+        Map<Long, String> brandNames = brandService.findNames(
+                productWithSignals.stream().map(ProductInfo.ProductWithSignal::getBrandId).distinct().toList());
+
+        return ProductResult.Summary.of(brandNames, Set.copyOf(productIds), productWithSignals);
+    }
 
-        return ProductResult.Summary.of(brandList, productWithSignals);
+    private Set<Long> likedIdsOf(Long userId, List<ProductInfo.ProductWithSignal> productWithSignals) {
+        return likeService.findLikedTargetIds(userId, LikeEntity.TargetType.PRODUCT,
+                productWithSignals.stream().map(ProductInfo.ProductWithSignal::getId).toList());
     }
 }
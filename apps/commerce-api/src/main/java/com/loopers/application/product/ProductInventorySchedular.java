@@ -0,0 +1,63 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.product.ProductInventoryService;
+import com.loopers.domain.product.ProductStockReconciler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductInventorySchedular {
+    private static final int EXPIRE_BATCH_SIZE = 100;
+    private static final long FLUSH_RETENTION_DAYS = 7;
+
+    private final ProductInventoryService productInventoryService;
+    private final ProductStockReconciler productStockReconciler;
+    private final OrderService orderService;
+
+    /**
+     * 모드와 관계없이 실행한다. DATABASE 로 전환한 뒤에도 남은 차감분을 반영하기 위함이다.
+     */
+    @Scheduled(fixedDelayString = "${product.inventory.reconcile-interval}")
+    public void reconcile() {
+        int applied = productStockReconciler.reconcile();
+        if (applied > 0) {
+            log.debug("예약 재고 차감분 반영 - batches: {}", applied);
+        }
+    }
+
+    /**
+     * 만료된 예약 중 완료된 주문은 확정하고, 그 외에는 가용 재고로 되돌린다.
+     * 결제가 늦게 성공하면 주문 완료 시 다시 예약하므로, 그때 재고가 없으면 주문 완료가 실패한다.
+     */
+    @Scheduled(fixedDelayString = "${product.inventory.expire-interval}")
+    public void expire() {
+        for (Long orderId : productInventoryService.findExpired(EXPIRE_BATCH_SIZE)) {
+            try {
+                boolean completed = orderService.find(orderId)
+                        .map(order -> order.getState() == OrderEntity.State.COMPLETED)
+                        .orElse(false);
+                if (completed) {
+                    productInventoryService.confirm(orderId);
+                } else {
+                    productInventoryService.release(orderId);
+                }
+            } catch (Exception e) {
+                log.error("만료된 재고 예약 정리 실패 - orderId: {}", orderId, e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${product.inventory.purge-cron}")
+    public void purge() {
+        int deleted = productStockReconciler.purge(ZonedDateTime.now().minusDays(FLUSH_RETENTION_DAYS));
+        log.info("반영 완료된 재고 차감분 배치 기록 정리 - deleted: {}", deleted);
+    }
+}
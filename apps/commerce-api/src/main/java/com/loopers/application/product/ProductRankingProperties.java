@@ -0,0 +1,15 @@
+package com.loopers.application.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "product.ranking")
+public class ProductRankingProperties {
+    private final boolean rebuildOnStartup;
+    private final String rebuildCron;
+    private final String checkCron;
+    private final int checkSampleSize;
+}
@@ -0,0 +1,53 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductRankingSchedular {
+    private final ProductRankingService productRankingService;
+    private final ProductRankingProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.isRebuildOnStartup()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${product.ranking.rebuild-cron}")
+    public void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            long count = productRankingService.rebuild();
+            log.info("상품 랭킹 재구축 완료 - count: {}, elapsed: {}ms", count, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("상품 랭킹 재구축 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${product.ranking.check-cron}")
+    public void check() {
+        ProductInfo.RankingReport report;
+        try {
+            report = productRankingService.check(properties.getCheckSampleSize());
+        } catch (Exception e) {
+            log.error("상품 랭킹 정합성 검사 실패", e);
+            return;
+        }
+        if (report.isConsistent()) {
+            log.info("상품 랭킹 정합성 검사 통과 - {}", report);
+            return;
+        }
+        log.warn("상품 랭킹 불일치, 재구축합니다 - {}", report);
+        rebuild();
+    }
+}
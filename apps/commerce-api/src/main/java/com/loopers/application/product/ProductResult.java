@@ -1,7 +1,6 @@
 package com.loopers.application.product;
 
 
-import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.like.LikeSummaryEntity;
 import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductInfo;
@@ -18,7 +17,8 @@ public class ProductResult {
             Long stock,
             Long likeCount,
             String state,
-            String releasedAt
+            String releasedAt,
+            boolean liked
     ) {
         private static class SummaryBuilder {
             private Long id;
@@ -30,28 +30,29 @@ public class ProductResult {
             private Long likeCount;
             private String state;
             private String releasedAt;
+            private boolean liked;
         }
 
-        public static List<Summary> of(List<BrandEntity> brandList, List<ProductInfo.ProductWithSignal> productSignalList) {
+        /**
+         * @param brandNames 브랜드 id → 이름
+         * @param likedIds 조회한 사용자가 좋아요한 상품 id
+         */
+        public static List<Summary> of(Map<Long, String> brandNames, Set<Long> likedIds, List<ProductInfo.ProductWithSignal> productSignalList) {
             SequencedMap<Long, SummaryBuilder> sbList = new LinkedHashMap<>();
             for(ProductInfo.ProductWithSignal productSignal: productSignalList) {
                 SummaryBuilder sb = new SummaryBuilder();
                 sb.id = productSignal.getId();
                 sb.name = productSignal.getName();
                 sb.brandId = productSignal.getBrandId();
+                sb.brandName = brandNames.get(productSignal.getBrandId());
                 sb.price = productSignal.getPrice();
                 sb.stock = productSignal.getStock();
                 sb.likeCount = productSignal.getLikeCount();
                 sb.state = productSignal.getState().getValue().name();
                 sb.releasedAt = productSignal.getState().getReleasedAt() != null ? productSignal.getState().getReleasedAt().toString() : "";
+                sb.liked = likedIds.contains(productSignal.getId());
                 sbList.put(productSignal.getId(), sb);
             }
-            for(BrandEntity brand: brandList) {
-                SummaryBuilder sb = sbList.get(brand.getId());
-                if (sb != null) {
-                    sb.brandName = brand.getName();
-                }
-            }
             return sbList.values().stream()
                     .map(sb -> new Summary(
                             sb.id,
@@ -62,7 +63,8 @@ public class ProductResult {
                             sb.stock,
                             sb.likeCount,
                             sb.state,
-                            sb.releasedAt
+                            sb.releasedAt,
+                            sb.liked
                     )).toList();
         }
     }
@@ -76,34 +78,43 @@ public class ProductResult {
             Long stock,
             Long likeCount,
             String state,
-            String releasedAt
+            String releasedAt,
+            boolean liked
     ) {
-        public static Detail of(BrandEntity brand, ProductInfo.ProductWithSignal productWithSignal) {
+        public static Detail of(String brandName, ProductInfo.ProductWithSignal productWithSignal, boolean liked) {
             return new Detail(
                     productWithSignal.getId(),
                     productWithSignal.getName(),
                     productWithSignal.getBrandId(),
-                    brand.getName(),
+                    brandName,
                     productWithSignal.getPrice(),
                     productWithSignal.getStock(),
                     productWithSignal.getLikeCount(),
                     productWithSignal.getState().getValue().name(),
-                    productWithSignal.getState().getReleasedAt() != null ? productWithSignal.getState().getReleasedAt().toString() : ""
+                    productWithSignal.getState().getReleasedAt() != null ? productWithSignal.getState().getReleasedAt().toString() : "",
+                    liked
             );
         }
 
-        public static Detail of(BrandEntity brand, ProductEntity releasedProduct, LikeSummaryEntity likeSummary) {
+        public static Detail of(String brandName, ProductEntity releasedProduct, LikeSummaryEntity likeSummary) {
             return new Detail(
                     releasedProduct.getId(),
                     releasedProduct.getName(),
                     releasedProduct.getBrandId(),
-                    brand.getName(),
+                    brandName,
                     releasedProduct.getPrice(),
                     releasedProduct.getStock(),
                     likeSummary != null ? likeSummary.getLikeCount() : 0L,
                     releasedProduct.getState().getValue().name(),
-                    releasedProduct.getState().getReleasedAt() != null ? releasedProduct.getState().getReleasedAt().toString() : ""
+                    releasedProduct.getState().getReleasedAt() != null ? releasedProduct.getState().getReleasedAt().toString() : "",
+                    false
             );
         }
     }
+
+    public record CursorPage(
+            List<Summary> items,
+            String nextCursor
+    ) {
+    }
 }
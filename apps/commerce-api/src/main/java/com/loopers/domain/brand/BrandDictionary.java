@@ -0,0 +1,159 @@
+package com.loopers.domain.brand;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * brand 전체를 메모리에 올린 id → 이름 사전. 상품 목록/상세 응답마다 brand 를 조회하지 않도록 한다.
+ * 기동 시 전체를 읽고, 이후에는 updated_at 기준으로 바뀐 행만 다시 읽어 합친다.
+ * 사전에 없는 id 는 DB 에서 읽어 채우므로, 다른 노드에서 생성된 브랜드도 다음 갱신을 기다리지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class BrandDictionary {
+    /**
+     * 늦게 커밋된 행을 놓치지 않도록, 마지막으로 본 updated_at 보다 이만큼 앞에서부터 다시 읽는다.
+     */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final BrandRepository brandRepository;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private ZonedDateTime lastUpdatedAt;
+
+    /**
+     * @return 사전에 올라간 브랜드 수
+     */
+    public synchronized int load() {
+        List<BrandEntity> brands = brandRepository.findAll();
+        snapshot = Snapshot.EMPTY.merge(brands);
+        lastUpdatedAt = lastUpdatedAtOf(brands, null);
+        return snapshot.size();
+    }
+
+    /**
+     * @return 다시 읽은 행 수
+     */
+    public synchronized int refresh() {
+        if (lastUpdatedAt == null) {
+            load();
+            return snapshot.size();
+        }
+        List<BrandEntity> brands = brandRepository.findUpdatedSince(lastUpdatedAt.minus(REFRESH_OVERLAP));
+        snapshot = snapshot.merge(brands);
+        lastUpdatedAt = lastUpdatedAtOf(brands, lastUpdatedAt);
+        return brands.size();
+    }
+
+    public synchronized void put(BrandEntity brand) {
+        snapshot = snapshot.merge(List.of(brand));
+    }
+
+    public Optional<String> findName(Long brandId) {
+        String name = snapshot.get(brandId);
+        if (name != null) {
+            return Optional.of(name);
+        }
+        Optional<BrandEntity> brand = brandRepository.find(brandId);
+        brand.ifPresent(this::put);
+        return brand.map(BrandEntity::getName);
+    }
+
+    /**
+     * @return 존재하지 않는 브랜드는 결과에서 빠진다.
+     */
+    public Map<Long, String> findNames(Collection<Long> brandIds) {
+        Snapshot current = snapshot;
+        Map<Long, String> names = new HashMap<>(brandIds.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (Long brandId : brandIds) {
+            String name = current.get(brandId);
+            if (name != null) {
+                names.put(brandId, name);
+            } else if (brandId != null) {
+                missingIds.add(brandId);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            List<BrandEntity> brands = brandRepository.find(missingIds);
+            synchronized (this) {
+                snapshot = snapshot.merge(brands);
+            }
+            brands.forEach(brand -> names.put(brand.getId(), brand.getName()));
+        }
+        return names;
+    }
+
+    private static ZonedDateTime lastUpdatedAtOf(List<BrandEntity> brands, ZonedDateTime previous) {
+        ZonedDateTime last = previous;
+        for (BrandEntity brand : brands) {
+            if (brand.getUpdatedAt() != null && (last == null || brand.getUpdatedAt().isAfter(last))) {
+                last = brand.getUpdatedAt();
+            }
+        }
+        return last;
+    }
+
+    /**
+     * id 로 정렬한 long 배열과 이름 배열. 조회 시 박싱 없이 이진 탐색한다.
+     * 갱신은 새 스냅숏을 만들어 교체하므로 읽는 쪽은 잠그지 않는다.
+     */
+    static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0]);
+
+        private final long[] ids;
+        private final String[] names;
+
+        private Snapshot(long[] ids, String[] names) {
+            this.ids = ids;
+            this.names = names;
+        }
+
+        String get(Long id) {
+            if (id == null) {
+                return null;
+            }
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? null : names[index];
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * 삭제된 브랜드는 사전에서 뺀다.
+         */
+        Snapshot merge(List<BrandEntity> brands) {
+            if (brands.isEmpty()) {
+                return this;
+            }
+            Map<Long, String> merged = new HashMap<>((ids.length + brands.size()) * 2);
+            for (int i = 0; i < ids.length; i++) {
+                merged.put(ids[i], names[i]);
+            }
+            for (BrandEntity brand : brands) {
+                if (brand.getDeletedAt() != null) {
+                    merged.remove(brand.getId());
+                } else {
+                    merged.put(brand.getId(), brand.getName());
+                }
+            }
+            long[] mergedIds = merged.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            String[] mergedNames = new String[mergedIds.length];
+            for (int i = 0; i < mergedIds.length; i++) {
+                mergedNames[i] = merged.get(mergedIds[i]);
+            }
+            return new Snapshot(mergedIds, mergedNames);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.brand;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +10,11 @@ public interface BrandRepository {
     BrandEntity save(BrandEntity brand);
 
     List<BrandEntity> find(List<Long> ids);
+
+    List<BrandEntity> findAll();
+
+    /**
+     * 삭제된 행도 포함한다.
+     */
+    List<BrandEntity> findUpdatedSince(ZonedDateTime since);
 }
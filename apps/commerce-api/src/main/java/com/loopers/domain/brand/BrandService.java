@@ -3,8 +3,12 @@ package com.loopers.domain.brand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -12,6 +16,7 @@ import java.util.Optional;
 public class BrandService {
 
     private final BrandRepository brandRepository;
+    private final BrandDictionary brandDictionary;
 
     @Transactional(readOnly = true)
     public Optional<BrandEntity> find(Long brandId) {
@@ -21,11 +26,43 @@ public class BrandService {
     @Transactional
     public BrandEntity create(String brandName) {
         BrandEntity brand = BrandEntity.of(brandName);
-        return brandRepository.save(brand);
+        BrandEntity created = brandRepository.save(brand);
+        putAfterCommit(created);
+        return created;
     }
 
     @Transactional
     public List<BrandEntity> find(List<Long> ids) {
         return brandRepository.find(ids);
     }
+
+    /**
+     * 브랜드 사전에서 이름을 찾는다. 사전에 없을 때만 DB 를 조회한다.
+     */
+    public Optional<String> findName(Long brandId) {
+        return brandDictionary.findName(brandId);
+    }
+
+    /**
+     * 브랜드 사전에서 이름을 찾는다. 사전에 없는 id 만 한 번에 DB 에서 조회한다.
+     */
+    public Map<Long, String> findNames(Collection<Long> brandIds) {
+        return brandDictionary.findNames(brandIds);
+    }
+
+    /**
+     * 생성이 롤백되면 사전에도 올리지 않도록, 커밋된 뒤에 반영한다.
+     */
+    private void putAfterCommit(BrandEntity brand) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            brandDictionary.put(brand);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                brandDictionary.put(brand);
+            }
+        });
+    }
 }
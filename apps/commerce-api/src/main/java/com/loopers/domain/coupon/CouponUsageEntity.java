@@ -1,6 +1,6 @@
 package com.loopers.domain.coupon;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TimeSortedIdEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.*;
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "coupon_usage")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CouponUsageEntity extends BaseEntity {
+public class CouponUsageEntity extends TimeSortedIdEntity {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "coupon_id", nullable = false)
@@ -6,4 +6,19 @@ public class LikeCommand {
         Long targetId
     ) {
     }
+
+    public record Counted(
+        Long targetId,
+        LikeEntity.TargetType targetType,
+        long delta
+    ) {
+    }
+
+    /**
+     * write-behind 모드에서 누적된 좋아요 수가 like_summary 에 반영됨
+     */
+    public record Applied(
+        LikeCountBatch batch
+    ) {
+    }
 }
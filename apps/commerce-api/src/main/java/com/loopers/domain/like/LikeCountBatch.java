@@ -0,0 +1,31 @@
+package com.loopers.domain.like;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 버퍼에서 꺼낸 좋아요 수 변경분 묶음. token 단위로 한 번만 반영된다.
+ */
+public record LikeCountBatch(
+        String token,
+        List<Delta> deltas
+) {
+    public LikeCountBatch {
+        // 배치끼리 같은 행을 다른 순서로 잠그지 않도록 정렬해 둔다.
+        deltas = deltas.stream()
+                .filter(delta -> delta.delta() != 0)
+                .sorted(Comparator.comparing(Delta::targetType).thenComparing(Delta::targetId))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    public record Delta(
+            Long targetId,
+            LikeEntity.TargetType targetType,
+            long delta
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.like;
+
+import java.util.List;
+
+public interface LikeCountBuffer {
+    /**
+     * 호출한 트랜잭션에 함께 기록한다. 좋아요가 커밋되면 변경분도 남는다.
+     */
+    void add(Long targetId, LikeEntity.TargetType targetType, long delta);
+
+    /**
+     * 누적된 변경분을 새 배치로 떼어내 반환한다. 다른 노드가 반영 중인 배치는 반환하지 않는다.
+     * 떼어낸 지 오래도록 확인(acknowledge)되지 않은 배치는 중단된 것으로 보고 함께 반환하므로, 반영은 token 기준으로 멱등해야 한다.
+     */
+    List<LikeCountBatch> drain();
+
+    void acknowledge(String token);
+}
@@ -0,0 +1,40 @@
+package com.loopers.domain.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeCountFlusher {
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeService likeService;
+
+    /**
+     * 버퍼의 변경분을 like_summary 에 반영한다.
+     * 반영에 실패한 배치는 확인하지 않고 남겨 두어 다음 실행에서 다시 시도한다.
+     *
+     * @return 이번 실행에서 반영한 배치 수
+     */
+    public int flush() {
+        int applied = 0;
+        for (LikeCountBatch batch : likeCountBuffer.drain()) {
+            try {
+                if (!batch.isEmpty() && likeService.applyCountBatch(batch)) {
+                    applied++;
+                }
+                likeCountBuffer.acknowledge(batch.token());
+            } catch (Exception e) {
+                log.error("좋아요 수 반영 실패 - token: {}, size: {}", batch.token(), batch.deltas().size(), e);
+            }
+        }
+        return applied;
+    }
+
+    public int purge(ZonedDateTime before) {
+        return likeService.purgeCountBatches(before);
+    }
+}
@@ -1,24 +1,34 @@
 package com.loopers.domain.like;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class LikeCounter {
     private final LikeRepository likeRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeCounterProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void increaseLikeCount(Long targetId, LikeEntity.TargetType targetType) {
-        LikeSummaryEntity summary = likeRepository.findSummaryWithLock(targetId, targetType)
-                .orElseGet(() -> LikeSummaryEntity.of(targetId, targetType));
-        summary.increaseCount();
-        likeRepository.save(summary);
+        if (properties.getMode() == LikeCounterProperties.Mode.WRITE_BEHIND) {
+            likeCountBuffer.add(targetId, targetType, 1L);
+            eventPublisher.publishEvent(new LikeCommand.Counted(targetId, targetType, 1L));
+            return;
+        }
+        likeRepository.addCount(targetId, targetType, 1L);
+        eventPublisher.publishEvent(new LikeCommand.Counted(targetId, targetType, 1L));
     }
 
     public void decreaseLikeCount(Long targetId, LikeEntity.TargetType targetType) {
-        LikeSummaryEntity summary = likeRepository.findSummaryWithLock(targetId, targetType)
-                .orElseThrow(() -> new IllegalArgumentException("좋아요 요약 정보를 찾을 수 없습니다."));
-        summary.decreaseCount();
-        likeRepository.save(summary);
+        if (properties.getMode() == LikeCounterProperties.Mode.WRITE_BEHIND) {
+            likeCountBuffer.add(targetId, targetType, -1L);
+            eventPublisher.publishEvent(new LikeCommand.Counted(targetId, targetType, -1L));
+            return;
+        }
+        likeRepository.addCount(targetId, targetType, -1L);
+        eventPublisher.publishEvent(new LikeCommand.Counted(targetId, targetType, -1L));
     }
-} 
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.like;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "like.counter")
+public class LikeCounterProperties {
+    private final Mode mode;
+
+    public enum Mode {
+        /**
+         * like_summary 행을 upsert 한 문장으로 바로 갱신한다. 행 락은 그 문장이 속한 트랜잭션이 끝날 때까지 유지된다.
+         */
+        LOCKING,
+        /**
+         * 변경분을 좋아요와 같은 트랜잭션에서 like_count_delta 에 추가하고, 주기적으로 like_summary 에 일괄 반영한다.
+         */
+        WRITE_BEHIND
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.like;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,11 +9,40 @@ public interface LikeRepository {
 
     LikeEntity delete(LikeEntity like);
 
+    /**
+     * 존재 여부를 먼저 조회하지 않고 한 문장으로 추가한다.
+     *
+     * @return 새로 추가했으면 true, 이미 있었으면 false
+     */
+    boolean insertIfAbsent(LikeEntity like);
+
+    /**
+     * @return 삭제했으면 true, 없었으면 false
+     */
+    boolean deleteIfPresent(LikeEntity like);
+
     List<LikeEntity> findList(LikeStatement criteria);
 
+    /**
+     * 사용자가 좋아요한 대상 id 를 복제 지연 없이 main 에서 읽는다. 캐시를 채울 때 쓴다.
+     */
+    List<Long> findTargetIdsOnPrimary(Long userId, LikeEntity.TargetType targetType);
+
     LikeSummaryEntity save(LikeSummaryEntity summary);
 
     Optional<LikeSummaryEntity> findSummary(Long targetId, LikeEntity.TargetType targetType);
 
-    Optional<LikeSummaryEntity> findSummaryWithLock(Long targetId, LikeEntity.TargetType targetType);
+    /**
+     * like_summary 에 변경분을 한 문장으로 더한다. 행이 없으면 만들고, 0 아래로는 내려가지 않는다.
+     */
+    void addCount(Long targetId, LikeEntity.TargetType targetType, long delta);
+
+    /**
+     * 배치 token 을 기록하고 변경분을 like_summary 에 더한다. 같은 token 은 한 번만 반영된다.
+     *
+     * @return 이미 반영된 token 이면 false
+     */
+    boolean applyCountBatch(LikeCountBatch batch);
+
+    int deleteCountBatches(ZonedDateTime appliedBefore);
 }
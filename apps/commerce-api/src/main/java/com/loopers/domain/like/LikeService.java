@@ -1,48 +1,48 @@
 package com.loopers.domain.like;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.ZonedDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Component
 public class LikeService {
     private final LikeRepository likeRepository;
     private final LikeCounter likeCounter;
+    private final LikedTargetSet likedTargetSet;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 이미 좋아요한 상태면 추가된 행이 없으므로, 존재 여부를 따로 조회하지 않고 반영된 행 수로 카운터 증가를 결정한다.
+     */
     @Transactional
     public LikeEntity register(LikeCommand.Product command) {
-        var criteria = LikeStatement.builder()
-                .userId(command.userId())
-                .likeTypeAndTargetId(LikeEntity.TargetType.PRODUCT, command.targetId())
-                .build();
-        var existingLikes = likeRepository.findList(criteria);
-        if(existingLikes.isEmpty()) {
+        LikeEntity like = LikeEntity.from(command);
+        if (likeRepository.insertIfAbsent(like)) {
             likeCounter.increaseLikeCount(command.targetId(), LikeEntity.TargetType.PRODUCT);
+            afterCommit(() -> likedTargetSet.add(command.userId(), LikeEntity.TargetType.PRODUCT, command.targetId()));
         }
-
-        LikeEntity like = LikeEntity.from(command);
-        return likeRepository.save(like);
+        return like;
     }
 
     @Transactional
     public LikeEntity remove(LikeCommand.Product command) {
-        var criteria = LikeStatement.builder()
-                .userId(command.userId())
-                .likeTypeAndTargetId(LikeEntity.TargetType.PRODUCT, command.targetId())
-                .build();
-        var existingLikes = likeRepository.findList(criteria);
-        
-        // 실제로 좋아요가 존재할 때만 카운트를 감소시킴
-        if(!existingLikes.isEmpty()) {
+        LikeEntity like = LikeEntity.from(command);
+        // 실제로 좋아요가 삭제되었을 때만 카운트를 감소시킴
+        if (likeRepository.deleteIfPresent(like)) {
             likeCounter.decreaseLikeCount(command.targetId(), LikeEntity.TargetType.PRODUCT);
+            afterCommit(() -> likedTargetSet.remove(command.userId(), LikeEntity.TargetType.PRODUCT, command.targetId()));
         }
-
-        LikeEntity like = LikeEntity.from(command);
-        return likeRepository.delete(like);
+        return like;
     }
 
     @Transactional(readOnly = true)
@@ -50,9 +50,62 @@ public class LikeService {
         return likeRepository.findList(criteria);
     }
 
+    /**
+     * 사용자별 집합이 채워져 있으면 Redis 왕복 한 번으로 끝나고, 없으면 main 의 likes 테이블에서 한 번 채운다.
+     * 읽는 동안 좋아요/취소가 반영되면 채우지 않고, 이번 응답만 읽은 목록으로 만든다.
+     *
+     * @param userId 비로그인이면 null
+     * @return targetIds 중 좋아요한 id
+     */
+    public Set<Long> findLikedTargetIds(Long userId, LikeEntity.TargetType targetType, List<Long> targetIds) {
+        if (userId == null || targetIds.isEmpty()) {
+            return Set.of();
+        }
+        return likedTargetSet.findLiked(userId, targetType, targetIds).orElseGet(() -> {
+            long version = likedTargetSet.version(userId, targetType);
+            List<Long> likedIds = likeRepository.findTargetIdsOnPrimary(userId, targetType);
+            likedTargetSet.hydrate(userId, targetType, version, likedIds);
+            Set<Long> liked = new HashSet<>(likedIds);
+            liked.retainAll(targetIds);
+            return liked;
+        });
+    }
+
     @Transactional(readOnly = true)
     public Optional<LikeSummaryEntity> findSummary(Long targetId, LikeEntity.TargetType targetType) {
         return likeRepository.findSummary(targetId, targetType);
     }
 
+    /**
+     * @return 이미 반영된 배치이면 false
+     */
+    @Transactional
+    public boolean applyCountBatch(LikeCountBatch batch) {
+        boolean applied = likeRepository.applyCountBatch(batch);
+        if (applied) {
+            eventPublisher.publishEvent(new LikeCommand.Applied(batch));
+        }
+        return applied;
+    }
+
+    @Transactional
+    public int purgeCountBatches(ZonedDateTime before) {
+        return likeRepository.deleteCountBatches(before);
+    }
+
+    /**
+     * 롤백된 변경이 집합에 남지 않도록 커밋된 뒤에 반영한다.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,36 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별로 좋아요한 대상 id 집합을 보관한다. likes 테이블의 사본이며, 없으면 조회 시점에 채운다.
+ */
+public interface LikedTargetSet {
+    /**
+     * @return 주어진 id 중 좋아요한 id, 사용자의 집합이 아직 채워지지 않았으면 empty
+     */
+    Optional<Set<Long>> findLiked(Long userId, LikeEntity.TargetType targetType, Collection<Long> targetIds);
+
+    /**
+     * likes 테이블을 읽기 전에 호출해, 읽는 동안 커밋된 변경이 있었는지 {@link #hydrate} 에서 확인할 수 있게 한다.
+     */
+    long version(Long userId, LikeEntity.TargetType targetType);
+
+    /**
+     * 집합을 likedIds 로 바꾼다. version 을 읽은 뒤 변경이 반영되었으면 likedIds 가 그 변경을 놓쳤을 수 있으므로 채우지 않는다.
+     *
+     * @return 채웠으면 true
+     */
+    boolean hydrate(Long userId, LikeEntity.TargetType targetType, long version, List<Long> likedIds);
+
+    /**
+     * 이미 채워진 집합에만 반영한다. 채워지지 않은 집합은 다음 조회 때 likes 테이블에서 읽는다.
+     * 집합이 없어도 버전은 올려, 진행 중인 채우기가 이 변경을 놓친 목록을 기록하지 않게 한다.
+     */
+    void add(Long userId, LikeEntity.TargetType targetType, Long targetId);
+
+    void remove(Long userId, LikeEntity.TargetType targetType, Long targetId);
+}
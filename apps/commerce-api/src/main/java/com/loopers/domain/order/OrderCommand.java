@@ -56,4 +56,9 @@ public class OrderCommand {
         Long orderId
     ) {
     }
+
+    public record Canceled(
+        Long orderId
+    ) {
+    }
 }
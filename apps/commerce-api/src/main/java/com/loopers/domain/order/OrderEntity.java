@@ -17,7 +17,9 @@ import java.util.stream.Collectors;
 @Slf4j
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_user_id_id", columnList = "userId, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderEntity extends BaseEntity {
     private Long userId;
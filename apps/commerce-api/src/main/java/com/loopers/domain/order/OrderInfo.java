@@ -1,5 +1,8 @@
 package com.loopers.domain.order;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+
 public class OrderInfo {
 
     public record Pay(
@@ -10,4 +13,47 @@ public class OrderInfo {
             OrderEntity.State state
     ){
     }
+
+    /**
+     * 주문 항목과 쿠폰을 읽지 않고, 합계만 SQL 로 계산해 가져온 주문 요약
+     */
+    public record Summary(
+            Long orderId,
+            Long userId,
+            ZonedDateTime orderedAt,
+            OrderEntity.State state,
+            Long itemsPrice,
+            Long couponDiscount
+    ) {
+        /**
+         * {@link OrderEntity#getTotalPrice()} 와 같은 규칙으로 계산한다.
+         */
+        public long totalPrice() {
+            return itemsPrice > couponDiscount ? itemsPrice - couponDiscount : 0;
+        }
+    }
+
+    /**
+     * @param productName 상품이 없으면 null
+     */
+    public record Item(
+            Long productId,
+            String productName,
+            Long quantity,
+            Long price
+    ) {
+    }
+
+    public record Coupon(
+            Long couponId,
+            Long value
+    ) {
+    }
+
+    public record Detail(
+            Summary summary,
+            List<Item> items,
+            List<Coupon> coupons
+    ) {
+    }
 }
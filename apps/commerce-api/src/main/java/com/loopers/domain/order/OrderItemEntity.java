@@ -1,6 +1,6 @@
 package com.loopers.domain.order;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TimeSortedIdEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.*;
@@ -13,7 +13,7 @@ import java.util.List;
 @Entity
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @Table(name = "order_item")
-public class OrderItemEntity extends BaseEntity {
+public class OrderItemEntity extends TimeSortedIdEntity {
     @ManyToOne
     @JoinColumn(name = "order_id")
     private OrderEntity order;
@@ -11,4 +11,20 @@ public interface OrderRepository {
     Optional<OrderEntity> find(Long id);
 
     List<OrderEntity> find(OrderStatement orderStatement);
+
+    /**
+     * id 내림차순으로 cursor 보다 작은 주문을 size 만큼 조회한다.
+     *
+     * @param cursor 이전 페이지의 마지막 주문 id, 첫 페이지는 null
+     */
+    List<OrderInfo.Summary> findSummaries(Long userId, Long cursor, int size);
+
+    Optional<OrderInfo.Summary> findSummary(Long id);
+
+    /**
+     * 주문 항목을 상품 이름과 함께 한 번에 조회한다.
+     */
+    List<OrderInfo.Item> findItems(Long orderId);
+
+    List<OrderInfo.Coupon> findCoupons(Long orderId);
 }
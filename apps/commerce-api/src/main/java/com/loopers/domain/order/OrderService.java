@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import com.loopers.domain.outbox.OutboxService;
 import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -20,12 +21,14 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     @Transactional
     public OrderEntity register(OrderCommand.Order orderCommand) {
         OrderEntity order = OrderEntity.from(orderCommand);
         var result = orderRepository.save(order);
-        eventPublisher.publishEvent(new OrderCommand.RequestPayment(
+        // 커밋과 함께 기록해 두고, 결제 요청은 outbox 발송기가 요청 스레드 밖에서 전달한다.
+        outboxService.append(new OrderCommand.RequestPayment(
                 orderCommand.userId(),
                 result.getId(),
                 order.getTotalPrice(),
@@ -44,6 +47,26 @@ public class OrderService {
         return orderRepository.find(orderStatement);
     }
 
+    /**
+     * @param cursor 이전 페이지의 마지막 주문 id, 첫 페이지는 null
+     */
+    @Transactional(readOnly = true)
+    public List<OrderInfo.Summary> findSummaries(Long userId, Long cursor, int size) {
+        return orderRepository.findSummaries(userId, cursor, size);
+    }
+
+    /**
+     * 주문 엔티티를 읽지 않고 요약, 상품 이름이 붙은 항목, 쿠폰을 각각 한 번씩 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderInfo.Detail> findDetail(Long id) {
+        return orderRepository.findSummary(id).map(summary -> new OrderInfo.Detail(
+                summary,
+                orderRepository.findItems(id),
+                orderRepository.findCoupons(id)
+        ));
+    }
+
     @Transactional
     public OrderEntity complete(OrderCommand.Complete command) {
         OrderEntity order = orderRepository.find(command.orderId()).orElseThrow(() -> new CoreException(
@@ -66,6 +89,8 @@ public class OrderService {
         order.cancel();
         log.info("주문 취소 상태 변경 완료 - orderId: {}, 변경된 상태: {}", order.getId(), order.getState());
 
-        return orderRepository.save(order);
+        OrderEntity canceled = orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderCommand.Canceled(canceled.getId()));
+        return canceled;
     }
 }
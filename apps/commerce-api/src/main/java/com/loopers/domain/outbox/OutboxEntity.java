@@ -0,0 +1,56 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 도메인 트랜잭션과 함께 기록되어, 커밋된 뒤 발송기가 비동기로 전달하는 이벤트.
+ * 전달을 마치면 삭제하고, 최대 시도 횟수를 넘기면 FAILED 로 남겨 둔다.
+ */
+@Getter
+@Entity
+@Table(name = "outbox", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt_at", columnList = "status, nextAttemptAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEntity extends BaseEntity {
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public OutboxEntity(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = ZonedDateTime.now();
+    }
+
+    public enum Status {
+        PENDING,
+        /**
+         * 최대 시도 횟수를 넘겨 더 이상 발송하지 않음
+         */
+        FAILED
+    }
+}
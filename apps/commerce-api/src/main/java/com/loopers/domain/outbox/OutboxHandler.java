@@ -0,0 +1,11 @@
+package com.loopers.domain.outbox;
+
+/**
+ * outbox 에 기록된 이벤트를 실제로 전달한다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 멱등해야 하고, 예외를 던지면 backoff 후 다시 시도된다.
+ */
+public interface OutboxHandler<T> {
+    Class<T> getEventType();
+
+    void handle(T event);
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain.outbox;
+
+import java.time.Duration;
+
+public class OutboxInfo {
+    public record Message(
+            Long id,
+            String eventType,
+            String payload,
+            int attempts
+    ) {
+    }
+
+    public record Lag(
+            long pending,
+            long failed,
+            Duration oldestPendingAge
+    ) {
+    }
+}
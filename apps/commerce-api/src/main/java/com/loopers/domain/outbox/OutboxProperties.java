@@ -0,0 +1,28 @@
+package com.loopers.domain.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "outbox")
+public class OutboxProperties {
+    /**
+     * 한 번에 가져오는 메시지 수
+     */
+    private final int batchSize;
+    /**
+     * 동시에 전달하는 메시지 수
+     */
+    private final int concurrency;
+    private final int maxAttempts;
+    /**
+     * 가져간 메시지를 다른 노드가 다시 가져가지 않도록 미뤄 두는 시간. 전달 제한 시간보다 길어야 한다.
+     */
+    private final Duration leaseTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+}
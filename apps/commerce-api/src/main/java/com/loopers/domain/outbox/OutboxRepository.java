@@ -0,0 +1,22 @@
+package com.loopers.domain.outbox;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface OutboxRepository {
+    OutboxEntity save(OutboxEntity outbox);
+
+    /**
+     * 발송할 때가 된 메시지를 다른 노드와 겹치지 않게 잠가 가져오고, lease 만큼 다음 시도 시각을 미룬다.
+     * 가져간 메시지의 시도 횟수는 1 증가한다.
+     */
+    List<OutboxInfo.Message> claim(int size, Duration lease);
+
+    void delete(Long id);
+
+    void retry(Long id, Duration backoff, String error);
+
+    void fail(Long id, String error);
+
+    OutboxInfo.Lag findLag();
+}
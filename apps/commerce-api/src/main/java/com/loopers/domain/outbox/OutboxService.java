@@ -0,0 +1,69 @@
+package com.loopers.domain.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxService {
+    private final OutboxRepository outboxRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 호출한 도메인 트랜잭션 안에서 이벤트를 기록한다. 트랜잭션이 롤백되면 이벤트도 남지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEntity append(Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "outbox 이벤트 직렬화 실패: " + e.getMessage());
+        }
+        return outboxRepository.save(new OutboxEntity(event.getClass().getName(), payload));
+    }
+
+    @Transactional
+    public List<OutboxInfo.Message> claim() {
+        return outboxRepository.claim(properties.getBatchSize(), properties.getLeaseTimeout());
+    }
+
+    @Transactional
+    public void complete(OutboxInfo.Message message) {
+        outboxRepository.delete(message.id());
+    }
+
+    /**
+     * 시도 횟수에 따라 지수적으로 늘어나는 backoff 후 다시 시도한다. 최대 시도 횟수를 넘기면 FAILED 로 남긴다.
+     *
+     * @return 다시 시도할 예정이면 true
+     */
+    @Transactional
+    public boolean retry(OutboxInfo.Message message, String error) {
+        if (message.attempts() >= properties.getMaxAttempts()) {
+            outboxRepository.fail(message.id(), error);
+            return false;
+        }
+        outboxRepository.retry(message.id(), backoff(message.attempts()), error);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxInfo.Lag findLag() {
+        return outboxRepository.findLag();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+}
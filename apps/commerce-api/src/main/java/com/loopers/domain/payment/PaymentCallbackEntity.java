@@ -0,0 +1,73 @@
+package com.loopers.domain.payment;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 결제/주문 반영을 기다리는 PG 콜백 수신 큐.
+ * 같은 transactionKey 는 한 번만 기록되고, 반영을 마친 행은 보관 기간 동안 COMPLETED 로 남겨 재전송을 걸러 낸다.
+ * 행은 {@link PaymentCallbackRepository#enqueue} 가 한 문장으로 기록한다.
+ */
+@Getter
+@Entity
+@Table(name = "payment_callback", indexes = {
+        @Index(name = "uk_payment_callback_transaction_key", columnList = "transactionKey", unique = true),
+        @Index(name = "idx_payment_callback_status_next_attempt_at", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_payment_callback_status_updated_at", columnList = "status, updatedAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCallbackEntity extends BaseEntity {
+    @Column(nullable = false, length = 100)
+    private String transactionKey;
+
+    @Column(nullable = false, length = 64)
+    private String orderKey;
+
+    @Column(length = 50)
+    private String cardType;
+
+    @Column(length = 50)
+    private String cardNo;
+
+    @Column(length = 30)
+    private String amount;
+
+    /**
+     * PG 가 알려 준 거래 상태
+     */
+    @Column(length = 20)
+    private String transactionStatus;
+
+    @Column(length = 500)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public enum Status {
+        PENDING,
+        /**
+         * 결제/주문 반영을 마침. 재전송된 콜백을 걸러 내도록 보관 기간 동안 남겨 둔다.
+         */
+        COMPLETED,
+        /**
+         * 처리할 수 없는 콜백이거나 최대 시도 횟수를 넘김. 결제는 PENDING 결제 재조회가 마무리한다.
+         */
+        FAILED
+    }
+}
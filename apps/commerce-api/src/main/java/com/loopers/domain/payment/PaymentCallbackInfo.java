@@ -0,0 +1,29 @@
+package com.loopers.domain.payment;
+
+import java.time.Duration;
+
+public class PaymentCallbackInfo {
+    /**
+     * @param waited 콜백을 받은 뒤 가져갈 때까지 기다린 시간
+     */
+    public record Message(
+            Long id,
+            String transactionKey,
+            String orderKey,
+            String cardType,
+            String cardNo,
+            String amount,
+            String status,
+            String reason,
+            int attempts,
+            Duration waited
+    ) {
+    }
+
+    public record Lag(
+            long pending,
+            long failed,
+            Duration oldestPendingAge
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.domain.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "payment.callback")
+public class PaymentCallbackProperties {
+    /**
+     * 한 번에 가져오는 콜백 수
+     */
+    private final int batchSize;
+    /**
+     * 동시에 처리하는 주문 수
+     */
+    private final int concurrency;
+    private final int maxAttempts;
+    /**
+     * 가져간 콜백을 다른 노드가 다시 가져가지 않도록 미뤄 두는 시간. PG 조회 제한 시간보다 길어야 한다.
+     */
+    private final Duration leaseTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    /**
+     * 처리를 마친 콜백을 남겨 두는 기간. 이 기간 안에 재전송된 콜백은 다시 처리하지 않는다.
+     */
+    private final Duration retention;
+}
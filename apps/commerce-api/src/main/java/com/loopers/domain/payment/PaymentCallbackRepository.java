@@ -0,0 +1,34 @@
+package com.loopers.domain.payment;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface PaymentCallbackRepository {
+    /**
+     * 이미 받은 transactionKey 면 기록하지 않는다.
+     *
+     * @return 새로 기록했으면 true
+     */
+    boolean enqueue(PaymentCommand.Callback callback);
+
+    /**
+     * 처리할 때가 된 콜백을 다른 노드와 겹치지 않게 잠가 가져오고, lease 만큼 다음 시도 시각을 미룬다.
+     * 가져간 콜백의 시도 횟수는 1 증가한다.
+     */
+    List<PaymentCallbackInfo.Message> claim(int size, Duration lease);
+
+    void complete(List<Long> ids);
+
+    void retry(List<Long> ids, Duration backoff, String error);
+
+    void fail(List<Long> ids, String error);
+
+    /**
+     * 보관 기간이 지난 COMPLETED 콜백을 지운다.
+     *
+     * @return 지운 행 수
+     */
+    int purge(Duration retention, int size);
+
+    PaymentCallbackInfo.Lag findLag();
+}
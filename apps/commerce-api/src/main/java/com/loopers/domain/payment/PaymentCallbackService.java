@@ -0,0 +1,89 @@
+package com.loopers.domain.payment;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class PaymentCallbackService {
+    private static final int PURGE_SIZE = 1_000;
+
+    private final PaymentCallbackRepository paymentCallbackRepository;
+    private final PaymentCallbackProperties properties;
+
+    /**
+     * 콜백 요청 스레드에서 호출한다. 트랜잭션 없이 한 문장으로 기록하고 바로 반환한다.
+     *
+     * @return 처음 받은 콜백이면 true, 이미 받은 transactionKey 면 false
+     */
+    public boolean enqueue(PaymentCommand.Callback callback) {
+        if (callback.transactionKey() == null || callback.transactionKey().isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "transactionKey 가 없는 콜백입니다.");
+        }
+        if (callback.orderKey() == null || callback.orderKey().isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "orderId 가 없는 콜백입니다: " + callback.transactionKey());
+        }
+        return paymentCallbackRepository.enqueue(callback);
+    }
+
+    @Transactional
+    public List<PaymentCallbackInfo.Message> claim() {
+        return paymentCallbackRepository.claim(properties.getBatchSize(), properties.getLeaseTimeout());
+    }
+
+    @Transactional
+    public void complete(List<PaymentCallbackInfo.Message> callbacks) {
+        paymentCallbackRepository.complete(ids(callbacks));
+    }
+
+    /**
+     * 함께 처리한 콜백을 한꺼번에 다시 시도한다. 가장 많이 시도한 콜백을 기준으로 backoff 하고,
+     * 최대 시도 횟수를 넘기면 모두 FAILED 로 남긴다.
+     *
+     * @return 다시 시도할 예정이면 true
+     */
+    @Transactional
+    public boolean retry(List<PaymentCallbackInfo.Message> callbacks, String error) {
+        int attempts = callbacks.stream().mapToInt(PaymentCallbackInfo.Message::attempts).max().orElse(0);
+        if (attempts >= properties.getMaxAttempts()) {
+            paymentCallbackRepository.fail(ids(callbacks), error);
+            return false;
+        }
+        paymentCallbackRepository.retry(ids(callbacks), backoff(attempts), error);
+        return true;
+    }
+
+    @Transactional
+    public void fail(List<PaymentCallbackInfo.Message> callbacks, String error) {
+        paymentCallbackRepository.fail(ids(callbacks), error);
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 콜백을 조금씩 지운다.
+     *
+     * @return 지운 행 수
+     */
+    public int purge() {
+        return paymentCallbackRepository.purge(properties.getRetention(), PURGE_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public PaymentCallbackInfo.Lag findLag() {
+        return paymentCallbackRepository.findLag();
+    }
+
+    private List<Long> ids(List<PaymentCallbackInfo.Message> callbacks) {
+        return callbacks.stream().map(PaymentCallbackInfo.Message::id).toList();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+}
@@ -68,4 +68,18 @@ public class PaymentCommand {
         Long orderId
     ){
     }
+
+    /**
+     * PG 가 보낸 콜백 원문. 결제/주문 반영 전에 수신 큐에 그대로 기록한다.
+     */
+    public record Callback(
+            String transactionKey,
+            String orderKey,
+            String cardType,
+            String cardNo,
+            String amount,
+            String status,
+            String reason
+    ) {
+    }
 }
@@ -1,6 +1,7 @@
 package com.loopers.domain.payment;
 
 import com.loopers.domain.BaseEntity;
+import com.loopers.util.uuid.UuidStringBinaryConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,11 +12,18 @@ import java.util.Optional;
 
 @Getter
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "uk_payments_order_key", columnList = "order_key", unique = true)
+})
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class PaymentEntity extends BaseEntity {
     private Long orderId;
     private Long userId;
+    /**
+     * PG 와 주고받는 UUIDv7 문자열. 저장은 BINARY(16) 로 한다.
+     */
+    @Convert(converter = UuidStringBinaryConverter.class)
+    @Column(name = "order_key", columnDefinition = "binary(16)")
     private String orderKey;
     private Long amount;
     @Enumerated(EnumType.STRING)
@@ -62,6 +70,16 @@ public class PaymentEntity extends BaseEntity {
         return this;
     }
 
+    /**
+     * PG 가 모든 거래를 실패로 확정했거나 거래 없이 방치된 결제를 종료한다. 이미 성공한 결제는 바꾸지 않는다.
+     */
+    public PaymentEntity fail() {
+        if (this.state == State.PENDING) {
+            this.state = State.FAILED;
+        }
+        return this;
+    }
+
     public enum State {
         PENDING,
         SUCCESS,
@@ -1,6 +1,7 @@
 package com.loopers.domain.payment;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface PaymentGateway {
     Optional<PaymentInfo.Order> findOrder(Long userId, String orderKey);
@@ -8,4 +9,13 @@ public interface PaymentGateway {
     Optional<PaymentInfo.Transaction> findTransaction(Long userId, String transactionKey);
 
     PaymentInfo.Transaction request(PaymentStatement.Request requestStatement);
+
+    /**
+     * PG 응답을 기다리는 동안 호출한 스레드를 붙잡지 않는다.
+     */
+    CompletableFuture<Optional<PaymentInfo.Order>> findOrderAsync(Long userId, String orderKey);
+
+    CompletableFuture<Optional<PaymentInfo.Transaction>> findTransactionAsync(Long userId, String transactionKey);
+
+    CompletableFuture<PaymentInfo.Transaction> requestAsync(PaymentStatement.Request requestStatement);
 }
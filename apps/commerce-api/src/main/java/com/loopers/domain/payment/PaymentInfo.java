@@ -21,6 +21,13 @@ public class PaymentInfo {
             String orderId,
             List<PaymentInfo.Transaction> transactions
     ){
+        /**
+         * 거래가 있고 모두 실패로 끝났으면 true. 처리 중인 거래가 남아 있으면 아직 결과를 알 수 없다.
+         */
+        public boolean isFailed() {
+            return !transactions.isEmpty() && transactions.stream()
+                    .allMatch(transaction -> PaymentEntity.State.FAILED.name().equals(transaction.status()));
+        }
     }
 
 }
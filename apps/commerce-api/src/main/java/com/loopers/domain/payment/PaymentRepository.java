@@ -1,5 +1,7 @@
 package com.loopers.domain.payment;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
@@ -12,4 +14,11 @@ public interface PaymentRepository {
     Optional<PaymentEntity> findById(Long id);
 
     Optional<PaymentEntity> findByOrderKey(String orderKey);
+
+    /**
+     * before 이전에 마지막으로 변경된 PENDING 결제 중, id 를 shardCount 로 나눈 나머지가 shards 에 속하는 것을 id 순으로 조회한다.
+     */
+    List<PaymentEntity> findStalePending(List<Integer> shards, int shardCount, ZonedDateTime before, Long afterId, int size);
+
+    long countStalePending(ZonedDateTime before);
 }
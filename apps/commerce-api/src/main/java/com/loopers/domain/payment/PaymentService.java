@@ -8,7 +8,10 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -25,9 +28,21 @@ public class PaymentService {
 
     @Transactional
     public PaymentEntity pay(PaymentCommand.Transaction command) {
-        PaymentInfo.Order orderInfo = paymentGateway.findOrder(command.userId(), command.orderKey()).orElseThrow(() -> new CoreException(
-                ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다. userId: " + command.userId() + ", orderId: " + command.orderId()
-        ));
+        PaymentInfo.Order orderInfo = paymentGateway.findOrder(command.userId(), command.orderKey())
+                .orElseThrow(() -> notFoundOrder(command));
+        return pay(command, orderInfo);
+    }
+
+    /**
+     * PG 조회 응답을 기다리는 동안 트랜잭션과 스레드를 붙잡지 않도록, 조회와 반영을 나눈다.
+     */
+    public CompletableFuture<PaymentInfo.Order> findOrder(PaymentCommand.Transaction command) {
+        return paymentGateway.findOrderAsync(command.userId(), command.orderKey())
+                .thenApply(orderInfo -> orderInfo.orElseThrow(() -> notFoundOrder(command)));
+    }
+
+    @Transactional
+    public PaymentEntity pay(PaymentCommand.Transaction command, PaymentInfo.Order orderInfo) {
         PaymentEntity payment = paymentRepository.findByOrderId(command.orderId()).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "결제 주문을 찾을 수 없습니다. orderId: " + command.orderId()
         ));
@@ -35,6 +50,12 @@ public class PaymentService {
         return paymentRepository.saveAndFlush(payment);
     }
 
+    private static CoreException notFoundOrder(PaymentCommand.Transaction command) {
+        return new CoreException(
+                ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다. userId: " + command.userId() + ", orderId: " + command.orderId()
+        );
+    }
+
     public void request(PaymentCommand.Request requestCommand) {
         log.info("PaymentService.request 시작 - userId: {}, orderId: {}", requestCommand.userId(), requestCommand.orderId());
         
@@ -72,6 +93,10 @@ public class PaymentService {
             eventPublisher.publishEvent(updateCommand);
             log.info("UpdateTransaction 이벤트 발행 완료");
         } catch (Exception e) {
+            if (e instanceof CoreException coreException && coreException.getErrorType() == ErrorType.SERVICE_UNAVAILABLE) {
+                // PG 에 요청이 나가지 않았으므로 주문을 취소하지 않고, 호출한 쪽이 다시 시도하게 한다.
+                throw coreException;
+            }
             PaymentCommand.Cancel cancelCommand = new PaymentCommand.Cancel(requestCommand.orderId());
             eventPublisher.publishEvent(cancelCommand);
             log.error("PG 결제 요청 실패", e);
@@ -101,4 +126,38 @@ public class PaymentService {
     public Optional<PaymentEntity> findByOrderKey(String orderKey) {
         return paymentRepository.findByOrderKey(orderKey);
     }
+
+    public List<PaymentEntity> findStalePending(List<Integer> shards, int shardCount, ZonedDateTime before, Long afterId, int size) {
+        return paymentRepository.findStalePending(shards, shardCount, before, afterId, size);
+    }
+
+    public long countStalePending(ZonedDateTime before) {
+        return paymentRepository.countStalePending(before);
+    }
+
+    public CompletableFuture<Optional<PaymentInfo.Order>> findPgOrder(PaymentEntity payment) {
+        return paymentGateway.findOrderAsync(payment.getUserId(), payment.getOrderKey());
+    }
+
+    /**
+     * 콜백을 받지 못한 결제에 PG 조회 결과를 반영한다. 거래가 모두 실패했으면 결제를 실패로 종료한다.
+     */
+    @Transactional
+    public PaymentEntity reconcile(Long paymentId, PaymentInfo.Order orderInfo) {
+        PaymentEntity payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다. paymentId: " + paymentId));
+        payment.update(orderInfo);
+        if (orderInfo.isFailed()) {
+            payment.fail();
+        }
+        return paymentRepository.saveAndFlush(payment);
+    }
+
+    @Transactional
+    public PaymentEntity fail(Long paymentId) {
+        PaymentEntity payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다. paymentId: " + paymentId));
+        payment.fail();
+        return paymentRepository.save(payment);
+    }
 }
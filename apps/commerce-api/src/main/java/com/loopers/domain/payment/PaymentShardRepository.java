@@ -0,0 +1,20 @@
+package com.loopers.domain.payment;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface PaymentShardRepository {
+    /**
+     * 이 노드가 살아 있음을 알리고, timeout 안에 신호를 보낸 노드 목록을 반환한다.
+     */
+    List<String> heartbeat(String nodeId, Duration timeout);
+
+    /**
+     * shard 가 비어 있거나 이미 이 노드의 것이면 소유권을 leaseTimeout 만큼 연장한다.
+     *
+     * @return 소유권을 가졌는지 여부
+     */
+    boolean acquire(int shard, String nodeId, Duration leaseTimeout);
+
+    void release(int shard, String nodeId);
+}
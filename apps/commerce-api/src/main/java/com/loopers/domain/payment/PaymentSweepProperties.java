@@ -0,0 +1,37 @@
+package com.loopers.domain.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "payment.sweep")
+public class PaymentSweepProperties {
+    /**
+     * 마지막 변경 이후 이 시간이 지나도록 PENDING 인 결제를 PG 에 다시 조회한다.
+     */
+    private final Duration staleAfter;
+    /**
+     * PG 에 거래가 없는 채로 이 시간이 지나면 결제를 실패 처리하고 주문을 취소한다.
+     */
+    private final Duration abandonAfter;
+    /**
+     * 한 번에 가져오는 결제 수
+     */
+    private final int batchSize;
+    /**
+     * 동시에 PG 에 조회하는 결제 수
+     */
+    private final int concurrency;
+    /**
+     * 결제 id 를 나누는 shard 수. 노드 수보다 충분히 커야 고르게 나뉜다.
+     */
+    private final int shards;
+    /**
+     * shard 소유권 유지 시간. 스윕 주기보다 길어야 한다.
+     */
+    private final Duration leaseTimeout;
+}
@@ -0,0 +1,73 @@
+package com.loopers.domain.payment;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 결제 스윕 대상을 결제 id 기준 shard 로 나누고, 각 shard 를 한 노드만 스윕하도록 소유권을 정한다.
+ * 살아 있는 노드 목록으로 rendezvous hashing 해 shard 별 담당 노드를 고르고,
+ * 노드 목록이 바뀌는 동안 두 노드가 겹치지 않도록 Redis lease 를 얻은 shard 만 스윕한다.
+ */
+@Component
+public class PaymentSweepShards {
+    private final String nodeId = UUID.randomUUID().toString();
+    private final PaymentShardRepository paymentShardRepository;
+    private final PaymentSweepProperties properties;
+    private final Set<Integer> owned = new HashSet<>();
+
+    public PaymentSweepShards(PaymentShardRepository paymentShardRepository, PaymentSweepProperties properties) {
+        this.paymentShardRepository = paymentShardRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 담당 shard 의 소유권을 갱신하고, 더 이상 담당하지 않는 shard 는 놓는다.
+     *
+     * @return 이번 스윕에서 이 노드가 처리할 shard 목록
+     */
+    public synchronized List<Integer> own() {
+        List<String> members = paymentShardRepository.heartbeat(nodeId, properties.getLeaseTimeout());
+        List<Integer> acquired = new ArrayList<>();
+        for (int shard = 0; shard < properties.getShards(); shard++) {
+            if (nodeId.equals(ownerOf(shard, members))) {
+                if (paymentShardRepository.acquire(shard, nodeId, properties.getLeaseTimeout())) {
+                    acquired.add(shard);
+                }
+            } else if (owned.contains(shard)) {
+                paymentShardRepository.release(shard, nodeId);
+            }
+        }
+        owned.clear();
+        owned.addAll(acquired);
+        return acquired;
+    }
+
+    public int getShardCount() {
+        return properties.getShards();
+    }
+
+    static String ownerOf(int shard, List<String> members) {
+        String owner = null;
+        long highest = Long.MIN_VALUE;
+        for (String member : members) {
+            long weight = mix(member.hashCode() * 31L + shard);
+            if (owner == null || weight > highest) {
+                owner = member;
+                highest = weight;
+            }
+        }
+        return owner;
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,6 +1,6 @@
 package com.loopers.domain.payment;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TimeSortedIdEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Entity;
@@ -16,7 +16,7 @@ import java.util.List;
 @Entity
 @Table(name = "payment_transaction")
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
-public class PaymentTransactionEntity extends BaseEntity {
+public class PaymentTransactionEntity extends TimeSortedIdEntity {
     private String transactionKey;
     private String status;
     private String reason;
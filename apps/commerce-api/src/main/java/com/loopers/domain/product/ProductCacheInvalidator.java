@@ -0,0 +1,97 @@
+package com.loopers.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋된 상품 변경을 모아 두었다가 주기적으로 한 번에 캐시에 반영한다.
+ * 같은 상품이 짧은 시간에 여러 번 바뀌어도(좋아요 폭주 등) 상품별 항목 삭제와 목록 세대 증가는 한 번으로 합쳐진다.
+ * 커밋보다 반영 주기만큼 늦게 지우므로, 변경 전에 읽어 둔 값이 그 사이 캐시에 기록되어도 함께 지워진다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductCacheInvalidator {
+    private final ProductCacheRepository productCacheRepository;
+    private final ProductRepository productRepository;
+    /**
+     * 상품별 항목을 지울 상품
+     */
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    /**
+     * 출시·품절로 목록 구성이 바뀐 상품
+     */
+    private final Set<Long> listedIds = ConcurrentHashMap.newKeySet();
+    /**
+     * 좋아요 순 정렬이 바뀐 상품. 좋아요 수는 카운터 키에 따로 두므로 상품별 항목은 지우지 않는다.
+     */
+    private final Set<Long> likedIds = ConcurrentHashMap.newKeySet();
+
+    public void changed(Collection<Long> productIds) {
+        changedIds.addAll(productIds);
+    }
+
+    public void listed(Long productId) {
+        listedIds.add(productId);
+        changedIds.add(productId);
+    }
+
+    public void liked(Collection<Long> productIds) {
+        likedIds.addAll(productIds);
+    }
+
+    /**
+     * 반영에 실패하면 꺼낸 변경분을 되돌려 다음 실행에서 다시 시도한다.
+     *
+     * @return 이번 실행에서 항목을 지운 상품 수
+     */
+    public int flush() {
+        Set<Long> listed = drain(listedIds);
+        Set<Long> liked = drain(likedIds);
+        Set<Long> changed = drain(changedIds);
+        if (listed.isEmpty() && liked.isEmpty() && changed.isEmpty()) {
+            return 0;
+        }
+        try {
+            productCacheRepository.evict(changed.stream().toList());
+            if (!listed.isEmpty() || !liked.isEmpty()) {
+                Set<Long> targetIds = new HashSet<>(listed);
+                targetIds.addAll(liked);
+                Map<Long, Long> brandIds = productRepository.findList(targetIds.stream().toList()).stream()
+                        .filter(product -> product.getBrandId() != null)
+                        .collect(Collectors.toMap(ProductEntity::getId, ProductEntity::getBrandId));
+                productCacheRepository.bumpGenerations(brandsOf(listed, brandIds), brandsOf(liked, brandIds));
+            }
+            return changed.size();
+        } catch (RuntimeException e) {
+            listedIds.addAll(listed);
+            likedIds.addAll(liked);
+            changedIds.addAll(changed);
+            throw e;
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> source) {
+        Set<Long> drained = new HashSet<>();
+        for (Iterator<Long> iterator = source.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private static Set<Long> brandsOf(Set<Long> productIds, Map<Long, Long> brandIds) {
+        return productIds.stream()
+                .map(brandIds::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
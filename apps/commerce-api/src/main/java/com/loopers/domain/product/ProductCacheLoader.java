@@ -0,0 +1,108 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 캐시 미스 시 재계산을 조율한다.
+ * 노드 내에서는 같은 키의 요청을 하나로 합치고(single-flight), 노드 간에는 Redis 임대로 한 노드만 DB 를 조회한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductCacheLoader {
+    private static final Duration FLIGHT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration LEASE_WAIT_INTERVAL = Duration.ofMillis(50);
+    private static final int LEASE_WAIT_ATTEMPTS = 20;
+
+    private final ProductCacheRepository productCacheRepository;
+    private final ConcurrentMap<Flight, CompletableFuture<List<ProductInfo.ProductWithSignal>>> flights = new ConcurrentHashMap<>();
+
+    public List<ProductInfo.ProductWithSignal> load(ProductStatement statement, Pageable pageable, Supplier<List<ProductInfo.ProductWithSignal>> reader) {
+        Flight flight = new Flight(statement, pageable.getPageNumber(), pageable.getPageSize());
+        CompletableFuture<List<ProductInfo.ProductWithSignal>> mine = new CompletableFuture<>();
+        CompletableFuture<List<ProductInfo.ProductWithSignal>> inFlight = flights.putIfAbsent(flight, mine);
+        if (inFlight != null) {
+            return await(inFlight, reader);
+        }
+        try {
+            List<ProductInfo.ProductWithSignal> loaded = loadWithLease(statement, pageable, reader);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(flight, mine);
+        }
+    }
+
+    private List<ProductInfo.ProductWithSignal> loadWithLease(ProductStatement statement, Pageable pageable, Supplier<List<ProductInfo.ProductWithSignal>> reader) {
+        Optional<String> lease = productCacheRepository.acquireLease(statement, pageable);
+        if (lease.isPresent()) {
+            try {
+                return recompute(statement, pageable, reader);
+            } finally {
+                productCacheRepository.releaseLease(statement, pageable, lease.get());
+            }
+        }
+
+        // 다른 노드가 재계산 중이면, 그 결과(또는 아직 유효한 이전 값)를 기다린다.
+        for (int attempt = 0; attempt < LEASE_WAIT_ATTEMPTS; attempt++) {
+            Optional<List<ProductInfo.ProductWithSignal>> cached = productCacheRepository.peekWithSignal(statement, pageable);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            sleep(LEASE_WAIT_INTERVAL);
+        }
+        log.warn("상품 목록 캐시 임대 대기 초과, DB 에서 직접 조회합니다. statement: {}, pageable: {}", statement, pageable);
+        return reader.get();
+    }
+
+    private List<ProductInfo.ProductWithSignal> recompute(ProductStatement statement, Pageable pageable, Supplier<List<ProductInfo.ProductWithSignal>> reader) {
+        long generation = productCacheRepository.generation(statement);
+        long startedAt = System.nanoTime();
+        List<ProductInfo.ProductWithSignal> productWithSignals = reader.get();
+        Duration recomputeTime = Duration.ofNanos(System.nanoTime() - startedAt);
+        return productCacheRepository.save(statement, pageable, generation, productWithSignals, recomputeTime);
+    }
+
+    private List<ProductInfo.ProductWithSignal> await(CompletableFuture<List<ProductInfo.ProductWithSignal>> inFlight, Supplier<List<ProductInfo.ProductWithSignal>> reader) {
+        try {
+            return inFlight.get(FLIGHT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "상품 목록 조회 실패: " + e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            log.warn("상품 목록 재계산 대기 초과, DB 에서 직접 조회합니다.");
+            return reader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "상품 목록 조회가 중단되었습니다.");
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "상품 목록 조회가 중단되었습니다.");
+        }
+    }
+
+    private record Flight(ProductStatement statement, int pageNumber, int pageSize) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.product;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 캐시에 기록할 상품을 읽는다. 기록한 값은 TTL 동안 남으므로, 복제 지연 없이 커밋된 최신 상태를 읽어야 한다.
+ */
+public interface ProductCacheReader {
+    Optional<ProductInfo.ProductWithSignal> findWithSignal(Long id);
+
+    List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement criteria, Pageable pageable);
+
+    List<ProductInfo.ProductWithSignal> findWithSignals(List<Long> ids);
+}
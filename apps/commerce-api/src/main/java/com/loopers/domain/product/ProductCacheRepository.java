@@ -2,10 +2,67 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface ProductCacheRepository {
-    List<ProductInfo.ProductWithSignal> findWithSignal(ProductStatement criteria, Pageable pageable);
+    /**
+     * 빈 목록도 캐시된 값이다.
+     *
+     * @return 캐시에 없거나, 만료가 가까워 조기 갱신 대상으로 뽑혔으면 empty
+     */
+    Optional<List<ProductInfo.ProductWithSignal>> findWithSignal(ProductStatement criteria, Pageable pageable);
 
-    List<ProductInfo.ProductWithSignal> save(ProductStatement criteria, Pageable pageable, List<ProductInfo.ProductWithSignal> productWithSignals);
+    /**
+     * 조기 갱신 여부와 관계없이 현재 캐시된 값을 반환한다.
+     */
+    Optional<List<ProductInfo.ProductWithSignal>> peekWithSignal(ProductStatement criteria, Pageable pageable);
+
+    /**
+     * 상품 정보와 좋아요 수 카운터를 한 번에 읽어 합친다.
+     *
+     * @return 캐시에 없으면 empty
+     */
+    Optional<ProductInfo.CachedDetail> findDetail(Long productId);
+
+    /**
+     * @param productWithSignal 없는 상품이면 null. 없음도 짧은 TTL 로 기록한다.
+     */
+    void saveDetail(Long productId, ProductInfo.ProductWithSignal productWithSignal);
+
+    /**
+     * 좋아요 수 카운터가 있을 때만 변경분을 더한다. 없으면 다음 조회 때 DB 값으로 채운다.
+     */
+    void increaseLikeCount(Long productId, long delta);
+
+    /**
+     * 목록 페이지 키의 세대. 세대가 오르면 이전 세대의 페이지는 지우지 않아도 더 이상 읽히지 않는다.
+     */
+    long generation(ProductStatement criteria);
+
+    /**
+     * @param generation 재계산을 시작하기 전에 읽은 세대. 그 사이 세대가 올랐으면 기록하지 않는다.
+     */
+    List<ProductInfo.ProductWithSignal> save(ProductStatement criteria, Pageable pageable, long generation, List<ProductInfo.ProductWithSignal> productWithSignals, Duration recomputeTime);
+
+    /**
+     * 목록 페이지가 공유하는 상품별 항목을 지운다. 다음 조회 시 DB 에서 다시 채운다.
+     */
+    void evict(List<Long> productIds);
+
+    /**
+     * 상품이 추가·제거된 브랜드와 좋아요 순서가 바뀐 브랜드의 목록 세대를 올린다. 전체 목록의 세대도 함께 올린다.
+     */
+    void bumpGenerations(Set<Long> listedBrandIds, Set<Long> likedBrandIds);
+
+    /**
+     * 노드 간 재계산을 한 곳에서만 수행하도록 임대(lease)를 획득한다.
+     *
+     * @return 획득 시 해제에 사용할 토큰, 다른 노드가 재계산 중이면 empty
+     */
+    Optional<String> acquireLease(ProductStatement criteria, Pageable pageable);
+
+    void releaseLease(ProductStatement criteria, Pageable pageable, String token);
 }
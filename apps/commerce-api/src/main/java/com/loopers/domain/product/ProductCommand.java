@@ -1,5 +1,7 @@
 package com.loopers.domain.product;
 
+import java.util.List;
+
 public class ProductCommand {
     public record Register(
             String name,
@@ -8,4 +10,30 @@ public class ProductCommand {
             Long stock
     ) {
     }
+
+    public record Released(
+            Long productId,
+            Long brandId,
+            Long likeCount
+    ) {
+    }
+
+    public record SoldOut(
+            Long productId
+    ) {
+    }
+
+    /**
+     * 재고나 상태가 바뀌어 캐시된 상품 정보를 다시 읽어야 하는 상품들
+     */
+    public record Changed(
+            List<Long> productIds
+    ) {
+    }
+
+    public record Deduct(
+            Long productId,
+            Long quantity
+    ) {
+    }
 }
@@ -0,0 +1,74 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서. 마지막으로 조회한 상품의 (정렬 키, id) 를 담는다.
+ * 출시일은 epoch 마이크로초로 보관한다.
+ */
+public record ProductCursor(
+        long sortValue,
+        long id
+) {
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = ":";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    public static void assertSupported(ProductStatement.OrderBy orderBy) {
+        boolean supported = orderBy instanceof ProductStatement.LikeCount
+                || orderBy instanceof ProductStatement.Price(boolean ascending) && ascending
+                || orderBy instanceof ProductStatement.ReleasedAt(boolean ascending) && !ascending;
+        if (!supported) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "커서 조회를 지원하지 않는 정렬 기준입니다: " + orderBy);
+        }
+    }
+
+    public static ProductCursor after(ProductStatement.OrderBy orderBy, ProductInfo.ProductWithSignal last) {
+        assertSupported(orderBy);
+        if (orderBy instanceof ProductStatement.LikeCount) {
+            return new ProductCursor(last.getLikeCount(), last.getId());
+        } else if (orderBy instanceof ProductStatement.Price) {
+            return new ProductCursor(last.getPrice(), last.getId());
+        } else {
+            return new ProductCursor(ChronoUnit.MICROS.between(Instant.EPOCH, last.getState().getReleasedAt().toInstant()), last.getId());
+        }
+    }
+
+    public ZonedDateTime releasedAt() {
+        return Instant.EPOCH.plus(sortValue, ChronoUnit.MICROS).atZone(ZONE);
+    }
+
+    /**
+     * 정렬 기준을 함께 기록해, 다른 정렬의 커서로 조회하지 못하게 한다.
+     */
+    public String encode(ProductStatement.OrderBy orderBy) {
+        String raw = VERSION + SEPARATOR + orderBy + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(ProductStatement.OrderBy orderBy, String encoded) {
+        assertSupported(orderBy);
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split(SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+        if (parts.length != 4 || !VERSION.equals(parts[0]) || !orderBy.toString().equals(parts[1])) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+        try {
+            return new ProductCursor(Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -8,6 +8,11 @@ import org.springframework.data.annotation.Immutable;
 
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class ProductInfo {
     @Getter
@@ -60,6 +65,52 @@ public class ProductInfo {
             this.likeCount = likeCount != null ? likeCount : 0L;
         }
 
+        private ProductWithSignal(
+                Long id,
+                String name,
+                Long brandId,
+                Long price,
+                Long stock,
+                ZonedDateTime createdAt,
+                ZonedDateTime updatedAt,
+                ProductEntity.State state,
+                Long likeCount
+        ) {
+            this.id = id;
+            this.name = name;
+            this.brandId = brandId;
+            this.price = price;
+            this.stock = stock;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.state = state;
+            this.likeCount = likeCount != null ? likeCount : 0L;
+        }
+
+        /**
+         * 캐시 등에 저장해 둔 값으로 복원한다.
+         */
+        public static ProductWithSignal of(
+                Long id,
+                String name,
+                Long brandId,
+                Long price,
+                Long stock,
+                ZonedDateTime createdAt,
+                ZonedDateTime updatedAt,
+                ProductEntity.State state,
+                Long likeCount
+        ) {
+            return new ProductWithSignal(id, name, brandId, price, stock, createdAt, updatedAt, state, likeCount);
+        }
+
+        /**
+         * 따로 읽은 좋아요 수를 합친다.
+         */
+        public ProductWithSignal withLikeCount(long likeCount) {
+            return new ProductWithSignal(id, name, brandId, price, stock, createdAt, updatedAt, state, likeCount);
+        }
+
         public static ProductWithSignal from(ProductWithSignalRow productWithSignalRow) {
             return new ProductWithSignal(
                     productWithSignalRow.getId(),
@@ -75,4 +126,111 @@ public class ProductInfo {
             );
         }
     }
+
+    /**
+     * 캐시된 상품 상세. 없는 상품으로 캐시되어 있으면 product 가 null 이다.
+     */
+    public record CachedDetail(
+            ProductWithSignal product
+    ) {
+        public Optional<ProductWithSignal> toOptional() {
+            return Optional.ofNullable(product);
+        }
+    }
+
+    public record Ranking(
+            Long productId,
+            Long brandId,
+            Long likeCount
+    ) {
+        public Ranking {
+            likeCount = likeCount != null ? likeCount : 0L;
+        }
+    }
+
+    public record RankingReport(
+            long indexed,
+            long expected,
+            int sampled,
+            int mismatched
+    ) {
+        public boolean isConsistent() {
+            return indexed == expected && mismatched == 0;
+        }
+    }
+
+    public record StockDeduction(
+            Long productId,
+            Long quantity,
+            Result result
+    ) {
+        public enum Result {
+            DEDUCTED,
+            /**
+             * 차감 후 재고가 0 이 되어 OUT_OF_STOCK 으로 전환됨
+             */
+            SOLD_OUT,
+            /**
+             * 재고 부족, 판매 중이 아님, 존재하지 않음
+             */
+            REJECTED
+        }
+
+        public boolean isRejected() {
+            return result == Result.REJECTED;
+        }
+    }
+
+    public record Reservation(
+            Result result,
+            List<Long> productIds
+    ) {
+        public enum Result {
+            RESERVED,
+            /**
+             * 같은 주문의 예약이 이미 있어 만료 시각만 연장함
+             */
+            ALREADY_RESERVED,
+            /**
+             * 가용 재고가 아직 적재되지 않은 상품이 있음 (productIds)
+             */
+            UNINITIALIZED,
+            /**
+             * 가용 재고가 부족한 상품이 있음 (productIds)
+             */
+            INSUFFICIENT
+        }
+
+        public boolean isReserved() {
+            return result == Result.RESERVED || result == Result.ALREADY_RESERVED;
+        }
+    }
+
+    /**
+     * 가용 재고에서는 빠졌지만 아직 product 재고에 반영되지 않은 수량.
+     *
+     * @param held       상품별 예약 중이거나 반영을 기다리는 수량
+     * @param processing 반영 중인 배치, 이미 반영된 배치인지는 product_stock_flush 로 확인한다
+     */
+    public record Outstanding(
+            Map<Long, Long> held,
+            List<ProductStockBatch> processing
+    ) {
+        public Set<String> tokens() {
+            return processing.stream().map(ProductStockBatch::token).collect(Collectors.toSet());
+        }
+
+        /**
+         * @param appliedTokens product 재고를 읽은 시점에 이미 반영된 배치 token
+         */
+        public long quantityOf(Long productId, Set<String> appliedTokens) {
+            long unapplied = processing.stream()
+                    .filter(batch -> !appliedTokens.contains(batch.token()))
+                    .flatMap(batch -> batch.items().stream())
+                    .filter(item -> item.productId().equals(productId))
+                    .mapToLong(ProductCommand.Deduct::quantity)
+                    .sum();
+            return held.getOrDefault(productId, 0L) + unapplied;
+        }
+    }
 }
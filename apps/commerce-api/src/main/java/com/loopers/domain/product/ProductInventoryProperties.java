@@ -0,0 +1,29 @@
+package com.loopers.domain.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "product.inventory")
+public class ProductInventoryProperties {
+    private final Mode mode;
+    /**
+     * 결제 대기 중 재고를 잡아 두는 시간. 지나면 주문 상태에 따라 확정하거나 되돌린다.
+     */
+    private final Duration reservationTimeToLive;
+
+    public enum Mode {
+        /**
+         * 주문 완료 시 product 행을 조건부 UPDATE 로 바로 차감한다.
+         */
+        DATABASE,
+        /**
+         * 주문 시 Redis 의 가용 재고를 예약하고, 확정된 차감분을 주기적으로 product 에 반영한다.
+         */
+        RESERVATION
+    }
+}
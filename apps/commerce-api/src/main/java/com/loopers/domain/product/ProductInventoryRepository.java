@@ -0,0 +1,50 @@
+package com.loopers.domain.product;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface ProductInventoryRepository {
+    /**
+     * 모든 상품의 가용 재고가 충분할 때만 한꺼번에 예약한다.
+     * 같은 주문의 예약이 이미 있으면 차감 없이 만료 시각만 연장한다.
+     */
+    ProductInfo.Reservation reserve(Long orderId, List<ProductCommand.Deduct> items, Duration timeToLive);
+
+    /**
+     * 가용 재고를 다시 적재할 때 product 재고에서 빼야 할 수량을 모은다.
+     * 남아 있는 예약, 반영 대기 중인 차감분, 반영 중인 배치를 모두 포함한다.
+     */
+    ProductInfo.Outstanding findOutstanding(List<Long> productIds);
+
+    /**
+     * 가용 재고가 없을 때만 적재한다.
+     */
+    void initialize(Long productId, long stock);
+
+    /**
+     * 예약을 확정해 차감분을 반영 대기열에 넣는다.
+     *
+     * @return 확정할 예약이 없으면 false
+     */
+    boolean commit(Long orderId);
+
+    /**
+     * 예약을 풀어 가용 재고로 되돌린다.
+     *
+     * @return 되돌릴 예약이 없으면 false
+     */
+    boolean release(Long orderId);
+
+    /**
+     * @return 만료 시각이 지난 예약의 주문 id
+     */
+    List<Long> findExpired(int size);
+
+    /**
+     * 반영 대기 중인 차감분을 새 배치로 떼어내고, 아직 확인되지 않은 배치를 모두 반환한다.
+     * 반영 도중 중단된 배치도 다시 반환되므로, 반영은 token 기준으로 멱등해야 한다.
+     */
+    List<ProductStockBatch> drain();
+
+    void acknowledge(String token);
+}
@@ -0,0 +1,131 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 재고를 예약, 확정, 해제한다.
+ * RESERVATION 모드에서는 가용 재고를 Redis 에서만 다루므로, 인기 상품 주문이 product 행 락을 기다리지 않는다.
+ * product 의 재고는 확정된 차감분을 {@link ProductStockReconciler} 가 일괄 반영할 때 줄어든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductInventoryService {
+    private final ProductInventoryRepository productInventoryRepository;
+    private final ProductService productService;
+    private final ProductInventoryProperties properties;
+
+    /**
+     * 주문 수량만큼 가용 재고를 예약한다. 주문 트랜잭션이 롤백되면 예약도 되돌린다.
+     * DATABASE 모드에서는 아무것도 하지 않는다.
+     */
+    public void reserve(Long orderId, Map<Long, Long> orderQuantityList) {
+        if (properties.getMode() != ProductInventoryProperties.Mode.RESERVATION) {
+            return;
+        }
+        ProductInfo.Reservation reservation = reserveOrInitialize(orderId, toItems(orderQuantityList));
+        if (reservation.result() == ProductInfo.Reservation.Result.RESERVED) {
+            releaseOnRollback(orderId);
+        }
+    }
+
+    /**
+     * 주문 완료 시 재고 차감을 확정한다.
+     * RESERVATION 모드에서는 만료되어 풀린 예약을 다시 잡아 재고를 검증하고, 주문 트랜잭션이 커밋된 뒤에 확정한다.
+     * 확정하지 못한 예약은 만료 후 주문 상태를 보고 {@link #confirm} 된다.
+     */
+    public void commit(Long orderId, Map<Long, Long> orderQuantityList) {
+        if (properties.getMode() != ProductInventoryProperties.Mode.RESERVATION) {
+            productService.deductAtomically(orderQuantityList);
+            return;
+        }
+        reserve(orderId, orderQuantityList);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            confirm(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                confirm(orderId);
+            }
+        });
+    }
+
+    public boolean confirm(Long orderId) {
+        return productInventoryRepository.commit(orderId);
+    }
+
+    /**
+     * 모드와 관계없이 남아 있는 예약을 되돌린다. 모드를 DATABASE 로 바꾼 뒤에도 기존 예약을 정리하기 위함이다.
+     */
+    public boolean release(Long orderId) {
+        return productInventoryRepository.release(orderId);
+    }
+
+    public List<Long> findExpired(int size) {
+        return productInventoryRepository.findExpired(size);
+    }
+
+    private ProductInfo.Reservation reserveOrInitialize(Long orderId, List<ProductCommand.Deduct> items) {
+        ProductInfo.Reservation reservation = productInventoryRepository.reserve(
+                orderId, items, properties.getReservationTimeToLive());
+        if (reservation.result() == ProductInfo.Reservation.Result.UNINITIALIZED) {
+            initialize(reservation.productIds());
+            reservation = productInventoryRepository.reserve(orderId, items, properties.getReservationTimeToLive());
+        }
+        if (reservation.result() == ProductInfo.Reservation.Result.UNINITIALIZED) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "판매 중이 아닌 상품입니다: " + reservation.productIds());
+        }
+        if (!reservation.isReserved()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다: " + reservation.productIds());
+        }
+        return reservation;
+    }
+
+    /**
+     * 판매 중인 상품만 적재한다. 이미 적재된 재고는 덮어쓰지 않는다.
+     * 남은 예약과 아직 product 에 반영되지 않은 차감분을 빼고 적재해, 재적재로 같은 재고를 다시 팔지 않게 한다.
+     * 반영되지 않은 수량을 product 재고보다 먼저 읽으므로, 그 사이 반영된 배치는 두 번 빠질 수는 있어도 누락되지 않는다.
+     */
+    private void initialize(List<Long> productIds) {
+        ProductInfo.Outstanding outstanding = productInventoryRepository.findOutstanding(productIds);
+        productService.findAvailableStocks(productIds, outstanding)
+                .forEach(productInventoryRepository::initialize);
+    }
+
+    private void releaseOnRollback(Long orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(orderId);
+                }
+            }
+        });
+    }
+
+    private List<ProductCommand.Deduct> toItems(Map<Long, Long> orderQuantityList) {
+        List<ProductCommand.Deduct> items = orderQuantityList.entrySet().stream()
+                .map(entry -> new ProductCommand.Deduct(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(ProductCommand.Deduct::productId))
+                .toList();
+        if (items.stream().anyMatch(item -> item.quantity() == null || item.quantity() <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.domain.product;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 좋아요순 상품 랭킹 인덱스. 전체 랭킹과 브랜드별 랭킹을 함께 관리한다.
+ * 동점은 상품 id 오름차순으로 정렬한다.
+ */
+public interface ProductRankingRepository {
+    /**
+     * 재구축이 한 번 이상 완료되어 인덱스를 조회에 사용할 수 있는지 여부
+     */
+    boolean isReady();
+
+    /**
+     * @param brandId null 이면 전체 랭킹
+     */
+    List<Long> findIds(Long brandId, Pageable pageable);
+
+    List<ProductInfo.Ranking> findTop(int size);
+
+    long count();
+
+    /**
+     * 인덱스에 있는 상품만 좋아요 수를 반영한다.
+     */
+    void increase(Long productId, long delta);
+
+    void add(ProductInfo.Ranking ranking);
+
+    void remove(Long productId);
+
+    /**
+     * 재구축 중인 세대에 랭킹을 적재한다. publish 전까지는 조회에 노출되지 않는다.
+     */
+    void stage(String generation, List<ProductInfo.Ranking> rankings);
+
+    /**
+     * 적재가 끝난 세대로 인덱스를 원자적으로 교체한다.
+     */
+    void publish(String generation);
+}
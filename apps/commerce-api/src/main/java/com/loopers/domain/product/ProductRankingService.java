@@ -0,0 +1,99 @@
+package com.loopers.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductRankingService {
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductReader productReader;
+
+    /**
+     * like_summary 기준으로 랭킹 인덱스를 새 세대에 적재한 뒤 교체한다.
+     * 적재 중에 반영된 좋아요 변경은 새 세대에 빠질 수 있으며, 정합성 검사에서 다시 맞춘다.
+     *
+     * @return 적재한 상품 수
+     */
+    public long rebuild() {
+        String generation = UUID.randomUUID().toString();
+        long lastId = 0L;
+        long total = 0L;
+        while (true) {
+            List<ProductInfo.Ranking> chunk = productReader.findRankings(lastId, REBUILD_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            productRankingRepository.stage(generation, chunk);
+            total += chunk.size();
+            lastId = chunk.getLast().productId();
+            if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                break;
+            }
+        }
+        productRankingRepository.publish(generation);
+        return total;
+    }
+
+    /**
+     * 랭킹 상위 sampleSize 개를 DB 와 비교한다.
+     * 인덱스의 좋아요 수가 DB 와 다르거나, DB 상위에 있는 상품이 인덱스 상위에 없으면 불일치로 센다.
+     */
+    public ProductInfo.RankingReport check(int sampleSize) {
+        List<ProductInfo.Ranking> indexed = productRankingRepository.findTop(sampleSize);
+        Map<Long, ProductInfo.ProductWithSignal> actual = productReader.findWithSignals(
+                        indexed.stream().map(ProductInfo.Ranking::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductInfo.ProductWithSignal::getId, Function.identity()));
+
+        int mismatched = 0;
+        for (ProductInfo.Ranking ranking : indexed) {
+            ProductInfo.ProductWithSignal product = actual.get(ranking.productId());
+            if (product == null
+                    || product.getState().getValue() != ProductEntity.State.StateType.OPEN
+                    || !product.getLikeCount().equals(ranking.likeCount())) {
+                mismatched++;
+            }
+        }
+
+        // 좋아요가 있는 상품은 DB 정렬과 인덱스 정렬이 같으므로, 상위 구간의 구성도 같아야 한다.
+        Set<Long> indexedIds = indexed.stream().map(ProductInfo.Ranking::productId).collect(Collectors.toSet());
+        ProductStatement byLikeCount = ProductStatement.builder().orderBy(new ProductStatement.LikeCount()).build();
+        for (ProductInfo.ProductWithSignal expected : productReader.findWithSignals(byLikeCount, PageRequest.of(0, sampleSize))) {
+            if (expected.getLikeCount() > 0 && !indexedIds.contains(expected.getId())) {
+                mismatched++;
+            }
+        }
+
+        return new ProductInfo.RankingReport(
+                productRankingRepository.count(),
+                productReader.countOpen(),
+                indexed.size(),
+                mismatched
+        );
+    }
+
+    public void increase(Long productId, long delta) {
+        productRankingRepository.increase(productId, delta);
+    }
+
+    public void add(ProductCommand.Released command) {
+        productRankingRepository.add(new ProductInfo.Ranking(command.productId(), command.brandId(), command.likeCount()));
+    }
+
+    public void remove(ProductCommand.SoldOut command) {
+        productRankingRepository.remove(command.productId());
+    }
+}
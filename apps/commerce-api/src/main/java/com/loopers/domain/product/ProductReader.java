@@ -11,4 +11,18 @@ public interface ProductReader {
     List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement criteria, Pageable pageable);
 
     List<ProductInfo.ProductWithSignal> findWithSignals(List<Long> ids);
+
+    /**
+     * 커서 이후의 상품을 정렬 키와 id 로 seek 하여 조회한다.
+     *
+     * @param cursor null 이면 첫 페이지
+     */
+    List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement statement, ProductCursor cursor, int size);
+
+    /**
+     * 판매 중인 상품의 좋아요 수를 id 순으로 lastId 이후부터 size 만큼 조회한다.
+     */
+    List<ProductInfo.Ranking> findRankings(Long lastId, int size);
+
+    long countOpen();
 }
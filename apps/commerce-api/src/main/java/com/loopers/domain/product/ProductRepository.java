@@ -2,14 +2,21 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Pageable;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductRepository {
     ProductEntity save(ProductEntity product);
 
     Optional<ProductEntity> find(Long id);
 
+    /**
+     * 한 번 존재를 확인한 id 는 다시 조회하지 않는다. 행을 물리 삭제하지 않으므로 결과가 바뀌지 않는다.
+     */
+    boolean exists(Long id);
+
     List<ProductEntity> findList(ProductStatement criteria, Pageable pageable);
 
     List<ProductEntity> findList(List<Long> ids);
@@ -17,5 +24,27 @@ public interface ProductRepository {
 
     List<ProductEntity> findListWithLock(List<Long> ids);
 
+    /**
+     * 행 락을 먼저 잡지 않고, 조건부 UPDATE 한 번으로 재고를 차감한다.
+     * 교착을 피하기 위해 items 는 상품 id 오름차순이어야 한다.
+     *
+     * @return items 와 같은 순서의 차감 결과
+     */
+    List<ProductInfo.StockDeduction> deductStock(List<ProductCommand.Deduct> items);
+
+    /**
+     * 예약으로 이미 검증된 차감분이므로 재고 조건 없이 차감한다. 같은 token 의 배치는 한 번만 반영한다.
+     *
+     * @return 이미 반영한 배치면 빈 목록
+     */
+    List<ProductInfo.StockDeduction> applyStockBatch(ProductStockBatch batch);
+
+    int deleteStockBatches(ZonedDateTime before);
+
+    /**
+     * @return tokens 중 product 에 반영을 마친 배치 token
+     */
+    Set<String> findAppliedStockBatches(Set<String> tokens);
+
     Optional<ProductInfo.ProductWithSignal> findWithSignal(Long id);
 }
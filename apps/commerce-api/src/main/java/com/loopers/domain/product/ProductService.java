@@ -3,13 +3,21 @@ package com.loopers.domain.product;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -17,7 +25,11 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductReader productReader;
+    private final ProductCacheReader productCacheReader;
     private final ProductCacheRepository productCacheRepository;
+    private final ProductCacheLoader productCacheLoader;
+    private final ProductRankingRepository productRankingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductEntity register(ProductCommand.Register command) {
@@ -30,6 +42,10 @@ public class ProductService {
         return productRepository.find(id);
     }
 
+    public boolean exists(Long id) {
+        return productRepository.exists(id);
+    }
+
     @Transactional(readOnly = true)
     public List<ProductEntity> find(List<Long> ids) {
         return productRepository.findList(ids);
@@ -60,24 +76,124 @@ public class ProductService {
         for (ProductEntity product : products) {
             product.deductStock(orderQuantityList.get(product.getId()));
             productRepository.save(product);
+            if (product.getState().getValue() == ProductEntity.State.StateType.OUT_OF_STOCK) {
+                eventPublisher.publishEvent(new ProductCommand.SoldOut(product.getId()));
+            }
         }
+        eventPublisher.publishEvent(new ProductCommand.Changed(targetIds));
         return products;
     }
 
+    /**
+     * 상품별 조건부 UPDATE 로 재고를 차감한다. 하나라도 차감하지 못하면 전체를 롤백한다.
+     */
+    @Transactional
+    public List<ProductInfo.StockDeduction> deductAtomically(Map<Long, Long> orderQuantityList) {
+        List<ProductCommand.Deduct> items = orderQuantityList.entrySet().stream()
+                .map(entry -> new ProductCommand.Deduct(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(ProductCommand.Deduct::productId))
+                .toList();
+        if (items.stream().anyMatch(item -> item.quantity() == null || item.quantity() <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST);
+        }
+
+        List<ProductInfo.StockDeduction> results = productRepository.deductStock(items);
+        List<Long> rejected = results.stream()
+                .filter(ProductInfo.StockDeduction::isRejected)
+                .map(ProductInfo.StockDeduction::productId)
+                .toList();
+        if (!rejected.isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족하거나 판매 중이 아닌 상품입니다: " + rejected);
+        }
+        results.stream()
+                .filter(result -> result.result() == ProductInfo.StockDeduction.Result.SOLD_OUT)
+                .forEach(result -> eventPublisher.publishEvent(new ProductCommand.SoldOut(result.productId())));
+        eventPublisher.publishEvent(new ProductCommand.Changed(items.stream().map(ProductCommand.Deduct::productId).toList()));
+        return results;
+    }
+
+    /**
+     * 예약 확정으로 누적된 차감분을 product 에 반영한다.
+     *
+     * @return 이미 반영한 배치면 false
+     */
+    @Transactional
+    public boolean applyStockBatch(ProductStockBatch batch) {
+        List<ProductInfo.StockDeduction> results = productRepository.applyStockBatch(batch);
+        results.stream()
+                .filter(result -> result.result() == ProductInfo.StockDeduction.Result.SOLD_OUT)
+                .forEach(result -> eventPublisher.publishEvent(new ProductCommand.SoldOut(result.productId())));
+        if (!results.isEmpty()) {
+            eventPublisher.publishEvent(new ProductCommand.Changed(results.stream().map(ProductInfo.StockDeduction::productId).toList()));
+        }
+        return !results.isEmpty();
+    }
+
+    @Transactional
+    public int purgeStockBatches(ZonedDateTime before) {
+        return productRepository.deleteStockBatches(before);
+    }
+
+    /**
+     * 판매 중인 상품의 재고에서 아직 반영되지 않은 수량을 뺀 가용 재고를 구한다.
+     * 상품 재고와 반영된 배치 token 을 같은 스냅샷에서 읽어야 하므로, 호출한 트랜잭션의 이전 스냅샷이나
+     * 지연된 복제본이 아닌 새 쓰기 트랜잭션에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, Long> findAvailableStocks(List<Long> productIds, ProductInfo.Outstanding outstanding) {
+        Set<String> appliedTokens = productRepository.findAppliedStockBatches(outstanding.tokens());
+        return productRepository.findList(productIds).stream()
+                .filter(product -> product.getState().getValue() == ProductEntity.State.StateType.OPEN)
+                .collect(Collectors.toMap(
+                        ProductEntity::getId,
+                        product -> Math.max(product.getStock() - outstanding.quantityOf(product.getId(), appliedTokens), 0L)
+                ));
+    }
+
     // ProductWithSignal 메서드들
+
+    /**
+     * 캐시에 없으면 main 에서 읽어 기록한다. 없는 상품도 기록해, 같은 id 로 반복 조회해도 DB 로 가지 않는다.
+     */
     @Transactional(readOnly = true)
     public Optional<ProductInfo.ProductWithSignal> findWithSignal(Long id) {
-        return productReader.findWithSignal(id);
+        Optional<ProductInfo.CachedDetail> cached = productCacheRepository.findDetail(id);
+        if (cached.isPresent()) {
+            return cached.get().toOptional();
+        }
+        Optional<ProductInfo.ProductWithSignal> loaded = productCacheReader.findWithSignal(id);
+        productCacheRepository.saveDetail(id, loaded.orElse(null));
+        return loaded;
     }
 
     @Transactional(readOnly = true)
     public List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement statement, Pageable pageable) {
-        List <ProductInfo.ProductWithSignal> cached = productCacheRepository.findWithSignal(statement, pageable);
-        if (!cached.isEmpty()) {
-            return cached;
+        Optional<List<ProductInfo.ProductWithSignal>> cached = productCacheRepository.findWithSignal(statement, pageable);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return productCacheLoader.load(statement, pageable, () -> readWithSignals(statement, pageable));
+    }
+
+    private List<ProductInfo.ProductWithSignal> readWithSignals(ProductStatement statement, Pageable pageable) {
+        if (!(statement.getOrderBy() instanceof ProductStatement.LikeCount) || !productRankingRepository.isReady()) {
+            return productCacheReader.findWithSignals(statement, pageable);
         }
-        List<ProductInfo.ProductWithSignal> productWithSignals = productReader.findWithSignals(statement, pageable);
-        return  productCacheRepository.save(statement, pageable, productWithSignals);
+        // 랭킹 인덱스에서 id 만 얻고, 상품 정보는 한 번에 조회한 뒤 랭킹 순서대로 다시 정렬한다.
+        List<Long> ids = productRankingRepository.findIds(statement.getBrandId(), pageable);
+        Map<Long, ProductInfo.ProductWithSignal> products = productCacheReader.findWithSignals(ids).stream()
+                .collect(Collectors.toMap(ProductInfo.ProductWithSignal::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .filter(product -> product.getState().getValue() == ProductEntity.State.StateType.OPEN)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement statement, ProductCursor cursor, int size) {
+        ProductCursor.assertSupported(statement.getOrderBy());
+        return productReader.findWithSignals(statement, cursor, size);
     }
 
     @Transactional(readOnly = true)
@@ -85,11 +201,21 @@ public class ProductService {
         return productReader.findWithSignals(ids);
     }
 
+    /**
+     * 캐시된 좋아요 수에 커밋된 변경분을 더한다.
+     */
+    public void increaseCachedLikeCount(Long id, long delta) {
+        productCacheRepository.increaseLikeCount(id, delta);
+    }
+
     @Transactional
     public ProductEntity release(Long id) {
         ProductEntity product = productRepository.find(id).orElseThrow(() -> new CoreException(
                 ErrorType.NOT_FOUND, "조회할 수 없는 상품입니다: " + id));
         product.release();
-        return productRepository.save(product);
+        ProductEntity released = productRepository.save(product);
+        Long likeCount = productReader.findWithSignal(id).map(ProductInfo.ProductWithSignal::getLikeCount).orElse(0L);
+        eventPublisher.publishEvent(new ProductCommand.Released(released.getId(), released.getBrandId(), likeCount));
+        return released;
     }
 }
@@ -0,0 +1,24 @@
+package com.loopers.domain.product;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 예약 확정으로 누적된 재고 차감분 묶음. token 단위로 한 번만 product 에 반영된다.
+ */
+public record ProductStockBatch(
+        String token,
+        List<ProductCommand.Deduct> items
+) {
+    public ProductStockBatch {
+        // 주문 재고 차감과 같은 순서로 행을 잠그도록 상품 id 순으로 정렬해 둔다.
+        items = items.stream()
+                .filter(item -> item.quantity() != null && item.quantity() > 0)
+                .sorted(Comparator.comparing(ProductCommand.Deduct::productId))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
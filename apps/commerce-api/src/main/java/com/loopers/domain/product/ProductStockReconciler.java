@@ -0,0 +1,40 @@
+package com.loopers.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductStockReconciler {
+    private final ProductInventoryRepository productInventoryRepository;
+    private final ProductService productService;
+
+    /**
+     * 확정된 재고 차감분을 product 에 반영한다.
+     * 반영에 실패한 배치는 확인하지 않고 남겨 두어 다음 실행에서 다시 시도한다.
+     *
+     * @return 이번 실행에서 반영한 배치 수
+     */
+    public int reconcile() {
+        int applied = 0;
+        for (ProductStockBatch batch : productInventoryRepository.drain()) {
+            try {
+                if (!batch.isEmpty() && productService.applyStockBatch(batch)) {
+                    applied++;
+                }
+                productInventoryRepository.acknowledge(batch.token());
+            } catch (Exception e) {
+                log.error("재고 차감분 반영 실패 - token: {}, size: {}", batch.token(), batch.items().size(), e);
+            }
+        }
+        return applied;
+    }
+
+    public int purge(ZonedDateTime before) {
+        return productService.purgeStockBatches(before);
+    }
+}
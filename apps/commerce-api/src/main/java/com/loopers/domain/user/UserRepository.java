@@ -6,5 +6,9 @@ public interface UserRepository {
     UserEntity save(UserEntity model);
     boolean exists(UserStatement criteria);
     Optional<UserEntity> find(Long id);
+    /**
+     * 한 번 존재를 확인한 id 는 다시 조회하지 않는다. 행을 물리 삭제하지 않으므로 결과가 바뀌지 않는다.
+     */
+    boolean exists(Long id);
     Optional<UserEntity> find(UserStatement criteria);
 }
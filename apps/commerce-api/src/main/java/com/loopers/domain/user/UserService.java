@@ -34,4 +34,8 @@ public class UserService {
     public Optional<UserEntity> find(Long id) {
         return userRepository.find(id);
     }
+
+    public boolean exists(Long id) {
+        return userRepository.exists(id);
+    }
 }
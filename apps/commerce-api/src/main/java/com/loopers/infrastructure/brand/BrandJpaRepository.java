@@ -3,5 +3,9 @@ package com.loopers.infrastructure.brand;
 import com.loopers.domain.brand.BrandEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+
 public interface BrandJpaRepository extends JpaRepository<BrandEntity, Long> {
+    List<BrandEntity> findAllByUpdatedAtGreaterThanEqual(ZonedDateTime updatedAt);
 }
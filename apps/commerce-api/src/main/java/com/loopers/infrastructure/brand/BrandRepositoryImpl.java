@@ -5,6 +5,7 @@ import com.loopers.domain.brand.BrandRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +28,14 @@ public class BrandRepositoryImpl implements BrandRepository {
     public List<BrandEntity> find(List<Long> ids) {
         return brandJpaRepository.findAllById(ids);
     }
+
+    @Override
+    public List<BrandEntity> findAll() {
+        return brandJpaRepository.findAll();
+    }
+
+    @Override
+    public List<BrandEntity> findUpdatedSince(ZonedDateTime since) {
+        return brandJpaRepository.findAllByUpdatedAtGreaterThanEqual(since);
+    }
 }
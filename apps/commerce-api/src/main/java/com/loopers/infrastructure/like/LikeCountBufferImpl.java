@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCountBatch;
+import com.loopers.domain.like.LikeCountBuffer;
+import com.loopers.domain.like.LikeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 좋아요 수 변경분을 like_count_delta 에 한 행씩 추가한다.
+ * 좋아요 행과 같은 트랜잭션에서 기록되므로, 좋아요가 커밋되면 변경분도 남고 롤백되면 함께 사라진다.
+ * 추가만 하므로 like_summary 처럼 같은 행을 두고 경합하지 않는다.
+ * drain 시 아직 배치에 속하지 않은 행에 token 과 가져간 시각을 붙이고, 그 token 의 합계만 반환한다.
+ * 다른 노드가 반영 중인 배치는 합계에 넣지 않아, 두 노드가 같은 변경분을 겹쳐 계산하지 않는다.
+ * 행은 acknowledge 전까지 남아 있고, 가져간 지 임대 시간이 지나도록 남은 배치는 중단된 노드의 것으로 보고 한 노드만 넘겨받는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LikeCountBufferImpl implements LikeCountBuffer {
+    private static final int DRAIN_SIZE = 10_000;
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(1);
+
+    private static final String INSERT_SQL = """
+INSERT INTO like_count_delta (target_id, target_type, delta, created_at) VALUES (?, ?, ?, ?)""";
+    /**
+     * 아직 커밋되지 않은 변경분이나 다른 노드가 떼어내는 중인 행은 기다리지 않고 건너뛴다.
+     */
+    private static final String CLAIM_SQL = """
+SELECT id FROM like_count_delta
+WHERE token IS NULL
+ORDER BY id
+LIMIT ?
+FOR UPDATE SKIP LOCKED""";
+    private static final String ASSIGN_SQL = """
+UPDATE like_count_delta SET token = ?, claimed_at = ? WHERE id = ?""";
+    private static final String FIND_EXPIRED_SQL = """
+SELECT DISTINCT token FROM like_count_delta
+WHERE token IS NOT NULL
+    AND (claimed_at IS NULL OR claimed_at < ?)""";
+    /**
+     * 행 락을 잡은 뒤 최신 값으로 조건을 다시 확인하므로, 같은 배치를 두 노드가 함께 넘겨받지 않는다.
+     */
+    private static final String TAKE_OVER_SQL = """
+UPDATE like_count_delta SET claimed_at = ?
+WHERE token = ?
+    AND (claimed_at IS NULL OR claimed_at < ?)""";
+    private static final String SUM_SQL = """
+SELECT target_type, target_id, SUM(delta) AS delta
+FROM like_count_delta
+WHERE token = ?
+GROUP BY target_type, target_id""";
+    private static final String DELETE_SQL = """
+DELETE FROM like_count_delta WHERE token = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 호출한 트랜잭션에 함께 기록한다.
+     */
+    @Override
+    public void add(Long targetId, LikeEntity.TargetType targetType, long delta) {
+        jdbcTemplate.update(INSERT_SQL, targetId, targetType.name(), delta, Timestamp.from(ZonedDateTime.now().toInstant()));
+    }
+
+    @Transactional
+    @Override
+    public List<LikeCountBatch> drain() {
+        Timestamp now = Timestamp.from(ZonedDateTime.now().toInstant());
+        Timestamp expiredBefore = Timestamp.from(ZonedDateTime.now().minus(CLAIM_LEASE).toInstant());
+        List<String> tokens = new ArrayList<>();
+        for (String expired : jdbcTemplate.queryForList(FIND_EXPIRED_SQL, String.class, expiredBefore)) {
+            if (jdbcTemplate.update(TAKE_OVER_SQL, now, expired, expiredBefore) > 0) {
+                tokens.add(expired);
+            }
+        }
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_SQL, Long.class, DRAIN_SIZE);
+        if (!ids.isEmpty()) {
+            String token = UUID.randomUUID().toString();
+            jdbcTemplate.batchUpdate(ASSIGN_SQL, ids, ids.size(), (ps, id) -> {
+                ps.setString(1, token);
+                ps.setTimestamp(2, now);
+                ps.setLong(3, id);
+            });
+            tokens.add(token);
+        }
+        List<LikeCountBatch> batches = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            List<LikeCountBatch.Delta> deltas = jdbcTemplate.query(SUM_SQL, (rs, rowNum) -> new LikeCountBatch.Delta(
+                    rs.getLong("target_id"),
+                    LikeEntity.TargetType.valueOf(rs.getString("target_type")),
+                    rs.getLong("delta")
+            ), token);
+            batches.add(new LikeCountBatch(token, deltas));
+        }
+        return batches;
+    }
+
+    @Override
+    public void acknowledge(String token) {
+        jdbcTemplate.update(DELETE_SQL, token);
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * like_summary 에 아직 반영하지 않은 좋아요 수 변경분.
+ * 좋아요와 같은 트랜잭션에서 추가되고, 반영을 마친 배치(token)는 삭제된다.
+ * claimedAt 은 배치로 떼어낸 시각이며, 반영하던 노드가 중단된 배치를 다른 노드가 넘겨받는 기준이 된다.
+ */
+@Getter
+@Entity
+@Table(name = "like_count_delta", indexes = {
+    @Index(name = "idx_lcd_token", columnList = "token")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LikeCountDeltaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LikeEntity.TargetType targetType;
+
+    @Column(nullable = false)
+    private long delta;
+
+    @Column(length = 36)
+    private String token;
+
+    private ZonedDateTime claimedAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+}
@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.like;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * like_summary 에 반영을 마친 좋아요 수 배치 token.
+ * 반영과 같은 트랜잭션에서 기록되므로, 같은 배치가 다시 반영되지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "like_count_flush", indexes = {
+    @Index(name = "idx_lcf_applied_at", columnList = "appliedAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LikeCountFlushEntity {
+    @Id
+    @Column(length = 36)
+    private String token;
+
+    @Column(nullable = false)
+    private ZonedDateTime appliedAt;
+}
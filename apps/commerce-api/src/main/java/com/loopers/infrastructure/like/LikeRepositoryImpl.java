@@ -1,12 +1,20 @@
 package com.loopers.infrastructure.like;
 
+import com.loopers.config.jpa.DataSourceRoutingContext;
+import com.loopers.domain.like.LikeCountBatch;
 import com.loopers.domain.like.LikeStatement;
 import com.loopers.domain.like.LikeEntity;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeSummaryEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,8 +22,24 @@ import java.util.Optional;
 @Component
 public class LikeRepositoryImpl implements LikeRepository {
 
+    private static final String INSERT_FLUSH_SQL = """
+INSERT INTO like_count_flush (token, applied_at) VALUES (?, ?)""";
+    private static final String UPSERT_SUMMARY_SQL = """
+INSERT INTO like_summary (target_id, target_type, like_count, version)
+VALUES (?, ?, GREATEST(?, 0), 0)
+ON DUPLICATE KEY UPDATE like_count = GREATEST(like_count + ?, 0), version = version + 1""";
+    private static final String INSERT_LIKE_SQL = """
+INSERT IGNORE INTO likes (user_id, target_id, target_type) VALUES (?, ?, ?)""";
+    private static final String DELETE_LIKE_SQL = """
+DELETE FROM likes WHERE user_id = ? AND target_id = ? AND target_type = ?""";
+    private static final String FIND_TARGET_IDS_SQL = """
+SELECT target_id FROM likes WHERE user_id = ? AND target_type = ?""";
+    private static final String DELETE_FLUSH_SQL = """
+DELETE FROM like_count_flush WHERE applied_at < ?""";
+
     private final LikeJpaRepository likeJpaRepository;
     private final LikeSummaryJpaRepository likeSummaryJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public LikeEntity save(LikeEntity like) {
@@ -27,12 +51,33 @@ public class LikeRepositoryImpl implements LikeRepository {
         return like;
     }
 
+    @Override
+    public boolean insertIfAbsent(LikeEntity like) {
+        // 중복 키면 0 행이 반영된다.
+        return jdbcTemplate.update(INSERT_LIKE_SQL, like.getUserId(), like.getTargetId(), like.getTargetType().name()) > 0;
+    }
+
+    @Override
+    public boolean deleteIfPresent(LikeEntity like) {
+        return jdbcTemplate.update(DELETE_LIKE_SQL, like.getUserId(), like.getTargetId(), like.getTargetType().name()) > 0;
+    }
+
     @Override
     public List<LikeEntity> findList(LikeStatement criteria) {
         var spec = LikeJpaSpecification.with(criteria);
         return likeJpaRepository.findAll(spec);
     }
 
+    /**
+     * 호출한 읽기 전용 트랜잭션이 이미 replica 커넥션을 잡았을 수 있으므로 새 트랜잭션에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public List<Long> findTargetIdsOnPrimary(Long userId, LikeEntity.TargetType targetType) {
+        return DataSourceRoutingContext.onPrimary(
+                () -> jdbcTemplate.queryForList(FIND_TARGET_IDS_SQL, Long.class, userId, targetType.name()));
+    }
+
     @Override
     public LikeSummaryEntity save(LikeSummaryEntity summary) {
         return likeSummaryJpaRepository.save(summary);
@@ -44,7 +89,28 @@ public class LikeRepositoryImpl implements LikeRepository {
     }
 
     @Override
-    public Optional<LikeSummaryEntity> findSummaryWithLock(Long targetId, LikeEntity.TargetType targetType) {
-        return likeSummaryJpaRepository.findWithLock(targetId, targetType);
+    public void addCount(Long targetId, LikeEntity.TargetType targetType, long delta) {
+        jdbcTemplate.update(UPSERT_SUMMARY_SQL, targetId, targetType.name(), delta, delta);
+    }
+
+    @Override
+    public boolean applyCountBatch(LikeCountBatch batch) {
+        try {
+            jdbcTemplate.update(INSERT_FLUSH_SQL, batch.token(), Timestamp.from(ZonedDateTime.now().toInstant()));
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SUMMARY_SQL, batch.deltas(), batch.deltas().size(), (ps, delta) -> {
+            ps.setLong(1, delta.targetId());
+            ps.setString(2, delta.targetType().name());
+            ps.setLong(3, delta.delta());
+            ps.setLong(4, delta.delta());
+        });
+        return true;
+    }
+
+    @Override
+    public int deleteCountBatches(ZonedDateTime appliedBefore) {
+        return jdbcTemplate.update(DELETE_FLUSH_SQL, Timestamp.from(appliedBefore.toInstant()));
     }
 }
@@ -0,0 +1,131 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.domain.like.LikedTargetSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 좋아요 대상을 Redis set 에 보관하고, 한 페이지의 id 를 SMISMEMBER 한 번으로 확인한다.
+ * 비어 있는 집합과 채워지지 않은 집합을 구분하기 위해, 채울 때 HYDRATED 표식을 함께 넣는다.
+ * <p>
+ * 좋아요/취소가 커밋되면 집합이 채워져 있지 않아도 사용자별 버전을 올린다. 채우기는 likes 를 읽기 전에 버전을 읽어 두고,
+ * 기록할 때 버전이 그대로일 때만 집합을 통째로 바꾼다. 읽은 뒤 커밋된 변경이 있으면 목록이 그 변경을 놓쳤을 수 있으므로
+ * 채우지 않고 다음 조회에 맡긴다. 그래서 채우는 도중 취소한 대상이 다시 들어가지 않는다.
+ * 집합과 버전 키는 같은 hash tag 를 써 Redis Cluster 에서도 한 스크립트로 다룬다.
+ */
+@RequiredArgsConstructor
+@Component
+public class LikedTargetSetImpl implements LikedTargetSet {
+    private static final String KEY_PREFIX = "liked-v2:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String HYDRATED = "-";
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(6);
+
+    /**
+     * KEYS[1]: 집합, KEYS[2]: 버전 / ARGV[1]: 읽어 둔 버전, ARGV[2]: TTL(초), ARGV[3..]: HYDRATED 와 대상 id
+     */
+    private static final RedisScript<Long> HYDRATE_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+    /**
+     * KEYS[1]: 집합, KEYS[2]: 버전 / ARGV[1]: HYDRATED, ARGV[2]: 대상 id, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return redis.call('SADD', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return redis.call('SREM', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Optional<Set<Long>> findLiked(Long userId, LikeEntity.TargetType targetType, Collection<Long> targetIds) {
+        Object[] members = new Object[targetIds.size() + 1];
+        members[0] = HYDRATED;
+        int i = 1;
+        for (Long targetId : targetIds) {
+            members[i++] = targetId.toString();
+        }
+        Map<Object, Boolean> memberships = redisTemplate.opsForSet().isMember(keyOf(userId, targetType), members);
+        if (memberships == null || !Boolean.TRUE.equals(memberships.get(HYDRATED))) {
+            return Optional.empty();
+        }
+        Set<Long> liked = new HashSet<>();
+        for (Long targetId : targetIds) {
+            if (Boolean.TRUE.equals(memberships.get(targetId.toString()))) {
+                liked.add(targetId);
+            }
+        }
+        return Optional.of(liked);
+    }
+
+    @Override
+    public long version(Long userId, LikeEntity.TargetType targetType) {
+        String version = redisTemplate.opsForValue().get(versionKeyOf(userId, targetType));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public boolean hydrate(Long userId, LikeEntity.TargetType targetType, long version, List<Long> likedIds) {
+        Object[] args = new Object[likedIds.size() + 3];
+        args[0] = Long.toString(version);
+        args[1] = Long.toString(TIME_TO_LIVE.toSeconds());
+        args[2] = HYDRATED;
+        for (int i = 0; i < likedIds.size(); i++) {
+            args[i + 3] = likedIds.get(i).toString();
+        }
+        Long hydrated = redisTemplate.execute(HYDRATE_SCRIPT,
+                List.of(keyOf(userId, targetType), versionKeyOf(userId, targetType)), args);
+        return hydrated != null && hydrated == 1L;
+    }
+
+    @Override
+    public void add(Long userId, LikeEntity.TargetType targetType, Long targetId) {
+        apply(ADD_SCRIPT, userId, targetType, targetId);
+    }
+
+    @Override
+    public void remove(Long userId, LikeEntity.TargetType targetType, Long targetId) {
+        apply(REMOVE_SCRIPT, userId, targetType, targetId);
+    }
+
+    private void apply(RedisScript<Long> script, Long userId, LikeEntity.TargetType targetType, Long targetId) {
+        redisTemplate.execute(script, List.of(keyOf(userId, targetType), versionKeyOf(userId, targetType)),
+                HYDRATED, targetId.toString(), Long.toString(TIME_TO_LIVE.toSeconds()));
+    }
+
+    private String keyOf(Long userId, LikeEntity.TargetType targetType) {
+        return KEY_PREFIX + "{" + targetType.name() + ":" + userId + "}";
+    }
+
+    private String versionKeyOf(Long userId, LikeEntity.TargetType targetType) {
+        return keyOf(userId, targetType) + VERSION_SUFFIX;
+    }
+}
@@ -1,9 +1,55 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderInfo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long>, JpaSpecificationExecutor<OrderEntity> {
 
+    /**
+     * 항목·쿠폰 컬렉션을 읽지 않도록 합계는 상관 서브쿼리로 계산한다.
+     */
+    @Query("""
+SELECT new com.loopers.domain.order.OrderInfo$Summary(
+    o.id, o.userId, o.createdAt, o.state,
+    (SELECT COALESCE(SUM(i.price * i.quantity), 0L) FROM OrderItemEntity i WHERE i.order = o),
+    (SELECT COALESCE(SUM(c.value), 0L) FROM OrderCouponEntity c WHERE c.order = o))
+FROM OrderEntity o
+WHERE o.userId = :userId
+AND o.id < :cursor
+ORDER BY o.id DESC
+""")
+    List<OrderInfo.Summary> findSummaries(Long userId, Long cursor, Pageable pageable);
+
+    @Query("""
+SELECT new com.loopers.domain.order.OrderInfo$Summary(
+    o.id, o.userId, o.createdAt, o.state,
+    (SELECT COALESCE(SUM(i.price * i.quantity), 0L) FROM OrderItemEntity i WHERE i.order = o),
+    (SELECT COALESCE(SUM(c.value), 0L) FROM OrderCouponEntity c WHERE c.order = o))
+FROM OrderEntity o
+WHERE o.id = :id
+""")
+    Optional<OrderInfo.Summary> findSummary(Long id);
+
+    @Query("""
+SELECT new com.loopers.domain.order.OrderInfo$Item(i.productId, p.name, i.quantity, i.price)
+FROM OrderItemEntity i
+LEFT JOIN ProductEntity p ON p.id = i.productId
+WHERE i.order.id = :orderId
+ORDER BY i.id
+""")
+    List<OrderInfo.Item> findItems(Long orderId);
+
+    @Query("""
+SELECT new com.loopers.domain.order.OrderInfo$Coupon(c.couponId, c.value)
+FROM OrderCouponEntity c
+WHERE c.order.id = :orderId
+""")
+    List<OrderInfo.Coupon> findCoupons(Long orderId);
 }
@@ -2,8 +2,10 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderStatement;
 import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderInfo;
 import com.loopers.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -35,4 +37,24 @@ public class OrderRepositoryImpl implements OrderRepository {
         Specification<OrderEntity> spec = OrderJpaSpecification.with(orderStatement);
         return jpaRepository.findAll(spec);
     }
+
+    @Override
+    public List<OrderInfo.Summary> findSummaries(Long userId, Long cursor, int size) {
+        return jpaRepository.findSummaries(userId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size));
+    }
+
+    @Override
+    public Optional<OrderInfo.Summary> findSummary(Long id) {
+        return jpaRepository.findSummary(id);
+    }
+
+    @Override
+    public List<OrderInfo.Item> findItems(Long orderId) {
+        return jpaRepository.findItems(orderId);
+    }
+
+    @Override
+    public List<OrderInfo.Coupon> findCoupons(Long orderId) {
+        return jpaRepository.findCoupons(orderId);
+    }
 }
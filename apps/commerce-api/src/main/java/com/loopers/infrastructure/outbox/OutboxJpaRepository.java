@@ -0,0 +1,7 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, Long> {
+}
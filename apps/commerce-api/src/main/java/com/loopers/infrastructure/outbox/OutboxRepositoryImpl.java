@@ -0,0 +1,116 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEntity;
+import com.loopers.domain.outbox.OutboxInfo;
+import com.loopers.domain.outbox.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 시각 비교와 계산은 저장 기준(UTC)과 어긋나지 않도록 DB 의 UTC_TIMESTAMP 로만 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxRepositoryImpl implements OutboxRepository {
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    /**
+     * 다른 노드가 잠근 행은 기다리지 않고 건너뛰므로, 여러 발송기가 같은 메시지를 동시에 가져가지 않는다.
+     */
+    private static final String CLAIM_SQL = """
+SELECT id, event_type, payload, attempts
+FROM outbox
+WHERE status = 'PENDING'
+    AND next_attempt_at <= UTC_TIMESTAMP(6)
+ORDER BY next_attempt_at
+LIMIT ?
+FOR UPDATE SKIP LOCKED""";
+    private static final String LEASE_SQL = """
+UPDATE outbox
+SET attempts = attempts + 1,
+    next_attempt_at = DATE_ADD(UTC_TIMESTAMP(6), INTERVAL ? MICROSECOND),
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String DELETE_SQL = """
+DELETE FROM outbox WHERE id = ?""";
+    private static final String RETRY_SQL = """
+UPDATE outbox
+SET next_attempt_at = DATE_ADD(UTC_TIMESTAMP(6), INTERVAL ? MICROSECOND),
+    last_error = ?,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String FAIL_SQL = """
+UPDATE outbox
+SET status = 'FAILED',
+    last_error = ?,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String LAG_SQL = """
+SELECT
+    COALESCE(SUM(status = 'PENDING'), 0) AS pending,
+    COALESCE(SUM(status = 'FAILED'), 0) AS failed,
+    COALESCE(TIMESTAMPDIFF(MICROSECOND, MIN(CASE WHEN status = 'PENDING' THEN created_at END), UTC_TIMESTAMP(6)), 0) AS oldest
+FROM outbox""";
+
+    private final OutboxJpaRepository outboxJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public OutboxEntity save(OutboxEntity outbox) {
+        return outboxJpaRepository.save(outbox);
+    }
+
+    @Override
+    public List<OutboxInfo.Message> claim(int size, Duration lease) {
+        List<OutboxInfo.Message> messages = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxInfo.Message(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getInt("attempts") + 1
+        ), size);
+        if (messages.isEmpty()) {
+            return messages;
+        }
+        long leaseMicros = lease.toNanos() / 1_000;
+        jdbcTemplate.batchUpdate(LEASE_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, leaseMicros);
+            ps.setLong(2, message.id());
+        });
+        return messages;
+    }
+
+    @Override
+    public void delete(Long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    @Override
+    public void retry(Long id, Duration backoff, String error) {
+        jdbcTemplate.update(RETRY_SQL, backoff.toNanos() / 1_000, truncate(error), id);
+    }
+
+    @Override
+    public void fail(Long id, String error) {
+        jdbcTemplate.update(FAIL_SQL, truncate(error), id);
+    }
+
+    @Override
+    public OutboxInfo.Lag findLag() {
+        return jdbcTemplate.queryForObject(LAG_SQL, (rs, rowNum) -> new OutboxInfo.Lag(
+                rs.getLong("pending"),
+                rs.getLong("failed"),
+                Duration.ofNanos(rs.getLong("oldest") * 1_000)
+        ));
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= ERROR_MAX_LENGTH) {
+            return error;
+        }
+        return error.substring(0, ERROR_MAX_LENGTH);
+    }
+}
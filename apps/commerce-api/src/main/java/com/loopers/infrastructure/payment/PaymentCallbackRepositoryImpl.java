@@ -0,0 +1,181 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackInfo;
+import com.loopers.domain.payment.PaymentCallbackRepository;
+import com.loopers.domain.payment.PaymentCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 시각 비교와 계산은 저장 기준(UTC)과 어긋나지 않도록 DB 의 UTC_TIMESTAMP 로만 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PaymentCallbackRepositoryImpl implements PaymentCallbackRepository {
+    private static final int TEXT_MAX_LENGTH = 500;
+
+    /**
+     * transaction_key 유니크 인덱스에 걸리면 기존 행을 그대로 둔다.
+     * INSERT IGNORE 와 달리 길이 초과나 NOT NULL 위반 같은 다른 오류는 경고로 삼키지 않고 예외로 드러낸다.
+     */
+    private static final String ENQUEUE_SQL = """
+INSERT INTO payment_callback
+    (transaction_key, order_key, card_type, card_no, amount, transaction_status, reason,
+     status, attempts, next_attempt_at, created_at, updated_at)
+VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))
+ON DUPLICATE KEY UPDATE id = id""";
+    /**
+     * 다른 노드가 잠근 행은 기다리지 않고 건너뛰므로, 여러 처리기가 같은 콜백을 동시에 가져가지 않는다.
+     */
+    private static final String CLAIM_SQL = """
+SELECT id, transaction_key, order_key, card_type, card_no, amount, transaction_status, reason, attempts,
+    TIMESTAMPDIFF(MICROSECOND, created_at, UTC_TIMESTAMP(6)) AS waited
+FROM payment_callback
+WHERE status = 'PENDING'
+    AND next_attempt_at <= UTC_TIMESTAMP(6)
+ORDER BY next_attempt_at
+LIMIT ?
+FOR UPDATE SKIP LOCKED""";
+    private static final String LEASE_SQL = """
+UPDATE payment_callback
+SET attempts = attempts + 1,
+    next_attempt_at = DATE_ADD(UTC_TIMESTAMP(6), INTERVAL ? MICROSECOND),
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String COMPLETE_SQL = """
+UPDATE payment_callback
+SET status = 'COMPLETED',
+    last_error = NULL,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String RETRY_SQL = """
+UPDATE payment_callback
+SET next_attempt_at = DATE_ADD(UTC_TIMESTAMP(6), INTERVAL ? MICROSECOND),
+    last_error = ?,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String FAIL_SQL = """
+UPDATE payment_callback
+SET status = 'FAILED',
+    last_error = ?,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?""";
+    private static final String PURGE_SQL = """
+DELETE FROM payment_callback
+WHERE status = 'COMPLETED'
+    AND updated_at < DATE_SUB(UTC_TIMESTAMP(6), INTERVAL ? MICROSECOND)
+LIMIT ?""";
+    private static final String LAG_SQL = """
+SELECT
+    COALESCE(SUM(status = 'PENDING'), 0) AS pending,
+    COALESCE(SUM(status = 'FAILED'), 0) AS failed,
+    COALESCE(TIMESTAMPDIFF(MICROSECOND, MIN(CASE WHEN status = 'PENDING' THEN created_at END), UTC_TIMESTAMP(6)), 0) AS oldest
+FROM payment_callback
+WHERE status IN ('PENDING', 'FAILED')""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Connector/J 는 기본으로 변경되지 않은 행도 영향받은 행으로 세므로(CLIENT_FOUND_ROWS), 반영 건수 대신
+     * 생성된 키로 새로 기록했는지 판단한다. 중복 키로 바뀐 값이 없으면 생성된 키가 반환되지 않는다.
+     */
+    @Override
+    public boolean enqueue(PaymentCommand.Callback callback) {
+        ArgumentPreparedStatementSetter setter = new ArgumentPreparedStatementSetter(new Object[]{
+                callback.transactionKey(),
+                callback.orderKey(),
+                callback.cardType(),
+                callback.cardNo(),
+                callback.amount(),
+                callback.status(),
+                truncate(callback.reason())
+        });
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(ENQUEUE_SQL, Statement.RETURN_GENERATED_KEYS);
+            setter.setValues(ps);
+            return ps;
+        }, keyHolder);
+        return !keyHolder.getKeyList().isEmpty();
+    }
+
+    @Override
+    public List<PaymentCallbackInfo.Message> claim(int size, Duration lease) {
+        List<PaymentCallbackInfo.Message> callbacks = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new PaymentCallbackInfo.Message(
+                rs.getLong("id"),
+                rs.getString("transaction_key"),
+                rs.getString("order_key"),
+                rs.getString("card_type"),
+                rs.getString("card_no"),
+                rs.getString("amount"),
+                rs.getString("transaction_status"),
+                rs.getString("reason"),
+                rs.getInt("attempts") + 1,
+                Duration.ofNanos(rs.getLong("waited") * 1_000)
+        ), size);
+        if (callbacks.isEmpty()) {
+            return callbacks;
+        }
+        long leaseMicros = lease.toNanos() / 1_000;
+        jdbcTemplate.batchUpdate(LEASE_SQL, callbacks, callbacks.size(), (ps, callback) -> {
+            ps.setLong(1, leaseMicros);
+            ps.setLong(2, callback.id());
+        });
+        return callbacks;
+    }
+
+    @Override
+    public void complete(List<Long> ids) {
+        jdbcTemplate.batchUpdate(COMPLETE_SQL, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    @Override
+    public void retry(List<Long> ids, Duration backoff, String error) {
+        long backoffMicros = backoff.toNanos() / 1_000;
+        String lastError = truncate(error);
+        jdbcTemplate.batchUpdate(RETRY_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setLong(1, backoffMicros);
+            ps.setString(2, lastError);
+            ps.setLong(3, id);
+        });
+    }
+
+    @Override
+    public void fail(List<Long> ids, String error) {
+        String lastError = truncate(error);
+        jdbcTemplate.batchUpdate(FAIL_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, lastError);
+            ps.setLong(2, id);
+        });
+    }
+
+    @Override
+    public int purge(Duration retention, int size) {
+        return jdbcTemplate.update(PURGE_SQL, retention.toNanos() / 1_000, size);
+    }
+
+    @Override
+    public PaymentCallbackInfo.Lag findLag() {
+        return jdbcTemplate.queryForObject(LAG_SQL, (rs, rowNum) -> new PaymentCallbackInfo.Lag(
+                rs.getLong("pending"),
+                rs.getLong("failed"),
+                Duration.ofNanos(rs.getLong("oldest") * 1_000)
+        ));
+    }
+
+    private String truncate(String text) {
+        if (text == null || text.length() <= TEXT_MAX_LENGTH) {
+            return text;
+        }
+        return text.substring(0, TEXT_MAX_LENGTH);
+    }
+}
@@ -5,12 +5,17 @@ import com.loopers.domain.payment.PaymentInfo;
 import com.loopers.domain.payment.PaymentStatement;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,32 +26,33 @@ public class PaymentGatewayImpl implements PaymentGateway {
 
     @Override
     public Optional<PaymentInfo.Order> findOrder(Long userId, String orderKey) {
-        try{
-            var response = pgV1FeignClient.findOrder(orderKey, String.valueOf(userId));
-            if(response.data() == null) return Optional.empty();
-            PgV1Dto.Response.Order dto = response.data();
-            return Optional.of(dto.getInfo());
-        } catch (CallNotPermittedException e) {
-            log.error("PG findOrder 서킷브레이커 오픈", e);
-            throw new CoreException(ErrorType.INTERNAL_ERROR, "PG 서비스가 현재 사용 불가능합니다. 잠시 후 다시 시도해주세요.");
-        }
+        return await(findOrderAsync(userId, orderKey));
     }
 
     @Override
     public Optional<PaymentInfo.Transaction> findTransaction(Long userId, String transactionKey) {
-        try{
-            var response = pgV1FeignClient.findTransaction(transactionKey, String.valueOf(userId));
-            if (response.data() == null) return Optional.empty();
-            PgV1Dto.Response.Transaction dto = response.data();
-            return Optional.of(dto.getInfo());
-        } catch (CallNotPermittedException e) {
-            log.error("PG findTransaction 서킷브레이커 오픈", e);
-            throw new CoreException(ErrorType.INTERNAL_ERROR, "PG 서비스가 현재 사용 불가능합니다. 잠시 후 다시 시도해주세요.");
-        }
+        return await(findTransactionAsync(userId, transactionKey));
     }
 
     @Override
     public PaymentInfo.Transaction request(PaymentStatement.Request requestStatement) {
+        return await(requestAsync(requestStatement));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PaymentInfo.Order>> findOrderAsync(Long userId, String orderKey) {
+        return translate("findOrder", () -> pgV1FeignClient.findOrder(orderKey, String.valueOf(userId))
+                .thenApply(response -> Optional.ofNullable(response.data()).map(PgV1Dto.Response.Order::getInfo)));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PaymentInfo.Transaction>> findTransactionAsync(Long userId, String transactionKey) {
+        return translate("findTransaction", () -> pgV1FeignClient.findTransaction(transactionKey, String.valueOf(userId))
+                .thenApply(response -> Optional.ofNullable(response.data()).map(PgV1Dto.Response.Transaction::getInfo)));
+    }
+
+    @Override
+    public CompletableFuture<PaymentInfo.Transaction> requestAsync(PaymentStatement.Request requestStatement) {
         PgV1Dto.Request.Transaction request = new PgV1Dto.Request.Transaction(
                 requestStatement.orderKey(),
                 requestStatement.cardType(),
@@ -54,12 +60,61 @@ public class PaymentGatewayImpl implements PaymentGateway {
                 requestStatement.totalPrice(),
                 CALLBACK_URL
         );
-        try{
-            var response = pgV1FeignClient.request(String.valueOf(requestStatement.userId()), request);
-            return response.data().getInfo();
-        } catch (CallNotPermittedException e) {
-            log.error("PG request 서킷브레이커 오픈", e);
-            throw new CoreException(ErrorType.INTERNAL_ERROR, "PG 서비스가 현재 사용 불가능합니다. 잠시 후 다시 시도해주세요.");
+        return translate("request", () -> pgV1FeignClient.request(String.valueOf(requestStatement.userId()), request)
+                .thenApply(response -> response.data().getInfo()));
+    }
+
+    /**
+     * 서킷브레이커 오픈/동시 호출 초과는 aspect 가 바로 던지거나 실패한 future 로 돌려주므로 두 경로 모두 변환한다.
+     * PG 에 요청이 나가지 않았으므로 SERVICE_UNAVAILABLE 로 알려, 결제를 실패로 보지 않고 다시 시도하게 한다.
+     */
+    private <T> CompletableFuture<T> translate(String operation, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((result, throwable) -> {
+            if (throwable == null) {
+                return result;
+            }
+            Throwable cause = unwrap(throwable);
+            if (cause instanceof CallNotPermittedException) {
+                log.warn("PG {} 서킷브레이커 오픈", operation, cause);
+                throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "PG 서비스가 현재 사용 불가능합니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (cause instanceof BulkheadFullException) {
+                log.warn("PG {} 동시 호출 한도 초과", operation, cause);
+                throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "PG 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "PG 응답 대기 중 인터럽트되었습니다.");
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 }
@@ -1,8 +1,12 @@
 package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.PaymentEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long> {
@@ -10,4 +14,16 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long>
     Optional<PaymentEntity> findByOrderId(Long orderId);
 
     Optional<PaymentEntity> findByOrderKey(String orderKey);
+
+    @Query("""
+SELECT p FROM PaymentEntity p
+WHERE p.state = :state
+AND p.updatedAt < :before
+AND MOD(p.id, :shardCount) IN :shards
+AND p.id > :afterId
+ORDER BY p.id ASC""")
+    List<PaymentEntity> findStale(PaymentEntity.State state, ZonedDateTime before, int shardCount, List<Integer> shards, Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM PaymentEntity p WHERE p.state = :state AND p.updatedAt < :before")
+    long countStale(PaymentEntity.State state, ZonedDateTime before);
 }
@@ -2,9 +2,13 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.PaymentEntity;
 import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.util.uuid.UuidStringBinaryConverter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -34,6 +38,20 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 
     @Override
     public Optional<PaymentEntity> findByOrderKey(String orderKey) {
+        // BINARY(16) 로 바꿀 수 없는 키는 저장된 적이 없다.
+        if (!UuidStringBinaryConverter.isUuid(orderKey)) {
+            return Optional.empty();
+        }
         return jpaRepository.findByOrderKey(orderKey);
     }
+
+    @Override
+    public List<PaymentEntity> findStalePending(List<Integer> shards, int shardCount, ZonedDateTime before, Long afterId, int size) {
+        return jpaRepository.findStale(PaymentEntity.State.PENDING, before, shardCount, shards, afterId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public long countStalePending(ZonedDateTime before) {
+        return jpaRepository.countStale(PaymentEntity.State.PENDING, before);
+    }
 }
@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스윕 노드 목록은 members sorted set(노드 id -> 마지막 신호 시각), shard 소유권은 shard:{n} 문자열(노드 id)로 둔다.
+ * 노드 간 시계 차이에 흔들리지 않도록 신호 시각은 Redis 서버 시각을 쓴다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PaymentShardRepositoryImpl implements PaymentShardRepository {
+    private static final String PREFIX = "payment_sweep-v1:";
+    private static final String MEMBERS_KEY = PREFIX + "members";
+    private static final String SHARD_PREFIX = PREFIX + "shard:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HEARTBEAT_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZADD', KEYS[1], now, ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - tonumber(ARGV[2]))
+            return redis.call('ZRANGE', KEYS[1], 0, -1)
+            """, List.class);
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> heartbeat(String nodeId, Duration timeout) {
+        List<String> members = redisTemplate.execute(HEARTBEAT_SCRIPT, List.of(MEMBERS_KEY),
+                nodeId, String.valueOf(timeout.toMillis()));
+        return members == null ? List.of(nodeId) : members;
+    }
+
+    @Override
+    public boolean acquire(int shard, String nodeId, Duration leaseTimeout) {
+        Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(SHARD_PREFIX + shard),
+                nodeId, String.valueOf(leaseTimeout.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void release(int shard, String nodeId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(SHARD_PREFIX + shard), nodeId);
+    }
+}
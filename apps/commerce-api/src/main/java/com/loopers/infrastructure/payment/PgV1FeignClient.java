@@ -1,15 +1,24 @@
 package com.loopers.infrastructure.payment;
 
 import com.loopers.interfaces.api.ApiResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
 import static com.loopers.support.resilience.ResilienceConstant.*;
 
 @Slf4j
@@ -20,60 +29,115 @@ public class PgV1FeignClient {
     private final FindOrder findOrder;
     private final FindTransaction findTransaction;
 
+    /**
+     * Feign 호출은 블로킹이므로 가상 스레드에서 실행하고, 호출한 스레드에는 future 만 돌려준다.
+     * CompletionStage 를 반환하므로 재시도 대기와 bulkhead 도 스레드를 붙잡지 않는다.
+     */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
     @CircuitBreaker(name = PG_REQUEST_CB, fallbackMethod = "requestFallback")
     @Retry(name = PG_REQUEST_RT)
-    ApiResponse<PgV1Dto.Response.Transaction> request(String userId, PgV1Dto.Request.Transaction request) {
-        log.info("PG 결제 요청 시작 - userId: {}, request: {}", userId, request);
-        try {
-            ApiResponse<PgV1Dto.Response.Transaction> response = this.request.request(userId, request);
-            log.info("PG 결제 요청 성공 - userId: {}, response: {}", userId, response);
-            return response;
-        } catch (Exception e) {
-            log.error("PG 결제 요청 실패 - userId: {}, request: {}, error: {}", userId, request, e.getMessage(), e);
-            throw e;
-        }
+    @Bulkhead(name = PG_REQUEST_BH)
+    CompletableFuture<ApiResponse<PgV1Dto.Response.Transaction>> request(String userId, PgV1Dto.Request.Transaction request) {
+        return submit(() -> {
+            log.info("PG 결제 요청 시작 - userId: {}, request: {}", userId, request);
+            try {
+                ApiResponse<PgV1Dto.Response.Transaction> response = this.request.request(userId, request);
+                log.info("PG 결제 요청 성공 - userId: {}, response: {}", userId, response);
+                return response;
+            } catch (Exception e) {
+                log.error("PG 결제 요청 실패 - userId: {}, request: {}, error: {}", userId, request, e.getMessage(), e);
+                throw e;
+            }
+        });
     }
 
     @CircuitBreaker(name = PG_FIND_CB, fallbackMethod = "findOrderFallback")
-    ApiResponse<PgV1Dto.Response.Order> findOrder(String orderKey, String userId) {
-        log.info("PG 주문 조회 시작 - orderKey: {}, userId: {}", orderKey, userId);
-        try {
-            ApiResponse<PgV1Dto.Response.Order> response = this.findOrder.findOrder(orderKey, userId);
-            log.info("PG 주문 조회 성공 - orderKey: {}, userId: {}, response: {}", orderKey, userId, response);
-            return response;
-        } catch (Exception e) {
-            log.error("PG 주문 조회 실패 - orderKey: {}, userId: {}, error: {}", orderKey, userId, e.getMessage(), e);
-            throw e;
-        }
+    @Bulkhead(name = PG_FIND_BH)
+    CompletableFuture<ApiResponse<PgV1Dto.Response.Order>> findOrder(String orderKey, String userId) {
+        return submit(() -> {
+            log.info("PG 주문 조회 시작 - orderKey: {}, userId: {}", orderKey, userId);
+            try {
+                ApiResponse<PgV1Dto.Response.Order> response = this.findOrder.findOrder(orderKey, userId);
+                log.info("PG 주문 조회 성공 - orderKey: {}, userId: {}, response: {}", orderKey, userId, response);
+                return response;
+            } catch (Exception e) {
+                log.error("PG 주문 조회 실패 - orderKey: {}, userId: {}, error: {}", orderKey, userId, e.getMessage(), e);
+                throw e;
+            }
+        });
     }
 
     @CircuitBreaker(name = PG_FIND_CB, fallbackMethod = "findTransactionFallback")
-    ApiResponse<PgV1Dto.Response.Transaction> findTransaction(String transactionKey, String userId) {
-        log.info("PG 거래 조회 시작 - transactionKey: {}, userId: {}", transactionKey, userId);
-        try {
-            ApiResponse<PgV1Dto.Response.Transaction> response = this.findTransaction.findTransaction(transactionKey, userId);
-            log.info("PG 거래 조회 성공 - transactionKey: {}, userId: {}, response: {}", transactionKey, userId, response);
-            return response;
-        } catch (Exception e) {
-            log.error("PG 거래 조회 실패 - transactionKey: {}, userId: {}, error: {}", transactionKey, userId, e.getMessage(), e);
-            throw e;
-        }
+    @Bulkhead(name = PG_FIND_BH)
+    CompletableFuture<ApiResponse<PgV1Dto.Response.Transaction>> findTransaction(String transactionKey, String userId) {
+        return submit(() -> {
+            log.info("PG 거래 조회 시작 - transactionKey: {}, userId: {}", transactionKey, userId);
+            try {
+                ApiResponse<PgV1Dto.Response.Transaction> response = this.findTransaction.findTransaction(transactionKey, userId);
+                log.info("PG 거래 조회 성공 - transactionKey: {}, userId: {}, response: {}", transactionKey, userId, response);
+                return response;
+            } catch (Exception e) {
+                log.error("PG 거래 조회 실패 - transactionKey: {}, userId: {}, error: {}", transactionKey, userId, e.getMessage(), e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 예외를 CompletionException 으로 감싸지 않고 그대로 전달해, 재시도/서킷브레이커의 예외 분류가 동기 호출과 같게 한다.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(call.get());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
     }
 
     // Fallback 메서드들
-    private ApiResponse<PgV1Dto.Response.Transaction> requestFallback(String userId, PgV1Dto.Request.Transaction request, Exception e) {
+    private CompletableFuture<ApiResponse<PgV1Dto.Response.Transaction>> requestFallback(String userId, PgV1Dto.Request.Transaction request, Exception e) {
+        if (isRejected(e)) {
+            log.warn("PG 결제 요청 거절 - userId: {}, request: {}, error: {}", userId, request, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
         log.error("PG 결제 요청 Circuit Breaker 활성화 - userId: {}, request: {}, error: {}", userId, request, e.getMessage(), e);
-        throw new RuntimeException("PG 결제 요청 실패 - Circuit Breaker 활성화", e);
+        return CompletableFuture.failedFuture(new RuntimeException("PG 결제 요청 실패 - Circuit Breaker 활성화", e));
     }
 
-    private ApiResponse<PgV1Dto.Response.Order> findOrderFallback(String orderKey, String userId, Exception e) {
+    private CompletableFuture<ApiResponse<PgV1Dto.Response.Order>> findOrderFallback(String orderKey, String userId, Exception e) {
+        if (isRejected(e)) {
+            log.warn("PG 주문 조회 거절 - orderKey: {}, userId: {}, error: {}", orderKey, userId, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
         log.error("PG 주문 조회 Circuit Breaker 활성화 - orderKey: {}, userId: {}, error: {}", orderKey, userId, e.getMessage(), e);
-        throw new RuntimeException("PG 주문 조회 실패 - Circuit Breaker 활성화", e);
+        return CompletableFuture.failedFuture(new RuntimeException("PG 주문 조회 실패 - Circuit Breaker 활성화", e));
     }
 
-    private ApiResponse<PgV1Dto.Response.Transaction> findTransactionFallback(String transactionKey, String userId, Exception e) {
+    private CompletableFuture<ApiResponse<PgV1Dto.Response.Transaction>> findTransactionFallback(String transactionKey, String userId, Exception e) {
+        if (isRejected(e)) {
+            log.warn("PG 거래 조회 거절 - transactionKey: {}, userId: {}, error: {}", transactionKey, userId, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
         log.error("PG 거래 조회 Circuit Breaker 활성화 - transactionKey: {}, userId: {}, error: {}", transactionKey, userId, e.getMessage(), e);
-        throw new RuntimeException("PG 거래 조회 실패 - Circuit Breaker 활성화", e);
+        return CompletableFuture.failedFuture(new RuntimeException("PG 거래 조회 실패 - Circuit Breaker 활성화", e));
+    }
+
+    /**
+     * 서킷브레이커 오픈/동시 호출 초과로 PG 에 요청을 보내지도 않은 경우.
+     * 감싸지 않고 그대로 돌려주어 호출한 쪽이 주문을 취소하지 않고 다시 시도할 수 있게 한다.
+     */
+    private static boolean isRejected(Exception e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
     }
 
     @FeignClient(
@@ -0,0 +1,255 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * -v2 형식. 버전 바이트 뒤에 봉투와 상품 목록을 고정된 필드 순서로 기록한다.
+ * <pre>
+ * version(1) recomputeMillis expireAtMillis count
+ * { id name brandId price stock createdAt updatedAt state releasedAt likeCount } * count
+ * </pre>
+ * 숫자는 가변 길이(varint)로, 시각은 epoch millis 로, 상태는 {@link #STATES} 사전의 번호로 기록한다.
+ * null 이 될 수 있는 값은 0 을 null 로 두고 값 + 1 을 기록한다.
+ * 필드를 추가하거나 순서를 바꾸면 버전을 올리고, 배포 중에는 이전 버전도 읽어야 한다.
+ * <p>
+ * 목록 페이지의 id 목록은 별도 버전({@link #IDS_VERSION})으로 기록한다.
+ * <pre>
+ * version(1) recomputeMillis expireAtMillis count { id } * count
+ * </pre>
+ */
+public class ProductCacheBinaryCodec implements ProductCacheCodec {
+    static final byte VERSION = 2;
+    static final byte IDS_VERSION = 3;
+    private static final int ESTIMATED_ITEM_SIZE = 64;
+    /**
+     * 기록된 번호가 바뀌지 않도록 상태는 뒤에만 추가한다.
+     */
+    private static final ProductEntity.State.StateType[] STATES = {
+            ProductEntity.State.StateType.CLOSED,
+            ProductEntity.State.StateType.OPEN,
+            ProductEntity.State.StateType.OUT_OF_STOCK,
+    };
+    private static final int NULL_STATE = 0;
+
+    @Override
+    public byte[] encode(ProductCachePage page) {
+        List<ProductInfo.ProductWithSignal> products = page.productWithSignals();
+        Writer writer = new Writer(16 + products.size() * ESTIMATED_ITEM_SIZE);
+        writer.writeByte(VERSION);
+        writer.writeVarLong(page.recomputeMillis());
+        writer.writeVarLong(page.expireAtMillis());
+        writer.writeVarLong(products.size());
+        for (ProductInfo.ProductWithSignal product : products) {
+            writer.writeNullableLong(product.getId());
+            writer.writeNullableString(product.getName());
+            writer.writeNullableLong(product.getBrandId());
+            writer.writeNullableLong(product.getPrice());
+            writer.writeNullableLong(product.getStock());
+            writer.writeNullableLong(toEpochMillis(product.getCreatedAt()));
+            writer.writeNullableLong(toEpochMillis(product.getUpdatedAt()));
+            ProductEntity.State state = product.getState();
+            writer.writeVarLong(state == null ? NULL_STATE : indexOf(state.getValue()) + 1);
+            writer.writeNullableLong(state == null ? null : toEpochMillis(state.getReleasedAt()));
+            writer.writeNullableLong(product.getLikeCount());
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public ProductCachePage decode(byte[] encoded) {
+        try {
+            Reader reader = new Reader(encoded);
+            if (reader.readByte() != VERSION) {
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패: 지원하지 않는 캐시 버전");
+            }
+            long recomputeMillis = reader.readVarLong();
+            long expireAtMillis = reader.readVarLong();
+            int count = (int) reader.readVarLong();
+            List<ProductInfo.ProductWithSignal> products = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Long id = reader.readNullableLong();
+                String name = reader.readNullableString();
+                Long brandId = reader.readNullableLong();
+                Long price = reader.readNullableLong();
+                Long stock = reader.readNullableLong();
+                ZonedDateTime createdAt = toZonedDateTime(reader.readNullableLong());
+                ZonedDateTime updatedAt = toZonedDateTime(reader.readNullableLong());
+                int stateIndex = (int) reader.readVarLong();
+                ZonedDateTime releasedAt = toZonedDateTime(reader.readNullableLong());
+                ProductEntity.State state = stateIndex == NULL_STATE
+                        ? null
+                        : ProductEntity.State.of(STATES[stateIndex - 1].name(), releasedAt);
+                Long likeCount = reader.readNullableLong();
+                products.add(ProductInfo.ProductWithSignal.of(
+                        id, name, brandId, price, stock, createdAt, updatedAt, state, likeCount));
+            }
+            return new ProductCachePage(products, recomputeMillis, expireAtMillis);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패: 잘린 캐시 값");
+        }
+    }
+
+    public byte[] encodeIds(ProductCacheIdPage page) {
+        Writer writer = new Writer(16 + page.ids().size() * 4);
+        writer.writeByte(IDS_VERSION);
+        writer.writeVarLong(page.recomputeMillis());
+        writer.writeVarLong(page.expireAtMillis());
+        writer.writeVarLong(page.ids().size());
+        for (Long id : page.ids()) {
+            writer.writeVarLong(id);
+        }
+        return writer.toByteArray();
+    }
+
+    public ProductCacheIdPage decodeIds(byte[] encoded) {
+        try {
+            Reader reader = new Reader(encoded);
+            if (reader.readByte() != IDS_VERSION) {
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패: 지원하지 않는 캐시 버전");
+            }
+            long recomputeMillis = reader.readVarLong();
+            long expireAtMillis = reader.readVarLong();
+            int count = (int) reader.readVarLong();
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(reader.readVarLong());
+            }
+            return new ProductCacheIdPage(ids, recomputeMillis, expireAtMillis);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패: 잘린 캐시 값");
+        }
+    }
+
+    @Override
+    public boolean canDecode(byte[] encoded) {
+        return encoded[0] == VERSION;
+    }
+
+    private static int indexOf(ProductEntity.State.StateType stateType) {
+        for (int i = 0; i < STATES.length; i++) {
+            if (STATES[i] == stateType) {
+                return i;
+            }
+        }
+        throw new CoreException(ErrorType.INTERNAL_ERROR, "직렬화 실패: 사전에 없는 상품 상태 " + stateType);
+    }
+
+    private static Long toEpochMillis(ZonedDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toInstant().toEpochMilli();
+    }
+
+    /**
+     * JSON 형식을 읽었을 때와 같도록 UTC 로 복원한다.
+     */
+    private static ZonedDateTime toZonedDateTime(Long epochMillis) {
+        return epochMillis == null ? null : Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC);
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeNullableLong(Long value) {
+            writeVarLong(value == null ? 0 : zigZag(value) + 1);
+        }
+
+        private void writeNullableString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private byte readByte() {
+            return buffer[position++];
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        private Long readNullableLong() {
+            long value = readVarLong();
+            return value == 0 ? null : unZigZag(value - 1);
+        }
+
+        private String readNullableString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+            position += length - 1;
+            return value;
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.product;
+
+/**
+ * 캐시된 상품 목록 페이지를 Redis 값으로 인코딩한다.
+ * 인코딩 형식이 바뀌어도 배포 중에는 이전 형식이 함께 남아 있으므로, 읽을 때는 첫 바이트로 형식을 판별한다.
+ */
+public interface ProductCacheCodec {
+    byte[] encode(ProductCachePage page);
+
+    ProductCachePage decode(byte[] encoded);
+
+    /**
+     * @param encoded 비어 있지 않은 값
+     */
+    boolean canDecode(byte[] encoded);
+}
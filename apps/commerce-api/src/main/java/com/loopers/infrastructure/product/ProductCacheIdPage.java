@@ -0,0 +1,37 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductInfo;
+
+import java.util.List;
+
+/**
+ * Redis 에 기록하는 상품 목록 한 페이지. 상품 정보는 상품별 항목에 두고, 페이지에는 정렬된 id 만 보관한다.
+ */
+public record ProductCacheIdPage(
+        List<Long> ids,
+        long recomputeMillis,
+        long expireAtMillis
+) {
+    public ProductCacheIdPage {
+        ids = List.copyOf(ids);
+    }
+
+    public static ProductCacheIdPage from(ProductCachePage page) {
+        return new ProductCacheIdPage(
+                page.productWithSignals().stream().map(ProductInfo.ProductWithSignal::getId).toList(),
+                page.recomputeMillis(),
+                page.expireAtMillis()
+        );
+    }
+
+    public boolean isEmpty() {
+        return ids.isEmpty();
+    }
+
+    /**
+     * @param products id 순서대로 채운 상품 목록
+     */
+    public ProductCachePage hydrate(List<ProductInfo.ProductWithSignal> products) {
+        return new ProductCachePage(products, recomputeMillis, expireAtMillis);
+    }
+}
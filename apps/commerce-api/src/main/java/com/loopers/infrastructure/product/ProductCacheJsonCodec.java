@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * -v1 형식. {recomputeMillis}:{expireAtMillis}:{JSON 배열} 문자열이다.
+ * 봉투 없이 JSON 배열만 기록된 더 이전 값도 읽는다.
+ */
+public class ProductCacheJsonCodec implements ProductCacheCodec {
+    private static final String ENVELOPE_SEPARATOR = ":";
+    private static final TypeReference<List<ProductInfo.ProductWithSignal>> TYPE = new TypeReference<>() {};
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    static {
+        mapper.registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public byte[] encode(ProductCachePage page) {
+        String payload = page.isEmpty() ? "" : writeValue(page.productWithSignals());
+        return (page.recomputeMillis() + ENVELOPE_SEPARATOR + page.expireAtMillis() + ENVELOPE_SEPARATOR + payload)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ProductCachePage decode(byte[] encoded) {
+        String serialized = new String(encoded, StandardCharsets.UTF_8);
+        // 봉투 없이 JSON 배열만 기록된 이전 값은 조기 갱신 없이 TTL 까지 사용한다.
+        if (!Character.isDigit(serialized.charAt(0))) {
+            return new ProductCachePage(readValue(serialized), 0L, Long.MAX_VALUE);
+        }
+        int recomputeEnd = serialized.indexOf(ENVELOPE_SEPARATOR);
+        int expireAtEnd = serialized.indexOf(ENVELOPE_SEPARATOR, recomputeEnd + 1);
+        if (recomputeEnd < 0 || expireAtEnd < 0) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패: 잘못된 캐시 봉투");
+        }
+        return new ProductCachePage(
+                readValue(serialized.substring(expireAtEnd + 1)),
+                Long.parseLong(serialized, 0, recomputeEnd, 10),
+                Long.parseLong(serialized, recomputeEnd + 1, expireAtEnd, 10)
+        );
+    }
+
+    @Override
+    public boolean canDecode(byte[] encoded) {
+        return Character.isDigit(encoded[0]) || encoded[0] == '[';
+    }
+
+    private String writeValue(List<ProductInfo.ProductWithSignal> productWithSignals) {
+        try {
+            return mapper.writeValueAsString(productWithSignals);
+        } catch (Exception e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "직렬화 실패" + e.getMessage());
+        }
+    }
+
+    private List<ProductInfo.ProductWithSignal> readValue(String serialized) {
+        if (serialized.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return mapper.readValue(serialized, TYPE);
+        } catch (Exception e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패" + e.getMessage());
+        }
+    }
+}
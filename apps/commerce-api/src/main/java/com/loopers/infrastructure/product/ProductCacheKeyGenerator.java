@@ -4,8 +4,52 @@ import com.loopers.domain.product.ProductStatement;
 import org.springframework.data.domain.Pageable;
 
 public class ProductCacheKeyGenerator {
-    public static String withSignalFrom(ProductStatement statement, Pageable pageable) {
-        StringBuilder keyBuilder = new StringBuilder("product_with_signal-v1:");
+    public static final String GENERATION_KEY = "product_ids-v1:generation";
+
+    /**
+     * 세대와 관계없는 목록 페이지 이름. L1 캐시와 재계산 임대에 사용한다.
+     */
+    public static String pageFrom(ProductStatement statement, Pageable pageable) {
+        return pageFrom("product_ids-v1:", statement, pageable);
+    }
+
+    /**
+     * 정렬된 상품 id 만 담는 목록 페이지 키
+     */
+    public static String idsFrom(ProductStatement statement, Pageable pageable, long generation) {
+        return pageFrom("product_ids-v1:gen-" + generation + ":", statement, pageable);
+    }
+
+    /**
+     * {@link #GENERATION_KEY} 해시에서 목록 구성(출시·품절) 세대를 담는 필드
+     */
+    public static String listedGenerationOf(Long brandId) {
+        return brandId == null ? "all" : "brand-" + brandId;
+    }
+
+    /**
+     * {@link #GENERATION_KEY} 해시에서 좋아요 순 정렬 세대를 담는 필드
+     */
+    public static String likedGenerationOf(Long brandId) {
+        return listedGenerationOf(brandId) + ":like";
+    }
+
+    /**
+     * 목록 페이지가 공유하는 상품별 항목 키
+     */
+    public static String product(Long productId) {
+        return "product-v1:" + productId;
+    }
+
+    /**
+     * 상품별 항목과 따로 두는 좋아요 수 카운터 키
+     */
+    public static String likeCount(Long productId) {
+        return "product_like_count-v1:" + productId;
+    }
+
+    private static String pageFrom(String prefix, ProductStatement statement, Pageable pageable) {
+        StringBuilder keyBuilder = new StringBuilder(prefix);
 
         if (statement.getBrandId() != null) {
             keyBuilder.append("brand-").append(statement.getBrandId()).append(":");
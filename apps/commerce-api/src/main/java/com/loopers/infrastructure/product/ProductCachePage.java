@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductInfo;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시된 상품 목록 한 페이지.
+ * XFetch 조기 갱신 판단을 위해 재계산에 걸린 시간과 만료 시각을 함께 보관한다.
+ */
+public record ProductCachePage(
+        List<ProductInfo.ProductWithSignal> productWithSignals,
+        long recomputeMillis,
+        long expireAtMillis
+) {
+    public ProductCachePage {
+        productWithSignals = List.copyOf(productWithSignals);
+    }
+
+    public static ProductCachePage of(List<ProductInfo.ProductWithSignal> productWithSignals, Duration recomputeTime, Duration timeToLive) {
+        return new ProductCachePage(
+                productWithSignals,
+                recomputeTime.toMillis(),
+                System.currentTimeMillis() + timeToLive.toMillis()
+        );
+    }
+
+    public boolean isEmpty() {
+        return productWithSignals.isEmpty();
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(random) >= expiry 이면 만료 전에 미리 재계산한다.
+     * 재계산 비용(delta)이 클수록, 만료가 가까울수록 갱신 확률이 높아진다.
+     *
+     * @param random (0, 1] 구간의 난수
+     */
+    public boolean shouldRefreshEarly(long nowMillis, double beta, double random) {
+        return nowMillis - recomputeMillis * beta * Math.log(random) >= expireAtMillis;
+    }
+}
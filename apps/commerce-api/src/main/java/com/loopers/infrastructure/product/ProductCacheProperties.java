@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(value = "product.cache")
+public class ProductCacheProperties {
+    private final Near near;
+    /**
+     * Redis 에 기록할 형식. 읽을 때는 두 형식을 모두 읽는다.
+     */
+    private final Codec codec;
+    /**
+     * 목록 페이지 TTL. 변경 시 세대를 올려 우회하므로 길게 둘 수 있다.
+     */
+    private final Duration timeToLive;
+    /**
+     * 상품별 항목 TTL. 변경 시 항목을 지우므로 길게 둘 수 있다.
+     */
+    private final Duration entryTimeToLive;
+    /**
+     * 좋아요 수 카운터 TTL. 변경분만 더하므로, 만료 후 DB 값으로 다시 채우며 어긋난 값을 바로잡는다.
+     */
+    private final Duration likeCountTimeToLive;
+    /**
+     * 없는 상품 기록 TTL. 나중에 생긴 상품이 이 시간 동안 없는 것으로 보일 수 있다.
+     */
+    private final Duration notFoundTimeToLive;
+
+    public enum Codec {
+        JSON,
+        BINARY
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Near {
+        private final long maximumSize;
+        private final Duration timeToLive;
+    }
+}
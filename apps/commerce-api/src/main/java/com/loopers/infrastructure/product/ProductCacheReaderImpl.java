@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.jpa.DataSourceRoutingContext;
+import com.loopers.domain.product.ProductCacheReader;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductReader;
+import com.loopers.domain.product.ProductStatement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * replica 는 허용 지연만큼 늦을 수 있어, 다른 세션이 방금 바꾼 재고·판매 상태·좋아요 수를 놓친 채 캐시에 기록할 수 있다.
+ * 그래서 main 에서 읽는다. 호출한 읽기 전용 트랜잭션이 이미 replica 커넥션을 잡았을 수 있으므로 새 트랜잭션에서 읽는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductCacheReaderImpl implements ProductCacheReader {
+    private final ProductReader productReader;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public Optional<ProductInfo.ProductWithSignal> findWithSignal(Long id) {
+        return DataSourceRoutingContext.onPrimary(() -> productReader.findWithSignal(id));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement criteria, Pageable pageable) {
+        return DataSourceRoutingContext.onPrimary(() -> productReader.findWithSignals(criteria, pageable));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public List<ProductInfo.ProductWithSignal> findWithSignals(List<Long> ids) {
+        return DataSourceRoutingContext.onPrimary(() -> productReader.findWithSignals(ids));
+    }
+}
@@ -1,42 +1,367 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.config.redis.RedisConfig;
 import com.loopers.domain.product.ProductCacheRepository;
 import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductCacheReader;
 import com.loopers.domain.product.ProductStatement;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 목록 페이지 키에는 정렬된 상품 id 만 두고, 상품 정보는 페이지들이 공유하는 상품별 항목에 둔다.
+ * 페이지를 읽을 때 상품별 항목을 MGET 한 번으로 채우고, 비어 있는 항목만 DB 에서 한 번에 조회해 다시 기록한다.
+ * 상품이 바뀌면 그 상품의 항목 하나만 지운다. 목록 구성이나 좋아요 순서가 바뀌면 브랜드별 세대를 올려
+ * 이전 세대의 페이지 키를 SCAN/DEL 없이 우회하고, L1 은 전체 무효화를 전파한다.
+ * <p>
+ * 자주 바뀌는 좋아요 수는 항목에 두지 않고 상품별 카운터 키에 두어, 좋아요가 몰려도 항목을 지우지 않는다.
+ * 카운터는 커밋된 변경분을 더하기만 하고, 짧은 TTL 로 만료되면 DB 값으로 다시 채운다.
+ * 항목과 카운터는 같은 MGET 으로 읽으므로, 상세 조회는 Redis 왕복 한 번으로 끝난다.
+ */
 @Component
-@RequiredArgsConstructor
 public class ProductCacheRepositoryImpl implements ProductCacheRepository {
+    private static final int CACHEABLE_MAX_PAGE = 2;
+    private static final Duration LEASE_TIME_TO_LIVE = Duration.ofSeconds(3);
+    private static final String LEASE_SUFFIX = ":lease";
+    private static final double EARLY_REFRESH_BETA = 1.0;
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class
+    );
+    private static final RedisScript<Long> INCREASE_LIKE_COUNT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) else return 0 end",
+            Long.class
+    );
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
     private final ProductCacheSerializer.Serializer serializer;
     private final ProductCacheSerializer.Deserializer deserializer;
+    private final ProductNearCache nearCache;
+    private final ProductCacheReader productCacheReader;
+    private final Duration timeToLive;
+    private final Duration entryTimeToLive;
+    private final Duration likeCountTimeToLive;
+    private final Duration notFoundTimeToLive;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter earlyRefreshCounter;
+    private final Counter leaseAcquiredCounter;
+    private final Counter leaseBusyCounter;
+    private final Counter entryHitCounter;
+    private final Counter entryMissCounter;
+    private final Counter generationBumpCounter;
+    private final Counter staleSaveCounter;
+    private final Counter detailHitCounter;
+    private final Counter detailMissCounter;
+    private final Counter detailNotFoundCounter;
+    private final Timer recomputeTimer;
+
+    public ProductCacheRepositoryImpl(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_BINARY) RedisTemplate<String, byte[]> binaryRedisTemplate,
+            ProductCacheSerializer.Serializer serializer,
+            ProductCacheSerializer.Deserializer deserializer,
+            ProductNearCache nearCache,
+            ProductCacheReader productCacheReader,
+            ProductCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.nearCache = nearCache;
+        this.productCacheReader = productCacheReader;
+        this.timeToLive = properties.getTimeToLive();
+        this.entryTimeToLive = properties.getEntryTimeToLive();
+        this.likeCountTimeToLive = properties.getLikeCountTimeToLive();
+        this.notFoundTimeToLive = properties.getNotFoundTimeToLive();
+        this.hitCounter = meterRegistry.counter("product.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("product.cache.requests", "result", "miss");
+        this.earlyRefreshCounter = meterRegistry.counter("product.cache.requests", "result", "early_refresh");
+        this.leaseAcquiredCounter = meterRegistry.counter("product.cache.lease", "result", "acquired");
+        this.leaseBusyCounter = meterRegistry.counter("product.cache.lease", "result", "busy");
+        this.entryHitCounter = meterRegistry.counter("product.cache.entries", "result", "hit");
+        this.entryMissCounter = meterRegistry.counter("product.cache.entries", "result", "miss");
+        this.generationBumpCounter = meterRegistry.counter("product.cache.generation.bumps");
+        this.staleSaveCounter = meterRegistry.counter("product.cache.requests", "result", "stale_save");
+        this.detailHitCounter = meterRegistry.counter("product.cache.details", "result", "hit");
+        this.detailMissCounter = meterRegistry.counter("product.cache.details", "result", "miss");
+        this.detailNotFoundCounter = meterRegistry.counter("product.cache.details", "result", "not_found");
+        this.recomputeTimer = meterRegistry.timer("product.cache.recompute");
+    }
 
     @Override
-    public List<ProductInfo.ProductWithSignal> findWithSignal(ProductStatement statement, Pageable pageable) {
-        if (pageable.getPageNumber() > 2) {
-            return List.of();
+    public Optional<List<ProductInfo.ProductWithSignal>> findWithSignal(ProductStatement statement, Pageable pageable) {
+        ProductCachePage page = findPage(statement, pageable);
+        if (page == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        if (page.shouldRefreshEarly(System.currentTimeMillis(), EARLY_REFRESH_BETA, random)) {
+            earlyRefreshCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(page.productWithSignals());
+    }
+
+    @Override
+    public Optional<List<ProductInfo.ProductWithSignal>> peekWithSignal(ProductStatement statement, Pageable pageable) {
+        return Optional.ofNullable(findPage(statement, pageable)).map(ProductCachePage::productWithSignals);
+    }
+
+    private ProductCachePage findPage(ProductStatement statement, Pageable pageable) {
+        if (pageable.getPageNumber() > CACHEABLE_MAX_PAGE) {
+            return null;
+        }
+        String pageName = ProductCacheKeyGenerator.pageFrom(statement, pageable);
+        ProductCachePage nearCached = nearCache.get(pageName);
+        if (nearCached != null) {
+            return nearCached;
         }
-        String keyPattern = ProductCacheKeyGenerator.withSignalFrom(statement, pageable);
-        String targetIds = redisTemplate.opsForValue().get(keyPattern);
-        return deserializer.deserializeWithSignal(targetIds);
+        String keyPattern = ProductCacheKeyGenerator.idsFrom(statement, pageable, generation(statement));
+        ProductCacheIdPage idPage = deserializer.deserializeIds(binaryRedisTemplate.opsForValue().get(keyPattern));
+        if (idPage == null) {
+            return null;
+        }
+        // 빈 목록도 기록된 결과이므로 그대로 반환한다.
+        ProductCachePage page = idPage.hydrate(hydrate(idPage.ids()));
+        nearCache.put(pageName, page);
+        return page;
     }
 
+    /**
+     * 좋아요 순 목록은 목록 구성 세대와 좋아요 세대의 합을 쓴다. 두 세대 모두 증가만 하므로 합도 어느 한쪽이 오르면 오른다.
+     */
     @Override
-    public List<ProductInfo.ProductWithSignal> save(ProductStatement criteria, Pageable pageable, List<ProductInfo.ProductWithSignal> productWithSignals) {
-        if (pageable.getPageNumber() > 2) {
+    public long generation(ProductStatement criteria) {
+        List<Object> fields = criteria.getOrderBy() instanceof ProductStatement.LikeCount
+                ? List.of(ProductCacheKeyGenerator.listedGenerationOf(criteria.getBrandId()),
+                        ProductCacheKeyGenerator.likedGenerationOf(criteria.getBrandId()))
+                : List.of(ProductCacheKeyGenerator.listedGenerationOf(criteria.getBrandId()));
+        List<Object> values = redisTemplate.opsForHash().multiGet(ProductCacheKeyGenerator.GENERATION_KEY, fields);
+        long generation = 0;
+        for (Object value : values) {
+            if (value != null) {
+                generation += Long.parseLong(value.toString());
+            }
+        }
+        return generation;
+    }
+
+    @Override
+    public void bumpGenerations(Set<Long> listedBrandIds, Set<Long> likedBrandIds) {
+        List<String> fields = new ArrayList<>();
+        if (!listedBrandIds.isEmpty()) {
+            fields.add(ProductCacheKeyGenerator.listedGenerationOf(null));
+            listedBrandIds.forEach(brandId -> fields.add(ProductCacheKeyGenerator.listedGenerationOf(brandId)));
+        }
+        if (!likedBrandIds.isEmpty()) {
+            fields.add(ProductCacheKeyGenerator.likedGenerationOf(null));
+            likedBrandIds.forEach(brandId -> fields.add(ProductCacheKeyGenerator.likedGenerationOf(brandId)));
+        }
+        if (fields.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                fields.forEach(field -> redisOperations.opsForHash().increment(ProductCacheKeyGenerator.GENERATION_KEY, field, 1));
+                return null;
+            }
+        });
+        generationBumpCounter.increment(fields.size());
+        nearCache.invalidateAll();
+    }
+
+    /**
+     * 상품별 항목과 좋아요 수 카운터를 MGET 한 번으로 읽고, 둘 중 하나라도 없는 상품은 DB 에서 한 번에 조회해 채운다.
+     * 그 사이 삭제된 상품은 목록에서 빠진다.
+     */
+    private List<ProductInfo.ProductWithSignal> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
             return List.of();
         }
-        String keyPattern = ProductCacheKeyGenerator.withSignalFrom(criteria, pageable);
-        String serialized = serializer.serializeWithSignal(productWithSignals);
-        redisTemplate.opsForValue().set(keyPattern, serialized);
-        redisTemplate.expire(keyPattern, 60, TimeUnit.SECONDS);
-        return productWithSignals;
+        List<String> keys = new ArrayList<>(ids.size() * 2);
+        ids.forEach(id -> keys.add(ProductCacheKeyGenerator.product(id)));
+        ids.forEach(id -> keys.add(ProductCacheKeyGenerator.likeCount(id)));
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+        Map<Long, ProductInfo.ProductWithSignal> products = new HashMap<>(ids.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ProductInfo.ProductWithSignal product = values == null ? null
+                    : merge(deserializer.deserializeProduct(values.get(i)), values.get(ids.size() + i));
+            if (product == null) {
+                missingIds.add(ids.get(i));
+            } else {
+                products.put(ids.get(i), product);
+            }
+        }
+        entryHitCounter.increment(products.size());
+        entryMissCounter.increment(missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            List<ProductInfo.ProductWithSignal> loaded = productCacheReader.findWithSignals(missingIds);
+            loaded.forEach(product -> products.put(product.getId(), product));
+            saveEntries(loaded);
+        }
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * @return 항목이나 카운터가 없으면 null
+     */
+    private static ProductInfo.ProductWithSignal merge(ProductInfo.ProductWithSignal product, byte[] likeCount) {
+        if (product == null || likeCount == null) {
+            return null;
+        }
+        long count = Long.parseLong(new String(likeCount, StandardCharsets.US_ASCII));
+        return product.withLikeCount(Math.max(count, 0L));
+    }
+
+    /**
+     * 카운터는 없을 때만 채운다. 이미 있는 카운터에는 DB 에 아직 반영되지 않은 변경분이 더해져 있을 수 있다.
+     */
+    private void saveEntries(List<ProductInfo.ProductWithSignal> productWithSignals) {
+        if (productWithSignals.isEmpty()) {
+            return;
+        }
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        Map<String, byte[]> likeCounts = new LinkedHashMap<>();
+        for (ProductInfo.ProductWithSignal product : productWithSignals) {
+            entries.put(ProductCacheKeyGenerator.product(product.getId()), serializer.serializeProduct(product));
+            likeCounts.put(ProductCacheKeyGenerator.likeCount(product.getId()),
+                    Long.toString(product.getLikeCount()).getBytes(StandardCharsets.US_ASCII));
+        }
+        binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, byte[]> redisOperations = (RedisOperations<String, byte[]>) operations;
+                entries.forEach((key, value) -> redisOperations.opsForValue().set(key, value, entryTimeToLive));
+                likeCounts.forEach((key, value) -> redisOperations.opsForValue().setIfAbsent(key, value, likeCountTimeToLive));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Optional<ProductInfo.CachedDetail> findDetail(Long productId) {
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(
+                List.of(ProductCacheKeyGenerator.product(productId), ProductCacheKeyGenerator.likeCount(productId)));
+        byte[] entry = values == null ? null : values.get(0);
+        if (entry != null && deserializer.isMissing(entry)) {
+            detailNotFoundCounter.increment();
+            return Optional.of(new ProductInfo.CachedDetail(null));
+        }
+        ProductInfo.ProductWithSignal product = entry == null ? null : merge(deserializer.deserializeProduct(entry), values.get(1));
+        if (product == null) {
+            detailMissCounter.increment();
+            return Optional.empty();
+        }
+        detailHitCounter.increment();
+        return Optional.of(new ProductInfo.CachedDetail(product));
+    }
+
+    @Override
+    public void saveDetail(Long productId, ProductInfo.ProductWithSignal productWithSignal) {
+        if (productWithSignal != null) {
+            saveEntries(List.of(productWithSignal));
+            return;
+        }
+        binaryRedisTemplate.opsForValue().set(
+                ProductCacheKeyGenerator.product(productId), serializer.serializeMissing(), notFoundTimeToLive);
+    }
+
+    @Override
+    public void increaseLikeCount(Long productId, long delta) {
+        redisTemplate.execute(INCREASE_LIKE_COUNT_SCRIPT, List.of(ProductCacheKeyGenerator.likeCount(productId)), Long.toString(delta));
+    }
+
+    @Override
+    public List<ProductInfo.ProductWithSignal> save(ProductStatement criteria, Pageable pageable, long generation, List<ProductInfo.ProductWithSignal> productWithSignals, Duration recomputeTime) {
+        recomputeTimer.record(recomputeTime);
+        if (pageable.getPageNumber() > CACHEABLE_MAX_PAGE) {
+            return productWithSignals;
+        }
+        ProductCachePage page = ProductCachePage.of(productWithSignals, recomputeTime, timeToLive);
+        if (generation != generation(criteria)) {
+            // 재계산 중에 목록이 바뀌었다. 이전 상태로 읽은 결과를 새 세대에 기록하지 않는다.
+            staleSaveCounter.increment();
+            return page.productWithSignals();
+        }
+        String pageName = ProductCacheKeyGenerator.pageFrom(criteria, pageable);
+        String keyPattern = ProductCacheKeyGenerator.idsFrom(criteria, pageable, generation);
+        // 항목을 먼저 기록해, 페이지를 읽은 다른 노드가 곧바로 DB 로 가지 않도록 한다.
+        saveEntries(page.productWithSignals());
+        binaryRedisTemplate.opsForValue().set(keyPattern, serializer.serializeIds(ProductCacheIdPage.from(page)), timeToLive);
+        nearCache.put(pageName, page);
+        nearCache.publish(pageName);
+        return page.productWithSignals();
+    }
+
+    @Override
+    public void evict(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        binaryRedisTemplate.delete(productIds.stream().map(ProductCacheKeyGenerator::product).toList());
+    }
+
+    @Override
+    public Optional<String> acquireLease(ProductStatement criteria, Pageable pageable) {
+        String token = UUID.randomUUID().toString();
+        if (pageable.getPageNumber() > CACHEABLE_MAX_PAGE) {
+            // 캐시하지 않는 페이지는 노드 간 조율이 필요 없다.
+            return Optional.of(token);
+        }
+        String leaseKey = ProductCacheKeyGenerator.pageFrom(criteria, pageable) + LEASE_SUFFIX;
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, token, LEASE_TIME_TO_LIVE);
+        if (Boolean.TRUE.equals(acquired)) {
+            leaseAcquiredCounter.increment();
+            return Optional.of(token);
+        }
+        leaseBusyCounter.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void releaseLease(ProductStatement criteria, Pageable pageable, String token) {
+        if (pageable.getPageNumber() > CACHEABLE_MAX_PAGE) {
+            return;
+        }
+        String leaseKey = ProductCacheKeyGenerator.pageFrom(criteria, pageable) + LEASE_SUFFIX;
+        // 임대가 만료되어 다른 노드가 가져간 경우 그 임대를 지우지 않도록, 토큰이 같을 때만 삭제한다.
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
     }
 }
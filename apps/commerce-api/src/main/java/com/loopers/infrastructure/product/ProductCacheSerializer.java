@@ -1,57 +1,100 @@
 package com.loopers.infrastructure.product;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.loopers.domain.product.ProductInfo;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-@Slf4j
 public class ProductCacheSerializer {
-    private final static String VERSION = "-v1";
-    private final static ObjectMapper mapper = new ObjectMapper();
-
-    static {
-        mapper.registerModule(new JavaTimeModule());
-    }
+    private static final ProductCacheCodec JSON = new ProductCacheJsonCodec();
+    private static final ProductCacheBinaryCodec BINARY = new ProductCacheBinaryCodec();
 
+    /**
+     * product.cache.codec 으로 고른 형식으로 기록한다.
+     * 이진 형식을 읽지 못하는 노드가 남아 있는 동안에는 JSON 으로 두고, 배포가 끝난 뒤 BINARY 로 바꾼다.
+     */
     @Component
     public static class Serializer {
-        public String serializeWithSignal(List<ProductInfo.ProductWithSignal> productWithSignals) {
-            log.info(productWithSignals.toString());
-            if (productWithSignals.isEmpty()) {
-                return "";
-            }
-            try {
-                String result = mapper.writeValueAsString(productWithSignals);
-                log.info(result);
-                return result;
-            } catch (Exception e) {
-                throw new CoreException(ErrorType.INTERNAL_ERROR, "직렬화 실패" + e.getMessage());
-            }
+        private final ProductCacheCodec codec;
+
+        public Serializer(ProductCacheProperties properties) {
+            this.codec = properties.getCodec() == ProductCacheProperties.Codec.JSON ? JSON : BINARY;
+        }
+
+        public byte[] serializePage(ProductCachePage page) {
+            return codec.encode(page);
+        }
+
+        /**
+         * 상품별 항목은 상품 하나짜리 페이지로 기록해 페이지와 같은 형식·버전 규칙을 따른다.
+         */
+        public byte[] serializeProduct(ProductInfo.ProductWithSignal product) {
+            return codec.encode(new ProductCachePage(List.of(product), 0, 0));
+        }
+
+        /**
+         * 없는 상품은 빈 페이지로 기록한다.
+         */
+        public byte[] serializeMissing() {
+            return codec.encode(new ProductCachePage(List.of(), 0, 0));
+        }
+
+        /**
+         * id 목록 페이지는 새 키에만 기록하므로 설정과 관계없이 이진 형식을 쓴다.
+         */
+        public byte[] serializeIds(ProductCacheIdPage page) {
+            return BINARY.encodeIds(page);
         }
     }
 
+    /**
+     * 설정과 관계없이 두 형식을 모두 읽는다.
+     */
     @Component
     public static class Deserializer {
+        private static final List<ProductCacheCodec> CODECS = List.of(BINARY, JSON);
 
-        public List<ProductInfo.ProductWithSignal> deserializeWithSignal(String serialized) {
-            if (serialized == null || serialized.isEmpty()) {
-                return List.of();
+        /**
+         * @return 캐시된 값이 없으면 null
+         */
+        public ProductCachePage deserializePage(byte[] serialized) {
+            if (serialized == null || serialized.length == 0) {
+                return null;
             }
-            try {
-                log.info(serialized);
-                // 직접 ProductWithSignal 리스트로 역직렬화
-                TypeReference<List<ProductInfo.ProductWithSignal>> typeRef = new TypeReference<List<ProductInfo.ProductWithSignal>>() {};
-                return mapper.readValue(serialized, typeRef);
-            } catch (Exception e) {
-                throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패" + e.getMessage());
+            for (ProductCacheCodec codec : CODECS) {
+                if (codec.canDecode(serialized)) {
+                    return codec.decode(serialized);
+                }
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "역직렬화 실패: 알 수 없는 캐시 형식");
+        }
+
+        /**
+         * @return 캐시된 값이 없으면 null
+         */
+        public ProductInfo.ProductWithSignal deserializeProduct(byte[] serialized) {
+            ProductCachePage page = deserializePage(serialized);
+            return page == null || page.isEmpty() ? null : page.productWithSignals().get(0);
+        }
+
+        /**
+         * @return 없는 상품으로 기록된 값이면 true
+         */
+        public boolean isMissing(byte[] serialized) {
+            ProductCachePage page = deserializePage(serialized);
+            return page != null && page.isEmpty();
+        }
+
+        /**
+         * @return 캐시된 값이 없으면 null
+         */
+        public ProductCacheIdPage deserializeIds(byte[] serialized) {
+            if (serialized == null || serialized.length == 0) {
+                return null;
             }
+            return BINARY.decodeIds(serialized);
         }
     }
 }
@@ -0,0 +1,268 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductInventoryRepository;
+import com.loopers.domain.product.ProductStockBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 상품별 가용 재고와 주문별 예약을 Redis 에 둔다.
+ * 가용 재고는 stock hash(상품 id -> 수량), 예약은 reservation:{orderId} hash(상품 id -> 수량)이고,
+ * 예약 만료 시각은 deadlines sorted set 으로 따로 관리해 만료된 예약을 주문 상태에 맞춰 정리할 수 있게 한다.
+ * 남아 있는 예약 수량은 reserved hash 에 상품별로 더해 두어, 재적재 때 예약을 모두 훑지 않고 상품 수만큼만 읽는다.
+ * 확정된 차감분은 pending hash 에 누적했다가 drain 시 processing hash 의 token 항목으로 떼어낸다.
+ * <p>
+ * 스크립트가 다루는 키는 모두 KEYS 로 넘기고, 같은 hash tag 를 써 Redis Cluster 에서도 한 슬롯에 둔다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductInventoryRepositoryImpl implements ProductInventoryRepository {
+    private static final String PREFIX = "{product_inventory-v2}:";
+    private static final String STOCK_KEY = PREFIX + "stock";
+    private static final String RESERVATION_PREFIX = PREFIX + "reservation:";
+    private static final String RESERVED_KEY = PREFIX + "reserved";
+    private static final String DEADLINES_KEY = PREFIX + "deadlines";
+    private static final String PENDING_KEY = PREFIX + "pending";
+    private static final String PROCESSING_KEY = PREFIX + "processing";
+
+    private static final long RESERVED = 0L;
+    private static final long ALREADY_RESERVED = 1L;
+    private static final long UNINITIALIZED = 2L;
+
+    /**
+     * KEYS: 예약, deadlines, stock, reserved / ARGV: 주문 id, 만료 시각, (상품 id, 수량)...
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+                return {1}
+            end
+            local missing = {}
+            local lacking = {}
+            for i = 3, #ARGV, 2 do
+                local stock = redis.call('HGET', KEYS[3], ARGV[i])
+                if not stock then
+                    table.insert(missing, tonumber(ARGV[i]))
+                elseif tonumber(stock) < tonumber(ARGV[i + 1]) then
+                    table.insert(lacking, tonumber(ARGV[i]))
+                end
+            end
+            if #missing > 0 then return {2, unpack(missing)} end
+            if #lacking > 0 then return {3, unpack(lacking)} end
+            for i = 3, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[3], ARGV[i], -tonumber(ARGV[i + 1]))
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                redis.call('HINCRBY', KEYS[4], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return {0}
+            """, List.class);
+    /**
+     * KEYS: 예약, deadlines, reserved, pending / ARGV: 주문 id
+     */
+    private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('HGETALL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if #items == 0 then return 0 end
+            for i = 1, #items, 2 do
+                if redis.call('HINCRBY', KEYS[3], items[i], -tonumber(items[i + 1])) <= 0 then
+                    redis.call('HDEL', KEYS[3], items[i])
+                end
+                redis.call('HINCRBY', KEYS[4], items[i], items[i + 1])
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+    /**
+     * KEYS: 예약, deadlines, reserved, stock / ARGV: 주문 id
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('HGETALL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if #items == 0 then return 0 end
+            for i = 1, #items, 2 do
+                if redis.call('HINCRBY', KEYS[3], items[i], -tonumber(items[i + 1])) <= 0 then
+                    redis.call('HDEL', KEYS[3], items[i])
+                end
+                if redis.call('HEXISTS', KEYS[4], items[i]) == 1 then
+                    redis.call('HINCRBY', KEYS[4], items[i], items[i + 1])
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+    /**
+     * 처리 중인 배치는 processing hash 에 "상품 id:수량" 을 쉼표로 이어 token 별로 둔다.
+     * 처리 중 배치의 내용도 함께 반환해, 복제 지연으로 방금 떼어낸 배치를 비어 있는 것으로 읽지 않게 한다.
+     * KEYS: pending, processing / ARGV: 새 token
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('HGETALL', KEYS[1])
+            if #items > 0 then
+                local encoded = {}
+                for i = 1, #items, 2 do
+                    table.insert(encoded, items[i] .. ':' .. items[i + 1])
+                end
+                redis.call('HSET', KEYS[2], ARGV[1], table.concat(encoded, ','))
+                redis.call('DEL', KEYS[1])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+    /**
+     * 상품 수만큼만 읽는다. 처리 중인 배치는 drain 한 번에 하나씩 생기고 반영되면 지워지므로 몇 개 되지 않는다.
+     * KEYS: pending, reserved, processing / ARGV: 상품 id...
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> OUTSTANDING_SCRIPT = new DefaultRedisScript<>("""
+            local held = {}
+            for i = 1, #ARGV do
+                local quantity = tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0')
+                        + tonumber(redis.call('HGET', KEYS[2], ARGV[i]) or '0')
+                table.insert(held, ARGV[i])
+                table.insert(held, quantity)
+            end
+            return {held, redis.call('HGETALL', KEYS[3])}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public ProductInfo.Reservation reserve(Long orderId, List<ProductCommand.Deduct> items, Duration timeToLive) {
+        List<String> args = new ArrayList<>(2 + items.size() * 2);
+        args.add(orderId.toString());
+        args.add(String.valueOf(System.currentTimeMillis() + timeToLive.toMillis()));
+        for (ProductCommand.Deduct item : items) {
+            args.add(item.productId().toString());
+            args.add(item.quantity().toString());
+        }
+        List<?> reply = redisTemplate.execute(RESERVE_SCRIPT,
+                List.of(RESERVATION_PREFIX + orderId, DEADLINES_KEY, STOCK_KEY, RESERVED_KEY), args.toArray());
+        if (reply == null || reply.isEmpty()) {
+            throw new IllegalStateException("재고 예약 결과를 확인할 수 없습니다: " + orderId);
+        }
+
+        long code = Long.parseLong(reply.get(0).toString());
+        List<Long> productIds = reply.stream().skip(1)
+                .map(id -> Long.parseLong(id.toString()))
+                .toList();
+        ProductInfo.Reservation.Result result = code == RESERVED ? ProductInfo.Reservation.Result.RESERVED
+                : code == ALREADY_RESERVED ? ProductInfo.Reservation.Result.ALREADY_RESERVED
+                : code == UNINITIALIZED ? ProductInfo.Reservation.Result.UNINITIALIZED
+                : ProductInfo.Reservation.Result.INSUFFICIENT;
+        return new ProductInfo.Reservation(result, productIds);
+    }
+
+    @Override
+    public ProductInfo.Outstanding findOutstanding(List<Long> productIds) {
+        List<?> reply = redisTemplate.execute(OUTSTANDING_SCRIPT,
+                List.of(PENDING_KEY, RESERVED_KEY, PROCESSING_KEY),
+                productIds.stream().map(Object::toString).toArray());
+        if (reply == null || reply.size() < 2) {
+            throw new IllegalStateException("반영되지 않은 재고 수량을 확인할 수 없습니다: " + productIds);
+        }
+
+        Map<Long, Long> held = new HashMap<>();
+        for (ProductCommand.Deduct item : toItems((List<?>) reply.get(0))) {
+            held.put(item.productId(), item.quantity());
+        }
+        Set<Long> targets = Set.copyOf(productIds);
+        List<ProductStockBatch> processing = toBatches((List<?>) reply.get(1)).stream()
+                .map(batch -> new ProductStockBatch(batch.token(), batch.items().stream()
+                        .filter(item -> targets.contains(item.productId()))
+                        .toList()))
+                .toList();
+        return new ProductInfo.Outstanding(held, processing);
+    }
+
+    @Override
+    public void initialize(Long productId, long stock) {
+        redisTemplate.opsForHash().putIfAbsent(STOCK_KEY, productId.toString(), String.valueOf(stock));
+    }
+
+    @Override
+    public boolean commit(Long orderId) {
+        Long committed = redisTemplate.execute(COMMIT_SCRIPT,
+                List.of(RESERVATION_PREFIX + orderId, DEADLINES_KEY, RESERVED_KEY, PENDING_KEY),
+                orderId.toString());
+        return committed != null && committed == 1L;
+    }
+
+    @Override
+    public boolean release(Long orderId) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+                List.of(RESERVATION_PREFIX + orderId, DEADLINES_KEY, RESERVED_KEY, STOCK_KEY),
+                orderId.toString());
+        return released != null && released == 1L;
+    }
+
+    @Override
+    public List<Long> findExpired(int size) {
+        Set<String> orderIds = redisTemplate.opsForZSet()
+                .rangeByScore(DEADLINES_KEY, 0, System.currentTimeMillis(), 0, size);
+        if (orderIds == null) {
+            return List.of();
+        }
+        return orderIds.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public List<ProductStockBatch> drain() {
+        List<?> reply = redisTemplate.execute(DRAIN_SCRIPT,
+                List.of(PENDING_KEY, PROCESSING_KEY),
+                UUID.randomUUID().toString());
+        if (reply == null) {
+            return List.of();
+        }
+        return toBatches(reply);
+    }
+
+    @Override
+    public void acknowledge(String token) {
+        redisTemplate.opsForHash().delete(PROCESSING_KEY, token);
+    }
+
+    /**
+     * @param entries processing hash 의 (token, "상품 id:수량,...") 쌍
+     */
+    private List<ProductStockBatch> toBatches(List<?> entries) {
+        List<ProductStockBatch> batches = new ArrayList<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            List<ProductCommand.Deduct> items = new ArrayList<>();
+            for (String item : entries.get(i + 1).toString().split(",")) {
+                int separator = item.indexOf(':');
+                items.add(new ProductCommand.Deduct(
+                        Long.parseLong(item.substring(0, separator)),
+                        Long.parseLong(item.substring(separator + 1))
+                ));
+            }
+            batches.add(new ProductStockBatch(entries.get(i).toString(), items));
+        }
+        return batches;
+    }
+
+    private List<ProductCommand.Deduct> toItems(List<?> entries) {
+        List<ProductCommand.Deduct> items = new ArrayList<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            items.add(new ProductCommand.Deduct(
+                    Long.parseLong(entries.get(i).toString()),
+                    Long.parseLong(entries.get(i + 1).toString())
+            ));
+        }
+        return items;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,9 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long>
     @Query("SELECT p FROM ProductEntity p WHERE p.id IN :ids")
     List<ProductEntity> lockAllById(List<Long> ids);
 
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.id IN :ids AND p.state.value = 'OUT_OF_STOCK'")
+    List<Long> findOutOfStockIds(List<Long> ids);
+
     @Query("""
 SELECT new com.loopers.domain.product.ProductInfo$ProductWithSignal(p, ls.likeCount)
 FROM ProductEntity p
@@ -144,4 +148,107 @@ WHERE p.brandId = :brandId
 AND p.state.value = 'OPEN'
 ORDER BY p.state.releasedAt ASC, p.id ASC""")
     List<ProductInfo.ProductWithSignal> findAllWithSignalByBrandIdOrderByReleasedAtAsc(Long brandId, Pageable pageable);
+
+    @Query("""
+SELECT new com.loopers.domain.product.ProductInfo$Ranking(p.id, p.brandId, ls.likeCount)
+FROM ProductEntity p
+LEFT JOIN LikeSummaryEntity ls ON p.id = ls.targetId AND ls.targetType = 'PRODUCT'
+WHERE p.state.value = 'OPEN'
+AND p.id > :lastId
+ORDER BY p.id ASC""")
+    List<ProductInfo.Ranking> findAllRankingAfter(Long lastId, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM ProductEntity p WHERE p.state.value = 'OPEN'")
+    long countOpen();
+
+    @Query("""
+SELECT new com.loopers.domain.product.ProductInfo$ProductWithSignal(p, ls.likeCount)
+FROM ProductEntity p
+LEFT JOIN LikeSummaryEntity ls ON p.id = ls.targetId AND ls.targetType = 'PRODUCT'
+WHERE p.state.value = 'OPEN'
+AND (p.price > :price OR (p.price = :price AND p.id > :id))
+ORDER BY p.price ASC, p.id ASC""")
+    List<ProductInfo.ProductWithSignal> findAllWithSignalOrderByPriceAscAfter(Long price, Long id, Pageable pageable);
+
+    @Query("""
+SELECT new com.loopers.domain.product.ProductInfo$ProductWithSignal(p, ls.likeCount)
+FROM ProductEntity p
+LEFT JOIN LikeSummaryEntity ls ON p.id = ls.targetId AND ls.targetType = 'PRODUCT'
+WHERE p.brandId = :brandId
+AND p.state.value = 'OPEN'
+AND (p.price > :price OR (p.price = :price AND p.id > :id))
+ORDER BY p.price ASC, p.id ASC""")
+    List<ProductInfo.ProductWithSignal> findAllWithSignalByBrandIdOrderByPriceAscAfter(Long brandId, Long price, Long id, Pageable pageable);
+
+    @Query("""
+SELECT new com.loopers.domain.product.ProductInfo$ProductWithSignal(p, ls.likeCount)
+FROM ProductEntity p
+LEFT JOIN LikeSummaryEntity ls ON p.id = ls.targetId AND ls.targetType = 'PRODUCT'
+WHERE p.state.value = 'OPEN'
+AND (p.state.releasedAt < :releasedAt OR (p.state.releasedAt = :releasedAt AND p.id > :id))
+ORDER BY p.state.releasedAt DESC, p.id ASC""")
+    List<ProductInfo.ProductWithSignal> findAllWithSignalOrderByReleasedAtDescAfter(ZonedDateTime releasedAt, Long id, Pageable pageable);
+
+    @Query("""
+SELECT new com.loopers.domain.product.ProductInfo$ProductWithSignal(p, ls.likeCount)
+FROM ProductEntity p
+LEFT JOIN LikeSummaryEntity ls ON p.id = ls.targetId AND ls.targetType = 'PRODUCT'
+WHERE p.brandId = :brandId
+AND p.state.value = 'OPEN'
+AND (p.state.releasedAt < :releasedAt OR (p.state.releasedAt = :releasedAt AND p.id > :id))
+ORDER BY p.state.releasedAt DESC, p.id ASC""")
+    List<ProductInfo.ProductWithSignal> findAllWithSignalByBrandIdOrderByReleasedAtDescAfter(Long brandId, ZonedDateTime releasedAt, Long id, Pageable pageable);
+
+    /**
+     * 좋아요가 있는 상품을 (like_count DESC, target_id) 로 seek 한다.
+     */
+    @Query(nativeQuery = true, value = """
+SELECT
+    p.id AS id, p.brand_id AS brandId, p.created_at AS createdAt, p.name AS name, p.price AS price,
+    p.released_at AS releasedAt, p.state AS state, p.stock AS stock, p.updated_at AS updatedAt, ls.like_count AS likeCount
+FROM like_summary ls FORCE INDEX (idx_ls_type_like_tid)
+INNER JOIN product p ON p.id = ls.target_id
+WHERE ls.target_type = 'PRODUCT'
+    AND ls.like_count > 0
+    AND (ls.like_count < :likeCount OR (ls.like_count = :likeCount AND ls.target_id > :id))
+    AND p.state = 'OPEN'
+    AND (:brandId IS NULL OR p.brand_id = :brandId)
+ORDER BY ls.like_count DESC, ls.target_id
+LIMIT :size
+""")
+    List<ProductWithSignalRow> findAllWithSignalOrderByLikeCountDescAfter(Long brandId, Long likeCount, Long id, int size);
+
+    /**
+     * 좋아요가 없는 상품을 id 로 seek 한다. 좋아요가 있는 상품을 모두 조회한 뒤 이어서 사용한다.
+     */
+    @Query(nativeQuery = true, value = """
+SELECT
+    p.id AS id, p.brand_id AS brandId, p.created_at AS createdAt, p.name AS name, p.price AS price,
+    p.released_at AS releasedAt, p.state AS state, p.stock AS stock, p.updated_at AS updatedAt, 0 AS likeCount
+FROM product p FORCE INDEX (idx_product_state_id)
+LEFT JOIN like_summary ls
+    ON ls.target_id = p.id AND ls.target_type = 'PRODUCT'
+WHERE p.state = 'OPEN'
+    AND p.id > :id
+    AND (ls.target_id IS NULL OR ls.like_count = 0)
+ORDER BY p.id
+LIMIT :size
+""")
+    List<ProductWithSignalRow> findAllWithSignalWithoutLikeAfter(Long id, int size);
+
+    @Query(nativeQuery = true, value = """
+SELECT
+    p.id AS id, p.brand_id AS brandId, p.created_at AS createdAt, p.name AS name, p.price AS price,
+    p.released_at AS releasedAt, p.state AS state, p.stock AS stock, p.updated_at AS updatedAt, 0 AS likeCount
+FROM product p FORCE INDEX (idx_product_state_brand_id)
+LEFT JOIN like_summary ls
+    ON ls.target_id = p.id AND ls.target_type = 'PRODUCT'
+WHERE p.state = 'OPEN'
+    AND p.brand_id = :brandId
+    AND p.id > :id
+    AND (ls.target_id IS NULL OR ls.like_count = 0)
+ORDER BY p.id
+LIMIT :size
+""")
+    List<ProductWithSignalRow> findAllWithSignalByBrandIdWithoutLikeAfter(Long brandId, Long id, int size);
 }
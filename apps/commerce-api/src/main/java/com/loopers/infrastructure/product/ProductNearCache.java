@@ -0,0 +1,103 @@
+package com.loopers.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis 앞단의 on-heap L1 캐시.
+ * 역직렬화가 끝난 목록을 그대로 보관하고, 다른 노드의 갱신은 Redis Pub/Sub 으로 전달받아 무효화한다.
+ */
+@Slf4j
+@Component
+public class ProductNearCache implements MessageListener {
+    public static final String CACHE_NAME = "product_with_signal_near";
+    static final String INVALIDATION_CHANNEL = "product_with_signal-v1:invalidation";
+    private static final String ALL_KEYS = "*";
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, ProductCachePage> cache;
+
+    public ProductNearCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            ProductCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getNear().getMaximumSize())
+                .expireAfterWrite(properties.getNear().getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * @return 캐시에 없으면 null
+     */
+    public ProductCachePage get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(String key, ProductCachePage page) {
+        cache.put(key, page);
+    }
+
+    /**
+     * 로컬 L1 을 비우고, 다른 노드에도 무효화를 전파한다.
+     */
+    public void invalidate(String key) {
+        cache.invalidate(key);
+        publish(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        publish(ALL_KEYS);
+    }
+
+    /**
+     * 이 노드가 Redis 에 새 값을 기록했음을 다른 노드에 알린다. 로컬 L1 은 유지한다.
+     */
+    public void publish(String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + SEPARATOR + key);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 L1 TTL 이 지나면 Redis 값을 다시 읽는다.
+            log.warn("상품 L1 캐시 무효화 전파 실패 - key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separatorIndex))) {
+            return;
+        }
+        String key = body.substring(separatorIndex + 1);
+        if (ALL_KEYS.equals(key)) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(key);
+        }
+    }
+}
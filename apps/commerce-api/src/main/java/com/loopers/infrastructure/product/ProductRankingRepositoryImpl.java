@@ -0,0 +1,188 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductInfo;
+import com.loopers.domain.product.ProductRankingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요순 랭킹을 Redis sorted set 으로 관리한다.
+ * score 는 -likeCount 이고 member 는 0 으로 채운 상품 id 이므로, 오름차순 조회 시 좋아요 내림차순, 동점은 id 오름차순이 된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductRankingRepositoryImpl implements ProductRankingRepository {
+    private static final String PREFIX = "product_ranking-v1:";
+    private static final String ALL = "all";
+    private static final String BRANDS = "brands";
+    private static final String BRAND_PREFIX = "brand-";
+    private static final String NAMES = "names";
+    private static final String READY_KEY = PREFIX + "ready";
+    private static final Duration STAGE_TIME_TO_LIVE = Duration.ofMinutes(30);
+
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+            local brand = redis.call('HGET', KEYS[1], ARGV[1])
+            if not brand then return 0 end
+            redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1])
+            redis.call('ZINCRBY', ARGV[3] .. brand, ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('HGET', KEYS[1], ARGV[1])
+            if previous and previous ~= ARGV[3] then redis.call('ZREM', ARGV[4] .. previous, ARGV[1]) end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            redis.call('ZADD', ARGV[4] .. ARGV[3], ARGV[2], ARGV[1])
+            redis.call('SADD', KEYS[3], ARGV[5], ARGV[6], ARGV[7] .. ARGV[3])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local brand = redis.call('HGET', KEYS[1], ARGV[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if brand then redis.call('ZREM', ARGV[2] .. brand, ARGV[1]) end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('SMEMBERS', KEYS[2])
+            for _, name in ipairs(current) do redis.call('UNLINK', ARGV[2] .. name) end
+            redis.call('UNLINK', KEYS[2])
+            local staged = redis.call('SMEMBERS', KEYS[1])
+            for _, name in ipairs(staged) do
+                redis.call('RENAME', ARGV[1] .. name, ARGV[2] .. name)
+                redis.call('PERSIST', ARGV[2] .. name)
+            end
+            if #staged > 0 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('PERSIST', KEYS[2])
+            end
+            redis.call('SET', KEYS[3], ARGV[3])
+            return #staged
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    }
+
+    @Override
+    public List<Long> findIds(Long brandId, Pageable pageable) {
+        String key = brandId == null ? PREFIX + ALL : PREFIX + BRAND_PREFIX + brandId;
+        Set<String> members = redisTemplate.opsForZSet().range(key, pageable.getOffset(), pageable.getOffset() + pageable.getPageSize() - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    @Override
+    public List<ProductInfo.Ranking> findTop(int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(PREFIX + ALL, 0, size - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<String> members = tuples.stream().map(ZSetOperations.TypedTuple::getValue).toList();
+        List<Object> brandIds = redisTemplate.opsForHash().multiGet(PREFIX + BRANDS, new ArrayList<>(members));
+        List<ProductInfo.Ranking> rankings = new ArrayList<>(members.size());
+        int index = 0;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            Object brandId = brandIds.get(index++);
+            rankings.add(new ProductInfo.Ranking(
+                    Long.parseLong(tuple.getValue()),
+                    brandId == null ? null : Long.parseLong(brandId.toString()),
+                    likeCountOf(tuple.getScore())
+            ));
+        }
+        return rankings;
+    }
+
+    @Override
+    public long count() {
+        Long count = redisTemplate.opsForZSet().zCard(PREFIX + ALL);
+        return count == null ? 0L : count;
+    }
+
+    @Override
+    public void increase(Long productId, long delta) {
+        redisTemplate.execute(INCREASE_SCRIPT,
+                List.of(PREFIX + BRANDS, PREFIX + ALL),
+                member(productId), String.valueOf(-delta), PREFIX + BRAND_PREFIX);
+    }
+
+    @Override
+    public void add(ProductInfo.Ranking ranking) {
+        redisTemplate.execute(ADD_SCRIPT,
+                List.of(PREFIX + BRANDS, PREFIX + ALL, PREFIX + NAMES),
+                member(ranking.productId()), String.valueOf(scoreOf(ranking.likeCount())), String.valueOf(ranking.brandId()),
+                PREFIX + BRAND_PREFIX, ALL, BRANDS, BRAND_PREFIX);
+    }
+
+    @Override
+    public void remove(Long productId) {
+        redisTemplate.execute(REMOVE_SCRIPT,
+                List.of(PREFIX + BRANDS, PREFIX + ALL),
+                member(productId), PREFIX + BRAND_PREFIX);
+    }
+
+    @Override
+    public void stage(String generation, List<ProductInfo.Ranking> rankings) {
+        if (rankings.isEmpty()) {
+            return;
+        }
+        String stagePrefix = stagePrefix(generation);
+        Map<String, Set<ZSetOperations.TypedTuple<String>>> byName = new HashMap<>();
+        Map<String, String> brands = new HashMap<>();
+        for (ProductInfo.Ranking ranking : rankings) {
+            String member = member(ranking.productId());
+            ZSetOperations.TypedTuple<String> tuple = ZSetOperations.TypedTuple.of(member, scoreOf(ranking.likeCount()));
+            byName.computeIfAbsent(ALL, name -> new HashSet<>()).add(tuple);
+            byName.computeIfAbsent(BRAND_PREFIX + ranking.brandId(), name -> new HashSet<>()).add(tuple);
+            brands.put(member, String.valueOf(ranking.brandId()));
+        }
+
+        byName.forEach((name, tuples) -> redisTemplate.opsForZSet().add(stagePrefix + name, tuples));
+        redisTemplate.opsForHash().putAll(stagePrefix + BRANDS, brands);
+
+        Set<String> names = new HashSet<>(byName.keySet());
+        names.add(BRANDS);
+        redisTemplate.opsForSet().add(stagePrefix + NAMES, names.toArray(String[]::new));
+
+        // 재구축이 중단되면 적재 중이던 세대는 만료로 정리된다.
+        names.add(NAMES);
+        names.forEach(name -> redisTemplate.expire(stagePrefix + name, STAGE_TIME_TO_LIVE));
+    }
+
+    @Override
+    public void publish(String generation) {
+        redisTemplate.execute(PUBLISH_SCRIPT,
+                List.of(stagePrefix(generation) + NAMES, PREFIX + NAMES, READY_KEY),
+                stagePrefix(generation), PREFIX, generation);
+    }
+
+    private String stagePrefix(String generation) {
+        return PREFIX + "rebuild-" + generation + ":";
+    }
+
+    private String member(Long productId) {
+        return String.format("%019d", productId);
+    }
+
+    private double scoreOf(Long likeCount) {
+        return 0d - likeCount;
+    }
+
+    private long likeCountOf(Double score) {
+        return score == null ? 0L : (long) -score;
+    }
+}
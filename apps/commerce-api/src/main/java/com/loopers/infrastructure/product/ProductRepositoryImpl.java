@@ -1,18 +1,62 @@
 package com.loopers.infrastructure.product;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.loopers.domain.product.*;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Optional;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.*;
 
 @RequiredArgsConstructor
 @Component
 public class ProductRepositoryImpl implements ProductRepository, ProductReader {
 
+    /**
+     * 단일 테이블 UPDATE 는 SET 절을 왼쪽부터 적용하므로, state 판단 시점의 stock 은 차감 후 값이다.
+     */
+    private static final String DEDUCT_STOCK_SQL = """
+UPDATE product
+SET stock = stock - ?,
+    state = CASE WHEN stock = 0 THEN 'OUT_OF_STOCK' ELSE state END,
+    released_at = CASE WHEN stock = 0 THEN NULL ELSE released_at END,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?
+    AND stock >= ?
+    AND state = 'OPEN'
+    AND deleted_at IS NULL""";
+    private static final String INSERT_STOCK_FLUSH_SQL = """
+INSERT INTO product_stock_flush (token, applied_at) VALUES (?, ?)""";
+    /**
+     * 예약 시점에 가용 재고를 검증했으므로 조건 없이 차감한다. 어긋난 재고가 음수가 되지 않도록만 막는다.
+     */
+    private static final String APPLY_STOCK_SQL = """
+UPDATE product
+SET stock = GREATEST(stock - ?, 0),
+    state = CASE WHEN stock = 0 AND state = 'OPEN' THEN 'OUT_OF_STOCK' ELSE state END,
+    released_at = CASE WHEN state = 'OUT_OF_STOCK' THEN NULL ELSE released_at END,
+    updated_at = UTC_TIMESTAMP(6)
+WHERE id = ?
+    AND deleted_at IS NULL""";
+    private static final String DELETE_STOCK_FLUSH_SQL = """
+DELETE FROM product_stock_flush WHERE applied_at < ?""";
+    private static final String SELECT_STOCK_FLUSH_SQL = """
+SELECT token FROM product_stock_flush WHERE token IN (%s)""";
+
+    private static final long EXISTING_ID_CACHE_SIZE = 100_000;
+
     private final ProductJpaRepository productJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Long, Boolean> existingIds = Caffeine.newBuilder().maximumSize(EXISTING_ID_CACHE_SIZE).build();
 
     @Override
     public ProductEntity save(ProductEntity product) {
@@ -24,6 +68,18 @@ public class ProductRepositoryImpl implements ProductRepository, ProductReader {
         return productJpaRepository.findById(id);
     }
 
+    @Override
+    public boolean exists(Long id) {
+        if (existingIds.getIfPresent(id) != null) {
+            return true;
+        }
+        boolean exists = productJpaRepository.existsById(id);
+        if (exists) {
+            existingIds.put(id, Boolean.TRUE);
+        }
+        return exists;
+    }
+
     @Override
     public List<ProductEntity> findList(ProductStatement criteria, Pageable pageable) {
         var spec = ProductJpaSpecification.from(criteria);
@@ -40,6 +96,72 @@ public class ProductRepositoryImpl implements ProductRepository, ProductReader {
         return productJpaRepository.lockAllById(ids);
     }
 
+    @Override
+    public List<ProductInfo.StockDeduction> deductStock(List<ProductCommand.Deduct> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        int[][] updateCounts = jdbcTemplate.batchUpdate(DEDUCT_STOCK_SQL, items, items.size(), (ps, item) -> {
+            ps.setLong(1, item.quantity());
+            ps.setLong(2, item.productId());
+            ps.setLong(3, item.quantity());
+        });
+        return toDeductions(items, updateCounts);
+    }
+
+    @Override
+    public List<ProductInfo.StockDeduction> applyStockBatch(ProductStockBatch batch) {
+        try {
+            jdbcTemplate.update(INSERT_STOCK_FLUSH_SQL, batch.token(), Timestamp.from(ZonedDateTime.now().toInstant()));
+        } catch (DuplicateKeyException e) {
+            return List.of();
+        }
+        int[][] updateCounts = jdbcTemplate.batchUpdate(APPLY_STOCK_SQL, batch.items(), batch.items().size(), (ps, item) -> {
+            ps.setLong(1, item.quantity());
+            ps.setLong(2, item.productId());
+        });
+        return toDeductions(batch.items(), updateCounts);
+    }
+
+    @Override
+    public int deleteStockBatches(ZonedDateTime before) {
+        return jdbcTemplate.update(DELETE_STOCK_FLUSH_SQL, Timestamp.from(before.toInstant()));
+    }
+
+    @Override
+    public Set<String> findAppliedStockBatches(Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(tokens.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_STOCK_FLUSH_SQL.formatted(placeholders), String.class, tokens.toArray()));
+    }
+
+    private List<ProductInfo.StockDeduction> toDeductions(List<ProductCommand.Deduct> items, int[][] updateCounts) {
+        int[] counts = updateCounts.length == 0 ? new int[0] : updateCounts[0];
+        if (Arrays.stream(counts).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 차감 결과를 확인할 수 없습니다.");
+        }
+
+        List<Long> deductedIds = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (counts[i] > 0) {
+                deductedIds.add(items.get(i).productId());
+            }
+        }
+        Set<Long> soldOutIds = deductedIds.isEmpty() ? Set.of() : new HashSet<>(productJpaRepository.findOutOfStockIds(deductedIds));
+
+        List<ProductInfo.StockDeduction> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ProductCommand.Deduct item = items.get(i);
+            ProductInfo.StockDeduction.Result result = counts[i] == 0 ? ProductInfo.StockDeduction.Result.REJECTED
+                    : soldOutIds.contains(item.productId()) ? ProductInfo.StockDeduction.Result.SOLD_OUT
+                    : ProductInfo.StockDeduction.Result.DEDUCTED;
+            results.add(new ProductInfo.StockDeduction(item.productId(), item.quantity(), result));
+        }
+        return results;
+    }
+
     // ProductWithSignal 메서드 구현
     @Override
     public Optional<ProductInfo.ProductWithSignal> findWithSignal(Long id) {
@@ -80,9 +202,65 @@ public class ProductRepositoryImpl implements ProductRepository, ProductReader {
         }
     }
 
+    @Override
+    public List<ProductInfo.ProductWithSignal> findWithSignals(ProductStatement statement, ProductCursor cursor, int size) {
+        Long brandId = statement.getBrandId();
+        if (statement.getOrderBy() instanceof ProductStatement.LikeCount) {
+            return findWithSignalsOrderByLikeCount(brandId, cursor, size);
+        }
+        PageRequest limit = PageRequest.of(0, size);
+        if (statement.getOrderBy() instanceof ProductStatement.Price) {
+            if (cursor == null) {
+                return brandId != null ? productJpaRepository.findAllWithSignalByBrandIdOrderByPriceAsc(brandId, limit)
+                        : productJpaRepository.findAllWithSignalOrderByPriceAsc(limit);
+            }
+            return brandId != null ? productJpaRepository.findAllWithSignalByBrandIdOrderByPriceAscAfter(brandId, cursor.sortValue(), cursor.id(), limit)
+                    : productJpaRepository.findAllWithSignalOrderByPriceAscAfter(cursor.sortValue(), cursor.id(), limit);
+        }
+        if (cursor == null) {
+            return brandId != null ? productJpaRepository.findAllWithSignalByBrandIdOrderByReleasedAtDesc(brandId, limit)
+                    : productJpaRepository.findAllWithSignalOrderByReleasedAtDesc(limit);
+        }
+        return brandId != null ? productJpaRepository.findAllWithSignalByBrandIdOrderByReleasedAtDescAfter(brandId, cursor.releasedAt(), cursor.id(), limit)
+                : productJpaRepository.findAllWithSignalOrderByReleasedAtDescAfter(cursor.releasedAt(), cursor.id(), limit);
+    }
+
+    /**
+     * 좋아요가 있는 상품을 좋아요순으로 모두 조회한 뒤, 좋아요가 없는 상품을 id 순으로 이어서 조회한다.
+     * 커서의 좋아요 수가 0 이면 좋아요가 없는 구간부터 시작한다.
+     */
+    private List<ProductInfo.ProductWithSignal> findWithSignalsOrderByLikeCount(Long brandId, ProductCursor cursor, int size) {
+        List<ProductWithSignalRow> rows = new ArrayList<>(size);
+        long lastIdWithoutLike = 0L;
+        if (cursor == null || cursor.sortValue() > 0) {
+            long likeCount = cursor == null ? Long.MAX_VALUE : cursor.sortValue();
+            long id = cursor == null ? 0L : cursor.id();
+            rows.addAll(productJpaRepository.findAllWithSignalOrderByLikeCountDescAfter(brandId, likeCount, id, size));
+        } else {
+            lastIdWithoutLike = cursor.id();
+        }
+        if (rows.size() < size) {
+            int remaining = size - rows.size();
+            rows.addAll(brandId != null ? productJpaRepository.findAllWithSignalByBrandIdWithoutLikeAfter(brandId, lastIdWithoutLike, remaining)
+                    : productJpaRepository.findAllWithSignalWithoutLikeAfter(lastIdWithoutLike, remaining));
+        }
+        return rows.stream()
+                .map(ProductInfo.ProductWithSignal::from)
+                .toList();
+    }
+
     @Override
     public List<ProductInfo.ProductWithSignal> findWithSignals(List<Long> ids) {
         return productJpaRepository.findAllWithSignal(ids);
     }
 
+    @Override
+    public List<ProductInfo.Ranking> findRankings(Long lastId, int size) {
+        return productJpaRepository.findAllRankingAfter(lastId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public long countOpen() {
+        return productJpaRepository.countOpen();
+    }
 }
@@ -1,5 +1,7 @@
 package com.loopers.infrastructure.user;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.loopers.domain.user.UserStatement;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserRepository;
@@ -13,7 +15,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Component
 public class UserRepositoryImpl implements UserRepository {
+    private static final long EXISTING_ID_CACHE_SIZE = 100_000;
+
     private final UserJpaRepository jpaRepository;
+    private final Cache<Long, Boolean> existingIds = Caffeine.newBuilder().maximumSize(EXISTING_ID_CACHE_SIZE).build();
 
     @Override
     public UserEntity save(UserEntity model) {
@@ -31,6 +36,18 @@ public class UserRepositoryImpl implements UserRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public boolean exists(Long id) {
+        if (existingIds.getIfPresent(id) != null) {
+            return true;
+        }
+        boolean exists = jpaRepository.existsById(id);
+        if (exists) {
+            existingIds.put(id, Boolean.TRUE);
+        }
+        return exists;
+    }
+
     @Override
     public Optional<UserEntity> find(UserStatement criteria) {
         var spec = UserJpaSpecification.with(criteria);
@@ -6,8 +6,6 @@ import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/orders")
 @RestController
@@ -21,17 +19,24 @@ public class OrderV1Controller {
         return ApiResponse.success(OrderV1Dto.Response.Summary.from(result));
     }
 
+    /**
+     * 최근 주문부터 커서 기반으로 조회한다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다.
+     */
     @GetMapping
-    public ApiResponse<List<OrderV1Dto.Response.Summary>> list(@RequestHeader("X-User-ID") Long userId) {
-        var result = orderFacade.list(userId);
-        return ApiResponse.success(OrderV1Dto.Response.Summary.of(result));
+    public ApiResponse<OrderV1Dto.Response.CursorPage> list(
+            @RequestHeader("X-User-ID") Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        var result = orderFacade.list(userId, cursor, size);
+        return ApiResponse.success(OrderV1Dto.Response.CursorPage.from(result));
     }
 
     @GetMapping("/{orderId}")
     public ApiResponse<OrderV1Dto.Response.Detail> detail(
             @PathVariable Long orderId,
             @RequestHeader("X-User-ID") Long userId) {
-        var result = orderFacade.detail(orderId, userId);
+        var result = orderFacade.detail(userId, orderId);
         return ApiResponse.success(OrderV1Dto.Response.Detail.from(result));
     }
 
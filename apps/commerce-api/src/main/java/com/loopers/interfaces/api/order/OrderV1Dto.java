@@ -55,6 +55,18 @@ public class OrderV1Dto {
             }
         }
 
+        public record CursorPage(
+                List<Summary> items,
+                Long nextCursor
+        ) {
+            public static CursorPage from(OrderResult.CursorPage result) {
+                return new CursorPage(
+                        Summary.of(result.items()),
+                        result.nextCursor()
+                );
+            }
+        }
+
         public record Detail(
                 Long orderId,
                 Long userId,
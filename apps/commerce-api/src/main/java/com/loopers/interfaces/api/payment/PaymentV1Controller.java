@@ -27,8 +27,11 @@ public class PaymentV1Controller {
         return ApiResponse.success(PaymentV1Dto.Response.Summary.from(result));
     }
 
+    /**
+     * PG 콜백을 수신 큐에 기록하고 바로 응답한다. 이미 받은 transactionKey 는 기록하지 않고 성공으로 응답한다.
+     */
     @PostMapping("/transactions")
-    public ApiResponse<PaymentV1Dto.Response.Summary> transaction(@RequestBody PaymentV1Dto.Request.Transaction transaction) {
+    public ApiResponse<PaymentV1Dto.Response.Callback> transaction(@RequestBody PaymentV1Dto.Request.Transaction transaction) {
         PaymentCriteria.Transaction criteria = new PaymentCriteria.Transaction(
                 transaction.transactionKey(),
                 transaction.orderId(),
@@ -38,7 +41,7 @@ public class PaymentV1Controller {
                 transaction.status(),
                 transaction.reason()
         );
-        var result = paymentFacade.pay(criteria);
-        return ApiResponse.success(PaymentV1Dto.Response.Summary.from(result));
+        var result = paymentFacade.receive(criteria);
+        return ApiResponse.success(PaymentV1Dto.Response.Callback.from(result));
     }
 }
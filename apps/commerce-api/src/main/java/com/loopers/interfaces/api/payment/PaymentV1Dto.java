@@ -39,5 +39,14 @@ public class PaymentV1Dto {
                 );
             }
         }
+
+        public record Callback(
+                String transactionKey,
+                boolean accepted
+        ) {
+            public static Callback from(PaymentResult.Callback callback) {
+                return new Callback(callback.transactionKey(), callback.accepted());
+            }
+        }
     }
 }
@@ -17,8 +17,11 @@ public class ProductV1Controller {
     private final ProductFacade productFacade;
 
     @GetMapping("/{productId}")
-    public ApiResponse<ProductV1Dto.DetailResponse> get(@PathVariable Long productId) {
-        var result = productFacade.get(productId);
+    public ApiResponse<ProductV1Dto.DetailResponse> get(
+            @PathVariable Long productId,
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId
+    ) {
+        var result = productFacade.get(productId, userId);
         return ApiResponse.success(ProductV1Dto.DetailResponse.from(result));
     }
 
@@ -27,8 +30,33 @@ public class ProductV1Controller {
             @RequestParam(required = false) Long brandId,
             @RequestParam(required = false, defaultValue = "latest") String sort,
             @RequestParam(required = false, defaultValue = "0") Integer page,
-            @RequestParam(required = false, defaultValue = "20") Integer size
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId
+    ) {
+        var criteria = statementOf(brandId, sort);
+        var pageable = PageRequest.of(page, size);
+        var result = productFacade.list(criteria, pageable, userId);
+        return ApiResponse.success(ProductV1Dto.SummaryResponse.of(result));
+    }
+
+    /**
+     * 커서 기반 목록 조회. 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다.
+     * 정렬 키와 id 로 seek 하므로 페이지 깊이와 관계없이 비용이 같다.
+     */
+    @GetMapping("/cursor")
+    public ApiResponse<ProductV1Dto.CursorResponse> listByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            @RequestHeader(value = "X-USER-ID", required = false) Long userId
     ) {
+        var criteria = statementOf(brandId, sort);
+        var result = productFacade.list(criteria, cursor, size, userId);
+        return ApiResponse.success(ProductV1Dto.CursorResponse.from(result));
+    }
+
+    private ProductStatement statementOf(Long brandId, String sort) {
         var cirteriaBuilder = ProductStatement.builder();
         if(brandId != null) {
             cirteriaBuilder.brandId(brandId);
@@ -41,9 +69,6 @@ public class ProductV1Controller {
                 default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
             }
         }
-        var criteria = cirteriaBuilder.build();
-        var pageable = PageRequest.of(page, size);
-        var result = productFacade.list(criteria, pageable);
-        return ApiResponse.success(ProductV1Dto.SummaryResponse.of(result));
+        return cirteriaBuilder.build();
     }
 }
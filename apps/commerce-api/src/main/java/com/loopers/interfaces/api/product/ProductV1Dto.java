@@ -15,7 +15,8 @@ public class ProductV1Dto {
             Long stock,
             Long likeCount,
             String state,
-            String releasedAt
+            String releasedAt,
+            boolean liked
     ) {
         public static DetailResponse from(ProductResult.Detail info) {
             return new DetailResponse(
@@ -27,7 +28,8 @@ public class ProductV1Dto {
                 info.stock(),
                 info.likeCount(),
                 info.state(),
-                info.releasedAt()
+                info.releasedAt(),
+                info.liked()
             );
         }
     }
@@ -41,7 +43,8 @@ public class ProductV1Dto {
             Long stock,
             Long likeCount,
             String state,
-            String releasedAt
+            String releasedAt,
+            boolean liked
     ) {
         public static SummaryResponse from(ProductResult.Summary info) {
             return new SummaryResponse(
@@ -53,7 +56,8 @@ public class ProductV1Dto {
                 info.stock(),
                 info.likeCount(),
                 info.state(),
-                info.releasedAt()
+                info.releasedAt(),
+                info.liked()
             );
         }
 
@@ -63,4 +67,16 @@ public class ProductV1Dto {
                     .toList();
         }
     }
+
+    public record CursorResponse(
+            List<SummaryResponse> items,
+            String nextCursor
+    ) {
+        public static CursorResponse from(ProductResult.CursorPage result) {
+            return new CursorResponse(
+                SummaryResponse.of(result.items()),
+                result.nextCursor()
+            );
+        }
+    }
 }
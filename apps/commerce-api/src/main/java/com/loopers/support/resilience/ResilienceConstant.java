@@ -7,4 +7,7 @@ public class ResilienceConstant {
     public final static String PG_REQUEST_CB = "pgRequestCircuitBreaker";
     public final static String PG_REQUEST_TL = "pgRequestTimeLimiter";
     public static final String PG_REQUEST_RT = "pgRequestRetry";
+
+    public final static String PG_FIND_BH = "pgFindBulkhead";
+    public final static String PG_REQUEST_BH = "pgRequestBulkhead";
 }
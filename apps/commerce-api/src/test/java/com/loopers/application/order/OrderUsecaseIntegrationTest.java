@@ -335,7 +335,7 @@ public class OrderUsecaseIntegrationTest {
             OrderEntity preparedOrder = prepareOrderByPoint(preparedUser, preparedProduct, 1L);
 
             // When
-            List<OrderResult.Summary> orderList = orderFacade.list(preparedUser.getId());
+            List<OrderResult.Summary> orderList = orderFacade.list(preparedUser.getId(), null, 20).items();
 
             // Then
             assertFalse(orderList.isEmpty());
@@ -344,6 +344,44 @@ public class OrderUsecaseIntegrationTest {
             assertEquals(preparedOrder.getId(), orderInfo.orderId());
         }
 
+        @DisplayName("커서로 조회하면, 최근 주문부터 겹치지 않게 나누어 반환한다")
+        @Test
+        void returnsPagedOrderList_whenCursorGiven() {
+            // Given
+            UserEntity preparedUser = prepareUser();
+            ProductEntity preparedProduct = prepareReleasedProduct();
+            OrderEntity first = prepareOrderByPoint(preparedUser, preparedProduct, 1L);
+            OrderEntity second = prepareOrderByPoint(preparedUser, preparedProduct, 2L);
+            OrderEntity third = prepareOrderByPoint(preparedUser, preparedProduct, 3L);
+
+            // When
+            OrderResult.CursorPage firstPage = orderFacade.list(preparedUser.getId(), null, 2);
+            OrderResult.CursorPage secondPage = orderFacade.list(preparedUser.getId(), firstPage.nextCursor(), 2);
+
+            // Then
+            assertEquals(List.of(third.getId(), second.getId()),
+                    firstPage.items().stream().map(OrderResult.Summary::orderId).toList());
+            assertEquals(third.getTotalPrice(), firstPage.items().getFirst().totalPrice());
+            assertEquals(List.of(first.getId()),
+                    secondPage.items().stream().map(OrderResult.Summary::orderId).toList());
+            assertNull(secondPage.nextCursor());
+        }
+
+        @DisplayName("조회 크기가 1 미만이거나 100 을 넘으면, BAD_REQUEST 예외가 발생한다")
+        @Test
+        void throwsBadRequest_whenSizeOutOfRange() {
+            // Given
+            Long validUserId = prepareUser().getId();
+
+            // When
+            var tooSmall = assertThrows(CoreException.class, () -> orderFacade.list(validUserId, null, 0));
+            var tooLarge = assertThrows(CoreException.class, () -> orderFacade.list(validUserId, null, 101));
+
+            // Then
+            assertEquals(ErrorType.BAD_REQUEST, tooSmall.getErrorType());
+            assertEquals(ErrorType.BAD_REQUEST, tooLarge.getErrorType());
+        }
+
         @DisplayName("존재하지 않는 유저로 주문 목록 조회시, NOT_FOUND 예외가 발생한다")
         @Test
         void throwsNotFoundException_whenUserDoesNotExist() {
@@ -352,7 +390,7 @@ public class OrderUsecaseIntegrationTest {
             assertTrue(userService.find(nonExistentUserId).isEmpty());
 
             // When
-            var result = assertThrows(CoreException.class, () -> orderFacade.list(nonExistentUserId));
+            var result = assertThrows(CoreException.class, () -> orderFacade.list(nonExistentUserId, null, 20));
 
             // Then
             assertEquals(ErrorType.NOT_FOUND, result.getErrorType());
@@ -366,7 +404,7 @@ public class OrderUsecaseIntegrationTest {
             assertTrue(orderService.find(OrderStatement.userId(validUserId)).isEmpty());
 
             // When
-            List<OrderResult.Summary> orderList = orderFacade.list(validUserId);
+            List<OrderResult.Summary> orderList = orderFacade.list(validUserId, null, 20).items();
 
             // Then
             assertTrue(orderList.isEmpty());
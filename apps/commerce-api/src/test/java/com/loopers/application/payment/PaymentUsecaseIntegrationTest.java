@@ -33,20 +33,26 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest
+/**
+ * 재조회 스케줄러가 테스트 중에 PENDING 결제를 먼저 처리하지 않도록 재조회 주기를 늘린다.
+ */
+@SpringBootTest(properties = "payment.sweep.interval=1h")
 public class PaymentUsecaseIntegrationTest {
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
@@ -79,6 +85,12 @@ public class PaymentUsecaseIntegrationTest {
 
     @MockitoBean
     private PaymentGateway mockPaymentGateway;
+    @MockitoSpyBean
+    private PaymentSweepShards paymentSweepShards;
+    @MockitoSpyBean
+    private PaymentSweepProperties paymentSweepProperties;
+    @Autowired
+    private PaymentSweeper paymentSweeper;
 
     private static final Logger log = LoggerFactory.getLogger(PaymentUsecaseIntegrationTest.class);
 
@@ -150,7 +162,7 @@ public class PaymentUsecaseIntegrationTest {
             // then
             assertEquals("COMPLETED", result.state());
             verify(pointService, times(1)).pay(anyLong(), anyLong());
-            verify(productService, times(1)).deduct(anyMap());
+            verify(productService, times(1)).deductAtomically(anyMap());
             verify(orderService, times(1)).complete(any(OrderCommand.Complete.class));
         }
 
@@ -346,7 +358,7 @@ public class PaymentUsecaseIntegrationTest {
 
             // then
             assertEquals("COMPLETED", result.state());
-            verify(productService, times(1)).deduct(anyMap());
+            verify(productService, times(1)).deductAtomically(anyMap());
             verify(orderService, times(1)).register(any(OrderCommand.Order.class));
         }
 
@@ -367,9 +379,66 @@ public class PaymentUsecaseIntegrationTest {
 
             // then
             Thread.sleep(1000); // PG 요청이 비동기로 처리되므로 잠시 대기
-            var orderList = orderFacade.list(user.getId());
+            var orderList = orderFacade.list(user.getId(), null, 20).items();
             assertEquals(1, orderList.size());
             assertEquals("CANCELLED", orderList.getFirst().state());
         }
     }
+
+    @Nested
+    @DisplayName("PENDING 결제 재조회")
+    class Sweep {
+        private PaymentEntity preparePendingPayment() {
+            UserEntity user = prepareUser(10000L);
+            prepareUserCard(user.getId());
+            ProductEntity product = prepareProduct(1000L, 10L);
+            when(mockPaymentGateway.request(any(PaymentStatement.Request.class)))
+                    .thenReturn(new PaymentInfo.Transaction("transactionKey1234", "PENDING", "결제 대기중"));
+            OrderResult.Summary order = prepareOrderByPg(user, Map.of(product, 1L));
+            // 다른 노드와 나눠 가지지 않도록 이 노드가 모든 shard 를 소유하고, 방금 만든 결제도 재조회 대상으로 본다.
+            doReturn(IntStream.range(0, paymentSweepProperties.getShards()).boxed().toList()).when(paymentSweepShards).own();
+            doReturn(Duration.ZERO).when(paymentSweepProperties).getStaleAfter();
+            return paymentService.findByOrderId(order.orderId()).orElseThrow();
+        }
+
+        private void givenPgOrder(PaymentEntity payment, String status) {
+            PaymentInfo.Order orderInfo = new PaymentInfo.Order(
+                    payment.getOrderKey(),
+                    List.of(new PaymentInfo.Transaction("transactionKey1234", status, null))
+            );
+            when(mockPaymentGateway.findOrderAsync(anyLong(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(orderInfo)));
+        }
+
+        @DisplayName("콜백을 받지 못한 결제가 PG 에서 성공했으면, 결제가 성공 처리되고 주문이 완료된다.")
+        @Test
+        void completeOrder_whenPgTransactionSucceeded() {
+            // given
+            PaymentEntity payment = preparePendingPayment();
+            givenPgOrder(payment, "SUCCESS");
+
+            // when
+            int swept = paymentSweeper.sweep();
+
+            // then
+            assertTrue(swept >= 1);
+            assertEquals(PaymentEntity.State.SUCCESS, paymentService.findByOrderId(payment.getOrderId()).orElseThrow().getState());
+            assertEquals(OrderEntity.State.COMPLETED, orderRepository.find(payment.getOrderId()).orElseThrow().getState());
+        }
+
+        @DisplayName("콜백을 받지 못한 결제가 PG 에서 모두 실패했으면, 결제가 실패 처리되고 주문이 취소된다.")
+        @Test
+        void cancelOrder_whenPgTransactionsFailed() {
+            // given
+            PaymentEntity payment = preparePendingPayment();
+            givenPgOrder(payment, "FAILED");
+
+            // when
+            paymentSweeper.sweep();
+
+            // then
+            assertEquals(PaymentEntity.State.FAILED, paymentService.findByOrderId(payment.getOrderId()).orElseThrow().getState());
+            assertEquals(OrderEntity.State.CANCELLED, orderRepository.find(payment.getOrderId()).orElseThrow().getState());
+        }
+    }
 }
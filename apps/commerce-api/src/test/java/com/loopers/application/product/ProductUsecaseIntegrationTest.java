@@ -16,22 +16,31 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 public class ProductUsecaseIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(ProductUsecaseIntegrationTest.class);
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
     @Autowired
@@ -493,6 +502,124 @@ public class ProductUsecaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("상품 목록 커서 조회")
+    class ByCursor {
+        private List<Long> collectAll(ProductStatement criteria, int size) {
+            var ids = new ArrayList<Long>();
+            String cursor = null;
+            do {
+                var page = productFacade.list(criteria, cursor, size);
+                page.items().forEach(item -> ids.add(item.id()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+            return ids;
+        }
+
+        @DisplayName("낮은 가격 순으로 커서를 따라 끝까지 조회할 때, 누락과 중복 없이 오프셋 조회와 같은 순서로 반환된다.")
+        @Test
+        void returnAllProductsInPriceOrder_whenFollowCursor() {
+            // given
+            BrandEntity preparedBrand = prepareBrand();
+            for (long price : new long[]{3000L, 1000L, 2000L, 1000L, 5000L}) {
+                prepareProduct(preparedBrand, price);
+            }
+            ProductStatement criteria = ProductStatement.builder()
+                    .orderBy(new ProductStatement.Price(true))
+                    .build();
+
+            // when
+            var ids = collectAll(criteria, 2);
+
+            // then
+            var expected = productFacade.list(criteria, Pageable.ofSize(10)).stream()
+                    .map(ProductResult.Summary::id)
+                    .toList();
+            assertEquals(5, ids.size());
+            assertEquals(expected, ids);
+        }
+
+        @DisplayName("최신 순으로 커서를 따라 끝까지 조회할 때, 최신 출시 상품부터 누락 없이 반환된다.")
+        @Test
+        void returnAllProductsInReleasedOrder_whenFollowCursor() {
+            // given
+            BrandEntity preparedBrand = prepareBrand();
+            ProductEntity first = prepareProduct(preparedBrand);
+            ProductEntity second = prepareProduct(preparedBrand);
+            ProductEntity third = prepareProduct(preparedBrand);
+            ProductStatement criteria = ProductStatement.builder()
+                    .brandId(preparedBrand.getId())
+                    .orderBy(new ProductStatement.ReleasedAt(false))
+                    .build();
+
+            // when
+            var ids = collectAll(criteria, 2);
+
+            // then
+            assertEquals(List.of(third.getId(), second.getId(), first.getId()), ids);
+        }
+
+        @DisplayName("좋아요 순으로 커서를 따라 끝까지 조회할 때, 좋아요가 있는 상품 다음에 좋아요가 없는 상품이 id 순으로 반환된다.")
+        @Test
+        void returnLikedProductsFirst_whenFollowCursor() {
+            // given
+            UserEntity preparedUser = prepareUser();
+            BrandEntity preparedBrand = prepareBrand();
+            ProductEntity first = prepareProduct(preparedBrand);
+            ProductEntity second = prepareProduct(preparedBrand);
+            ProductEntity third = prepareProduct(preparedBrand);
+            likeFacade.likeProduct(preparedUser.getId(), third.getId());
+            ProductStatement criteria = ProductStatement.builder()
+                    .orderBy(new ProductStatement.LikeCount())
+                    .build();
+
+            // when
+            var ids = collectAll(criteria, 2);
+
+            // then
+            assertEquals(List.of(third.getId(), first.getId(), second.getId()), ids);
+        }
+
+        @DisplayName("다른 정렬 기준의 커서로 조회할 때, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwBadRequest_whenCursorOfOtherSort() {
+            // given
+            BrandEntity preparedBrand = prepareBrand();
+            prepareProduct(preparedBrand, 1000L);
+            prepareProduct(preparedBrand, 2000L);
+            ProductStatement byPrice = ProductStatement.builder()
+                    .orderBy(new ProductStatement.Price(true))
+                    .build();
+            String priceCursor = productFacade.list(byPrice, null, 1).nextCursor();
+            ProductStatement byLatest = ProductStatement.builder()
+                    .orderBy(new ProductStatement.ReleasedAt(false))
+                    .build();
+
+            // when
+            CoreException exception = assertThrows(CoreException.class, () -> productFacade.list(byLatest, priceCursor, 1));
+
+            // then
+            assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType());
+        }
+
+        @DisplayName("조회 크기가 1 미만이거나 최대 크기를 넘으면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwBadRequest_whenSizeOutOfRange() {
+            // given
+            ProductStatement criteria = ProductStatement.builder()
+                    .orderBy(new ProductStatement.Price(true))
+                    .build();
+
+            // when
+            CoreException zero = assertThrows(CoreException.class, () -> productFacade.list(criteria, null, 0));
+            CoreException tooLarge = assertThrows(CoreException.class, () -> productFacade.list(criteria, null, 101));
+
+            // then
+            assertEquals(ErrorType.BAD_REQUEST, zero.getErrorType());
+            assertEquals(ErrorType.BAD_REQUEST, tooLarge.getErrorType());
+        }
+    }
+
     @Nested
     @DisplayName("상품 정보 조회")
     class Get {
@@ -529,6 +656,59 @@ public class ProductUsecaseIntegrationTest {
     }
 
 
+    @Nested
+    @DisplayName("좋아요 여부 표시")
+    class Liked {
+        @DisplayName("사용자와 함께 목록을 조회하면, 그 사용자가 좋아요한 상품만 liked 로 표시된다.")
+        @Test
+        void markLikedProducts_whenListWithUser() {
+            // given
+            UserEntity preparedUser = prepareUser();
+            ProductEntity likedProduct = prepareProduct("Product1");
+            ProductEntity otherProduct = prepareProduct("Product2");
+            likeFacade.likeProduct(preparedUser.getId(), likedProduct.getId());
+
+            // when
+            var productList = productFacade.list(ProductStatement.builder().orderBy(new ProductStatement.ReleasedAt(false)).build(), Pageable.ofSize(10), preparedUser.getId());
+
+            // then
+            assertEquals(2, productList.size());
+            assertTrue(productList.stream().filter(p -> p.id().equals(likedProduct.getId())).findFirst().orElseThrow().liked());
+            assertFalse(productList.stream().filter(p -> p.id().equals(otherProduct.getId())).findFirst().orElseThrow().liked());
+        }
+
+        @DisplayName("사용자 없이 조회하면, 모든 상품이 liked 가 아니다.")
+        @Test
+        void markNothing_whenListWithoutUser() {
+            // given
+            UserEntity preparedUser = prepareUser();
+            ProductEntity likedProduct = prepareProduct("Product1");
+            likeFacade.likeProduct(preparedUser.getId(), likedProduct.getId());
+
+            // when
+            var productList = productFacade.list(ProductStatement.builder().orderBy(new ProductStatement.ReleasedAt(false)).build(), Pageable.ofSize(10), null);
+
+            // then
+            assertTrue(productList.stream().noneMatch(ProductResult.Summary::liked));
+        }
+
+        @DisplayName("좋아요 집합이 채워진 뒤 좋아요를 취소하면, 다음 조회부터 liked 가 해제된다.")
+        @Test
+        void unmarkProduct_whenDislikedAfterHydrated() {
+            // given
+            UserEntity preparedUser = prepareUser();
+            ProductEntity preparedProduct = prepareProduct("Product1");
+            likeFacade.likeProduct(preparedUser.getId(), preparedProduct.getId());
+            assertTrue(productFacade.get(preparedProduct.getId(), preparedUser.getId()).liked());
+
+            // when
+            likeFacade.dislikeProduct(preparedUser.getId(), preparedProduct.getId());
+
+            // then
+            assertFalse(productFacade.get(preparedProduct.getId(), preparedUser.getId()).liked());
+        }
+    }
+
     @Nested
     @DisplayName("상품 출시")
     class Release {
@@ -623,6 +803,117 @@ public class ProductUsecaseIntegrationTest {
             assertEquals(0L, updatedProduct.getStock());
         }
 
+        @DisplayName("조건부 UPDATE 로 재고를 차감할 때, 상품 id 순서의 결과가 반환되고 재고가 0 이 되면 품절로 전환된다.")
+        @Test
+        void returnDeductionResults_whenDeductAtomically() {
+            // given
+            ProductEntity soldOut = prepareProduct(10L, 2L);
+            ProductEntity remaining = prepareProduct(10L, 5L);
+
+            // when
+            var results = productService.deductAtomically(Map.of(remaining.getId(), 1L, soldOut.getId(), 2L));
+
+            // then
+            assertEquals(soldOut.getId(), results.get(0).productId());
+            assertEquals(ProductInfo.StockDeduction.Result.SOLD_OUT, results.get(0).result());
+            assertEquals(remaining.getId(), results.get(1).productId());
+            assertEquals(ProductInfo.StockDeduction.Result.DEDUCTED, results.get(1).result());
+
+            ProductEntity soldOutProduct = productService.find(soldOut.getId()).orElseThrow();
+            assertEquals(0L, soldOutProduct.getStock());
+            assertEquals(ProductEntity.State.StateType.OUT_OF_STOCK, soldOutProduct.getState().getValue());
+            assertNull(soldOutProduct.getState().getReleasedAt());
+            assertEquals(4L, productService.find(remaining.getId()).orElseThrow().getStock());
+        }
+
+        @DisplayName("조건부 UPDATE 로 재고를 차감할 때, 하나라도 재고가 부족하면 BAD_REQUEST 예외가 발생하고 전체가 롤백된다.")
+        @Test
+        void rollbackAll_whenAnyDeductionRejected() {
+            // given
+            ProductEntity enough = prepareProduct(10L, 5L);
+            ProductEntity lacking = prepareProduct(10L, 1L);
+
+            // when
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> productService.deductAtomically(Map.of(enough.getId(), 1L, lacking.getId(), 2L)));
+
+            // then
+            assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType());
+            assertEquals(5L, productService.find(enough.getId()).orElseThrow().getStock());
+            assertEquals(1L, productService.find(lacking.getId()).orElseThrow().getStock());
+        }
+
+        @DisplayName("인기 상품을 여러 스레드가 동시에 주문할 때, 두 방식 모두 재고를 초과 차감하지 않으며 처리량을 비교한다.")
+        @Test
+        void compareLockingAndAtomicDeduction_whenHotProductsContended() throws InterruptedException {
+            // given
+            int threadCount = 32;
+            int orderCount = 300;
+            long stock = 200L;
+            var lockingProducts = List.of(prepareProduct(10L, stock), prepareProduct(10L, stock), prepareProduct(10L, stock));
+            var atomicProducts = List.of(prepareProduct(10L, stock), prepareProduct(10L, stock), prepareProduct(10L, stock));
+
+            // when
+            var lockingResult = orderConcurrently(lockingProducts, threadCount, orderCount, productService::deduct);
+            var atomicResult = orderConcurrently(atomicProducts, threadCount, orderCount, productService::deductAtomically);
+
+            // then
+            log.info("=== 인기 상품 재고 차감 경합 (threads: {}, orders: {}) ===", threadCount, orderCount);
+            log.info("SELECT FOR UPDATE : {} ms, 성공 {} 건 ({} orders/s)",
+                    lockingResult[0] / 1_000_000, lockingResult[1], orderCount * 1_000_000_000L / lockingResult[0]);
+            log.info("조건부 UPDATE      : {} ms, 성공 {} 건 ({} orders/s)",
+                    atomicResult[0] / 1_000_000, atomicResult[1], orderCount * 1_000_000_000L / atomicResult[0]);
+
+            assertRemainingStock(lockingProducts, stock, lockingResult[1]);
+            assertRemainingStock(atomicProducts, stock, atomicResult[1]);
+        }
+
+        /**
+         * 각 주문은 세 상품 중 두 개를 매번 다른 순서로 담는다.
+         *
+         * @return [경과 나노초, 성공 주문 수]
+         */
+        private long[] orderConcurrently(List<ProductEntity> products, int threadCount, int orderCount,
+                                         Consumer<Map<Long, Long>> deduction) throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch ready = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(orderCount);
+            AtomicLong succeeded = new AtomicLong();
+            for (int i = 0; i < orderCount; i++) {
+                final int first = i % products.size();
+                final int second = (i + 1 + i / products.size()) % products.size() == first
+                        ? (first + 1) % products.size()
+                        : (i + 1 + i / products.size()) % products.size();
+                executor.submit(() -> {
+                    try {
+                        ready.await();
+                        var order = new LinkedHashMap<Long, Long>();
+                        order.put(products.get(first).getId(), 1L);
+                        order.put(products.get(second).getId(), 1L);
+                        deduction.accept(order);
+                        succeeded.incrementAndGet();
+                    } catch (Exception e) {
+                        log.debug("주문 재고 차감 실패", e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            long startedAt = System.nanoTime();
+            ready.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - startedAt;
+            executor.shutdown();
+            return new long[]{elapsed, succeeded.get()};
+        }
+
+        private void assertRemainingStock(List<ProductEntity> products, long stock, long succeededOrders) {
+            long remaining = products.stream()
+                    .mapToLong(product -> productService.find(product.getId()).orElseThrow().getStock())
+                    .sum();
+            products.forEach(product -> assertTrue(productService.find(product.getId()).orElseThrow().getStock() >= 0));
+            // 주문 한 건은 서로 다른 두 상품을 1개씩 차감한다.
+            assertEquals(stock * products.size() - succeededOrders * 2, remaining);
+        }
     }
 }
-
@@ -0,0 +1,101 @@
+package com.loopers.domain.brand;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BrandDictionaryTest {
+    private static final ZonedDateTime UPDATED_AT = ZonedDateTime.parse("2025-08-01T09:00:00+09:00");
+
+    private BrandRepository brandRepository;
+    private BrandDictionary brandDictionary;
+
+    @BeforeEach
+    void setUp() {
+        brandRepository = mock(BrandRepository.class);
+        brandDictionary = new BrandDictionary(brandRepository);
+    }
+
+    private BrandEntity brandOf(Long id, String name, ZonedDateTime deletedAt) {
+        BrandEntity brand = mock(BrandEntity.class);
+        when(brand.getId()).thenReturn(id);
+        when(brand.getName()).thenReturn(name);
+        when(brand.getUpdatedAt()).thenReturn(UPDATED_AT);
+        when(brand.getDeletedAt()).thenReturn(deletedAt);
+        return brand;
+    }
+
+    @DisplayName("이름 조회")
+    @Nested
+    class Find {
+        @DisplayName("적재된 브랜드를 조회하면, DB 를 조회하지 않는다.")
+        @Test
+        void skipRepository_whenLoaded() {
+            // given
+            when(brandRepository.findAll()).thenReturn(List.of(brandOf(1L, "A", null), brandOf(2L, "B", null)));
+            brandDictionary.load();
+
+            // when
+            Map<Long, String> names = brandDictionary.findNames(List.of(2L, 1L));
+            Optional<String> name = brandDictionary.findName(1L);
+
+            // then
+            assertEquals(Map.of(1L, "A", 2L, "B"), names);
+            assertEquals(Optional.of("A"), name);
+            verify(brandRepository, never()).find(anyList());
+            verify(brandRepository, never()).find(any(Long.class));
+        }
+
+        @DisplayName("사전에 없는 브랜드는 한 번만 DB 에서 읽고, 이후에는 사전에서 찾는다.")
+        @Test
+        void fillMissing_whenNotLoaded() {
+            // given
+            when(brandRepository.findAll()).thenReturn(List.of(brandOf(1L, "A", null)));
+            brandDictionary.load();
+            when(brandRepository.find(List.of(3L))).thenReturn(List.of(brandOf(3L, "C", null)));
+
+            // when
+            brandDictionary.findNames(List.of(1L, 3L));
+            Map<Long, String> names = brandDictionary.findNames(List.of(1L, 3L));
+
+            // then
+            assertEquals(Map.of(1L, "A", 3L, "C"), names);
+            verify(brandRepository, times(1)).find(List.of(3L));
+        }
+    }
+
+    @DisplayName("갱신")
+    @Nested
+    class Refresh {
+        @DisplayName("마지막으로 본 updated_at 이후 바뀐 브랜드만 읽어, 이름을 바꾸고 삭제된 브랜드는 뺀다.")
+        @Test
+        void mergeChanges_whenRefreshed() {
+            // given
+            when(brandRepository.findAll()).thenReturn(List.of(brandOf(1L, "A", null), brandOf(2L, "B", null)));
+            brandDictionary.load();
+            when(brandRepository.findUpdatedSince(any(ZonedDateTime.class)))
+                    .thenReturn(List.of(brandOf(1L, "A2", null), brandOf(2L, "B", UPDATED_AT)));
+
+            // when
+            int refreshed = brandDictionary.refresh();
+
+            // then
+            assertEquals(2, refreshed);
+            assertEquals(Optional.of("A2"), brandDictionary.findName(1L));
+            verify(brandRepository).findUpdatedSince(argThat(since -> since.isBefore(UPDATED_AT)));
+            when(brandRepository.find(2L)).thenReturn(Optional.empty());
+            assertTrue(brandDictionary.findName(2L).isEmpty());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.loopers.domain.product.ProductEntity;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.UserService;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +16,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -35,9 +38,16 @@ public class LikeCounterTest {
     @MockitoSpyBean
     private LikeCounter likeCounter;
 
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @MockitoSpyBean
+    private LikeCounterProperties likeCounterProperties;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @Autowired
@@ -46,6 +56,14 @@ public class LikeCounterTest {
     private ProductService productService;
     @Autowired
     private BrandService brandService;
+    @Autowired
+    private LikeService likeService;
+    @Autowired
+    private LikeCountFlusher likeCountFlusher;
+    @Autowired
+    private LikeCountBuffer likeCountBuffer;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
     
     private ProductEntity prepareProduct() {
         Long brandId = brandService.create("Test Brand").getId();
@@ -56,6 +74,12 @@ public class LikeCounterTest {
         return product;
     }
 
+    private long likeCountOf(Long productId) {
+        return likeService.findSummary(productId, LikeEntity.TargetType.PRODUCT)
+                .map(LikeSummaryEntity::getLikeCount)
+                .orElse(0L);
+    }
+
     @DisplayName("실제 동시성 상황에서 정상 카운터 동작 검증")
     @Nested
     class ConcurrencyRetryableTest {
@@ -105,4 +129,143 @@ public class LikeCounterTest {
             assertTrue(capturedTargetIds.size() >= threadCount);
         }
     }
-} 
+
+    @DisplayName("단일 상품 좋아요 경합 벤치마크")
+    @Nested
+    class ContentionBenchmark {
+        private static final int THREAD_COUNT = 32;
+        private static final int LIKE_COUNT = 200;
+
+        private long likeConcurrently(Long productId) throws InterruptedException {
+            CountDownLatch ready = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(LIKE_COUNT);
+            ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+            for (int i = 0; i < LIKE_COUNT; i++) {
+                final long userId = i + 1;
+                executor.submit(() -> {
+                    try {
+                        ready.await();
+                        likeService.register(new LikeCommand.Product(userId, productId));
+                    } catch (Exception e) {
+                        log.error("사용자 {}: 좋아요 등록 실패", userId, e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            long startedAt = System.nanoTime();
+            ready.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - startedAt;
+            executor.shutdown();
+            return elapsed;
+        }
+
+        @DisplayName("LOCKING 모드와 WRITE_BEHIND 모드 모두 좋아요 수를 잃지 않고, 처리 시간을 비교한다.")
+        @Test
+        void compareLockingAndWriteBehind_whenContended() throws InterruptedException {
+            // given
+            // 첫 좋아요의 like_summary 생성 경합은 제외하고, 이미 있는 행의 갱신 경합만 측정한다.
+            ProductEntity lockingProduct = prepareProduct();
+            ProductEntity writeBehindProduct = prepareProduct();
+            likeService.register(new LikeCommand.Product(0L, lockingProduct.getId()));
+            likeService.register(new LikeCommand.Product(0L, writeBehindProduct.getId()));
+
+            // when
+            doReturn(LikeCounterProperties.Mode.LOCKING).when(likeCounterProperties).getMode();
+            long lockingNanos = likeConcurrently(lockingProduct.getId());
+
+            doReturn(LikeCounterProperties.Mode.WRITE_BEHIND).when(likeCounterProperties).getMode();
+            long writeBehindNanos = likeConcurrently(writeBehindProduct.getId());
+            long flushStartedAt = System.nanoTime();
+            likeCountFlusher.flush();
+            long flushNanos = System.nanoTime() - flushStartedAt;
+
+            // then
+            log.info("=== 좋아요 경합 벤치마크 (threads: {}, likes: {}) ===", THREAD_COUNT, LIKE_COUNT);
+            log.info("LOCKING      : {} ms ({} likes/s)", lockingNanos / 1_000_000, LIKE_COUNT * 1_000_000_000L / lockingNanos);
+            log.info("WRITE_BEHIND : {} ms ({} likes/s), flush: {} ms",
+                    writeBehindNanos / 1_000_000, LIKE_COUNT * 1_000_000_000L / writeBehindNanos, flushNanos / 1_000_000);
+
+            assertEquals(LIKE_COUNT + 1, likeCountOf(lockingProduct.getId()));
+            assertEquals(LIKE_COUNT + 1, likeCountOf(writeBehindProduct.getId()));
+        }
+
+        @DisplayName("WRITE_BEHIND 배치를 반영한 뒤 확인 전에 중단되어도, 다시 반영되지 않는다.")
+        @Test
+        void applyOnce_whenFlushInterruptedBeforeAcknowledge() {
+            // given
+            ProductEntity product = prepareProduct();
+            LikeCountBatch batch = new LikeCountBatch("interrupted-batch",
+                    List.of(new LikeCountBatch.Delta(product.getId(), LikeEntity.TargetType.PRODUCT, 3L)));
+
+            // when
+            boolean first = likeService.applyCountBatch(batch);
+            boolean second = likeService.applyCountBatch(batch);
+
+            // then
+            assertTrue(first);
+            assertFalse(second);
+            assertEquals(3L, likeCountOf(product.getId()));
+        }
+    }
+
+    @DisplayName("WRITE_BEHIND 변경분 기록")
+    @Nested
+    class WriteBehind {
+        @DisplayName("좋아요가 커밋되면, 변경분이 DB 에 남아 다음 반영에서 like_summary 에 더해진다.")
+        @Test
+        void applyDelta_whenLikeCommitted() {
+            // given
+            doReturn(LikeCounterProperties.Mode.WRITE_BEHIND).when(likeCounterProperties).getMode();
+            ProductEntity product = prepareProduct();
+            likeService.register(new LikeCommand.Product(1L, product.getId()));
+            likeService.register(new LikeCommand.Product(2L, product.getId()));
+
+            // when
+            likeCountFlusher.flush();
+
+            // then
+            assertEquals(2L, likeCountOf(product.getId()));
+        }
+
+        @DisplayName("다른 노드가 반영 중인 배치는, 이어서 떼어낸 배치의 합계에 들어가지 않는다.")
+        @Test
+        void excludeOtherBatch_whenDrainedWhileFlushing() {
+            // given
+            doReturn(LikeCounterProperties.Mode.WRITE_BEHIND).when(likeCounterProperties).getMode();
+            ProductEntity product = prepareProduct();
+            likeService.register(new LikeCommand.Product(1L, product.getId()));
+            List<LikeCountBatch> flushing = likeCountBuffer.drain();
+            likeService.register(new LikeCommand.Product(2L, product.getId()));
+
+            // when
+            List<LikeCountBatch> drained = likeCountBuffer.drain();
+
+            // then
+            assertEquals(1, flushing.size());
+            assertEquals(1, drained.size());
+            assertNotEquals(flushing.getFirst().token(), drained.getFirst().token());
+            assertEquals(1L, drained.getFirst().deltas().getFirst().delta());
+        }
+
+        @DisplayName("좋아요가 롤백되면, 변경분도 남지 않는다.")
+        @Test
+        void discardDelta_whenLikeRolledBack() {
+            // given
+            doReturn(LikeCounterProperties.Mode.WRITE_BEHIND).when(likeCounterProperties).getMode();
+            ProductEntity product = prepareProduct();
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                likeService.register(new LikeCommand.Product(1L, product.getId()));
+                status.setRollbackOnly();
+            });
+            likeCountFlusher.flush();
+
+            // then
+            assertEquals(0L, likeCountOf(product.getId()));
+        }
+    }
+}
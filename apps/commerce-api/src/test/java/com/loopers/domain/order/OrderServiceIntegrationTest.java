@@ -9,6 +9,9 @@ import com.loopers.domain.user.UserCommand;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserService;
 import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +26,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,6 +50,8 @@ class OrderServiceIntegrationTest {
     private ProductService productService;
     @Autowired
     private BrandService brandService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @AfterEach
     void tearDown() {
@@ -154,4 +160,38 @@ class OrderServiceIntegrationTest {
             verify(orderRepository, atLeastOnce()).save(any(OrderEntity.class));
         }
     }
+
+    @DisplayName("주문 저장")
+    @Nested
+    class Register {
+        @DisplayName("항목 20개짜리 주문을 저장하면, 항목마다 ID 가 미리 정해지고 INSERT 가 배치로 묶여 실행되는 SQL 수가 항목 수보다 적다.")
+        @Test
+        void batchInsertItems_whenRegisterOrderWith20Items() {
+            // given
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            List<OrderCommand.Item> items = LongStream.rangeClosed(1, 20)
+                    .mapToObj(productId -> new OrderCommand.Item(productId, 1000L, 1L))
+                    .toList();
+            OrderCommand.Order orderCommand = new OrderCommand.Order(1L, "POINT", items, List.of());
+
+            // when
+            statistics.clear();
+            statistics.setStatisticsEnabled(true);
+            OrderEntity order;
+            try {
+                order = orderService.register(orderCommand);
+            } finally {
+                statistics.setStatisticsEnabled(false);
+            }
+
+            // then
+            assertTrue(statistics.getPrepareStatementCount() < items.size(), "SQL 수: " + statistics.getPrepareStatementCount());
+            List<Long> itemIds = orderService.find(order.getId()).orElseThrow().getOrderItems().stream()
+                    .map(OrderItemEntity::getId)
+                    .toList();
+            assertEquals(items.size(), itemIds.size());
+            assertTrue(itemIds.stream().allMatch(id -> id != null && id > 0));
+            assertEquals(items.size(), itemIds.stream().distinct().count());
+        }
+    }
 }
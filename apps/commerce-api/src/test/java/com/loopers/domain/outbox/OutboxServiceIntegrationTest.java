@@ -0,0 +1,162 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.application.order.OrderPaymentOutboxHandler;
+import com.loopers.application.order.PaymentAdaptor;
+import com.loopers.application.outbox.OutboxDispatcher;
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.order.OrderEntity;
+import com.loopers.domain.order.OrderService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 발송 스케줄러가 테스트 중에 메시지를 가져가지 않도록 조회 주기를 늘린다.
+ */
+@SpringBootTest(properties = "outbox.poll-interval=1h")
+class OutboxServiceIntegrationTest {
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OutboxService outboxService;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @MockitoSpyBean
+    private OutboxRepository outboxRepository;
+    @MockitoSpyBean
+    private OutboxProperties outboxProperties;
+    @MockitoSpyBean
+    private OrderPaymentOutboxHandler orderPaymentOutboxHandler;
+    @MockitoSpyBean
+    private PaymentAdaptor.PointAdaptor pointAdaptor;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private OrderEntity prepareOrder() {
+        OrderCommand.Order orderCommand = new OrderCommand.Order(
+                1L,
+                "POINT",
+                List.of(new OrderCommand.Item(1L, 100L, 1L)),
+                List.of()
+        );
+        return orderService.register(orderCommand);
+    }
+
+    /**
+     * 발송 스케줄러를 멈춰 두었으므로, 결과가 나타날 때까지 직접 발송하며 기다린다.
+     */
+    private void dispatchUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 50 && !condition.getAsBoolean(); i++) {
+            outboxDispatcher.dispatch();
+            Thread.sleep(100);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @DisplayName("outbox 기록")
+    @Nested
+    class Append {
+        @DisplayName("주문을 등록하면, 결제 요청이 주문과 같은 트랜잭션에서 outbox 에 기록된다.")
+        @Test
+        void appendRequestPayment_whenOrderRegistered() {
+            // when
+            prepareOrder();
+
+            // then
+            verify(outboxRepository, times(1)).save(any(OutboxEntity.class));
+        }
+
+        @DisplayName("트랜잭션 밖에서 기록하면, 예외가 발생한다.")
+        @Test
+        void throwException_whenAppendWithoutTransaction() {
+            // when & then
+            assertThrows(IllegalTransactionStateException.class,
+                    () -> outboxService.append(new OrderCommand.Cancel(1L)));
+        }
+    }
+
+    @DisplayName("outbox 발송")
+    @Nested
+    class Dispatch {
+        @DisplayName("전달을 마치면, outbox 에서 삭제된다.")
+        @Test
+        void deleteMessage_whenDelivered() throws InterruptedException {
+            // given
+            OrderEntity order = prepareOrder();
+
+            // when & then
+            dispatchUntil(() -> outboxService.findLag().pending() == 0);
+            verify(orderPaymentOutboxHandler, atLeastOnce()).handle(any(OrderCommand.RequestPayment.class));
+            assertEquals(0, outboxService.findLag().failed());
+            assertEquals(OrderEntity.State.PENDING, orderService.find(order.getId()).orElseThrow().getState());
+        }
+
+        @DisplayName("가져간 메시지는 lease 동안 다시 가져가지 않는다.")
+        @Test
+        void skipClaimedMessage_whileLeased() {
+            // given
+            doThrow(new RuntimeException("PG 연결 실패")).when(orderPaymentOutboxHandler).handle(any());
+            prepareOrder();
+
+            // when
+            List<OutboxInfo.Message> first = outboxService.claim();
+            List<OutboxInfo.Message> second = outboxService.claim();
+
+            // then
+            assertEquals(1, first.size());
+            assertTrue(second.isEmpty());
+        }
+
+        @DisplayName("결제 수단이 호출을 거절하면, 주문을 취소하지 않고 다시 전달한다.")
+        @Test
+        void retryWithoutCancel_whenPaymentRejected() {
+            // given
+            doThrow(new CoreException(ErrorType.SERVICE_UNAVAILABLE)).when(pointAdaptor).request(any(), any(), any());
+            OrderEntity order = prepareOrder();
+
+            // when
+            outboxDispatcher.dispatch();
+
+            // then
+            verify(orderPaymentOutboxHandler, times(1)).handle(any(OrderCommand.RequestPayment.class));
+            assertEquals(1, outboxService.findLag().pending());
+            assertEquals(0, outboxService.findLag().failed());
+            assertEquals(OrderEntity.State.PENDING, orderService.find(order.getId()).orElseThrow().getState());
+        }
+
+        @DisplayName("전달이 최대 시도 횟수만큼 실패하면, FAILED 로 남고 더 이상 전달하지 않는다.")
+        @Test
+        void markFailed_whenMaxAttemptsExceeded() throws InterruptedException {
+            // given
+            doReturn(1).when(outboxProperties).getMaxAttempts();
+            doThrow(new RuntimeException("PG 연결 실패")).when(orderPaymentOutboxHandler).handle(any());
+            prepareOrder();
+
+            // when & then
+            dispatchUntil(() -> outboxService.findLag().failed() == 1);
+            assertEquals(0, outboxService.findLag().pending());
+            verify(orderPaymentOutboxHandler, times(1)).handle(any());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.loopers.domain.payment;
+
+import com.loopers.application.payment.PaymentCallbackDispatcher;
+import com.loopers.application.payment.PaymentCriteria;
+import com.loopers.application.payment.PaymentFacade;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 수신 큐 처리 스케줄러가 테스트 중에 콜백을 가져가지 않도록 조회 주기를 늘린다.
+ */
+@SpringBootTest(properties = "payment.callback.poll-interval=1h")
+class PaymentCallbackServiceIntegrationTest {
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private PaymentCallbackService paymentCallbackService;
+    @Autowired
+    private PaymentCallbackDispatcher paymentCallbackDispatcher;
+    @MockitoSpyBean
+    private PaymentCallbackProperties paymentCallbackProperties;
+    @MockitoSpyBean
+    private PaymentFacade paymentFacade;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private PaymentCommand.Callback callbackOf(String transactionKey, String orderKey, String status) {
+        return new PaymentCommand.Callback(transactionKey, orderKey, "SAMSUNG", "1234-5678-9814-1451", "5000", status, null);
+    }
+
+    @DisplayName("콜백 수신")
+    @Nested
+    class Enqueue {
+        @DisplayName("같은 transactionKey 의 콜백을 다시 받으면, 기록하지 않는다.")
+        @Test
+        void ignoreCallback_whenTransactionKeyDuplicated() {
+            // given
+            PaymentCommand.Callback callback = callbackOf("20250101:TR:000001", "order-1", "SUCCESS");
+
+            // when
+            boolean first = paymentCallbackService.enqueue(callback);
+            boolean second = paymentCallbackService.enqueue(callback);
+
+            // then
+            assertTrue(first);
+            assertFalse(second);
+            assertEquals(1, paymentCallbackService.findLag().pending());
+        }
+
+        @DisplayName("처리를 마친 콜백이 다시 오면, 기록하지 않는다.")
+        @Test
+        void ignoreCallback_whenAlreadyCompleted() {
+            // given
+            doReturn(null).when(paymentFacade).pay(any(PaymentCriteria.Transaction.class));
+            PaymentCommand.Callback callback = callbackOf("20250101:TR:000001", "order-1", "SUCCESS");
+            paymentCallbackService.enqueue(callback);
+            paymentCallbackDispatcher.dispatch();
+
+            // when
+            boolean accepted = paymentCallbackService.enqueue(callback);
+
+            // then
+            assertFalse(accepted);
+            assertEquals(0, paymentCallbackService.findLag().pending());
+        }
+
+        @DisplayName("transactionKey 가 없으면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwBadRequest_whenTransactionKeyMissing() {
+            // when
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> paymentCallbackService.enqueue(callbackOf(" ", "order-1", "SUCCESS")));
+
+            // then
+            assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType());
+        }
+    }
+
+    @DisplayName("콜백 처리")
+    @Nested
+    class Dispatch {
+        @DisplayName("같은 주문의 콜백은, 가장 최근 콜백으로 한 번만 반영한다.")
+        @Test
+        void payOnce_whenCallbacksShareOrder() {
+            // given
+            doReturn(null).when(paymentFacade).pay(any(PaymentCriteria.Transaction.class));
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000001", "order-1", "FAILED"));
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000002", "order-1", "SUCCESS"));
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000003", "order-2", "SUCCESS"));
+
+            // when
+            int dispatched = paymentCallbackDispatcher.dispatch();
+
+            // then
+            ArgumentCaptor<PaymentCriteria.Transaction> captor = ArgumentCaptor.forClass(PaymentCriteria.Transaction.class);
+            verify(paymentFacade, times(2)).pay(captor.capture());
+            assertEquals(3, dispatched);
+            assertTrue(captor.getAllValues().stream()
+                    .anyMatch(criteria -> criteria.transactionKey().equals("20250101:TR:000002")));
+            assertEquals(0, paymentCallbackService.findLag().pending());
+        }
+
+        @DisplayName("가져간 콜백은 lease 동안 다시 가져가지 않는다.")
+        @Test
+        void skipClaimedCallback_whileLeased() {
+            // given
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000001", "order-1", "SUCCESS"));
+
+            // when
+            List<PaymentCallbackInfo.Message> first = paymentCallbackService.claim();
+            List<PaymentCallbackInfo.Message> second = paymentCallbackService.claim();
+
+            // then
+            assertEquals(1, first.size());
+            assertTrue(second.isEmpty());
+        }
+
+        @DisplayName("결제를 찾을 수 없으면, 다시 시도하지 않고 FAILED 로 남긴다.")
+        @Test
+        void markFailed_whenPaymentNotFound() {
+            // given
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000001", "order-1", "SUCCESS"));
+
+            // when
+            paymentCallbackDispatcher.dispatch();
+
+            // then
+            PaymentCallbackInfo.Lag lag = paymentCallbackService.findLag();
+            assertEquals(0, lag.pending());
+            assertEquals(1, lag.failed());
+        }
+
+        @DisplayName("PG 가 조회를 거절하면, FAILED 로 남기지 않고 다시 시도한다.")
+        @Test
+        void retry_whenPgRejected() {
+            // given
+            doThrow(new CoreException(ErrorType.SERVICE_UNAVAILABLE)).when(paymentFacade).pay(any(PaymentCriteria.Transaction.class));
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000001", "order-1", "SUCCESS"));
+
+            // when
+            paymentCallbackDispatcher.dispatch();
+
+            // then
+            PaymentCallbackInfo.Lag lag = paymentCallbackService.findLag();
+            assertEquals(1, lag.pending());
+            assertEquals(0, lag.failed());
+        }
+
+        @DisplayName("반영이 최대 시도 횟수만큼 실패하면, FAILED 로 남는다.")
+        @Test
+        void markFailed_whenMaxAttemptsExceeded() {
+            // given
+            doReturn(1).when(paymentCallbackProperties).getMaxAttempts();
+            doThrow(new RuntimeException("PG 연결 실패")).when(paymentFacade).pay(any(PaymentCriteria.Transaction.class));
+            paymentCallbackService.enqueue(callbackOf("20250101:TR:000001", "order-1", "SUCCESS"));
+
+            // when
+            paymentCallbackDispatcher.dispatch();
+
+            // then
+            PaymentCallbackInfo.Lag lag = paymentCallbackService.findLag();
+            assertEquals(0, lag.pending());
+            assertEquals(1, lag.failed());
+        }
+    }
+}
@@ -11,6 +11,8 @@ import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.UserCommand;
 import com.loopers.domain.user.UserEntity;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.AfterEach;
@@ -24,6 +26,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -167,5 +171,72 @@ class PaymentServiceIntegrationTest {
             assertNotNull(paymentEntity);
             verify(mockPaymentGateway, atLeastOnce()).findOrder(anyLong(), anyString());
         }
+
+        @DisplayName("PG 상태를 비동기로 조회한 뒤 반영하면, 동기 처리와 같이 결제가 저장된다.")
+        @Test
+        void savePayment_whenPgStateFoundAsync() {
+            // given
+            UserEntity user = prepareUser();
+            prepareUserCard(user.getId());
+            ProductEntity product = prepareProduct(10000L, 10L);
+            when(mockPaymentGateway.request(any(PaymentStatement.Request.class)))
+                    .thenReturn(new PaymentInfo.Transaction(
+                            "transactionKey1234",
+                            "PENDING",
+                            "결제 대기중"
+                    ));
+            OrderResult.Summary order = prepareOrderByPg(user, Map.of(product, 1L));
+            PaymentEntity paymentOrder = paymentService.findByOrderId(order.orderId()).get();
+            PaymentInfo.Order orderInfo = new PaymentInfo.Order(
+                    paymentOrder.getOrderKey(),
+                    List.of(new PaymentInfo.Transaction(
+                            "transactionKey1234",
+                            PaymentEntity.State.SUCCESS.name(),
+                            "정상 승인되었습니다."
+                    ))
+            );
+            when(mockPaymentGateway.findOrderAsync(anyLong(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.of(orderInfo)));
+            PaymentCommand.Transaction transaction = new PaymentCommand.Transaction(
+                    user.getId(),
+                    order.orderId(),
+                    paymentOrder.getOrderKey(),
+                    "transactionKey1234",
+                    "SAMSUNG",
+                    "1234-5678-9012-3456",
+                    "10000",
+                    "SUCCESS",
+                    "정상 승인되었습니다."
+            );
+
+            // when
+            PaymentEntity paymentEntity = paymentService.findOrder(transaction)
+                    .thenApply(found -> paymentService.pay(transaction, found))
+                    .join();
+
+            // then
+            assertEquals(PaymentEntity.State.SUCCESS, paymentEntity.getState());
+            verify(mockPaymentGateway, never()).findOrder(anyLong(), anyString());
+        }
+
+        @DisplayName("PG 에 결제 정보가 없으면, 비동기 조회가 NOT_FOUND 로 실패한다.")
+        @Test
+        void failNotFound_whenPgOrderNotExistsAsync() {
+            // given
+            PaymentCommand.Transaction transaction = new PaymentCommand.Transaction(
+                    1L, 1L, "unknown-order-key", "transactionKey1234",
+                    "SAMSUNG", "1234-5678-9012-3456", "10000", "SUCCESS", null
+            );
+            when(mockPaymentGateway.findOrderAsync(anyLong(), anyString()))
+                    .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+            // when
+            CompletionException exception = assertThrows(CompletionException.class,
+                    () -> paymentService.findOrder(transaction).join());
+
+            // then
+            CoreException cause = assertInstanceOf(CoreException.class, exception.getCause());
+            assertEquals(ErrorType.NOT_FOUND, cause.getErrorType());
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.loopers.domain.payment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentSweepShardsTest {
+    private static final int SHARDS = 16;
+
+    private InMemoryShardRepository repository;
+    private PaymentSweepProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryShardRepository();
+        properties = new PaymentSweepProperties(
+                Duration.ofMinutes(5), Duration.ofMinutes(30), 100, 16, SHARDS, Duration.ofMinutes(2));
+    }
+
+    @DisplayName("shard 소유권")
+    @Nested
+    class Own {
+        @DisplayName("노드가 하나면, 모든 shard 를 소유한다.")
+        @Test
+        void ownAllShards_whenSingleNode() {
+            // given
+            var node = new PaymentSweepShards(repository, properties);
+
+            // when
+            List<Integer> owned = node.own();
+
+            // then
+            assertEquals(SHARDS, owned.size());
+        }
+
+        @DisplayName("노드가 합류하면, 기존 노드가 넘겨준 shard 를 새 노드가 가져가고 두 노드의 shard 는 겹치지 않는다.")
+        @Test
+        void splitShardsWithoutOverlap_whenNodeJoins() {
+            // given
+            var first = new PaymentSweepShards(repository, properties);
+            var second = new PaymentSweepShards(repository, properties);
+            first.own();
+
+            // when
+            List<Integer> secondBeforeHandover = second.own();
+            List<Integer> firstOwned = first.own();
+            List<Integer> secondOwned = second.own();
+
+            // then
+            assertTrue(secondBeforeHandover.isEmpty(), "기존 노드가 lease 를 놓기 전에는 가져갈 수 없다.");
+            Set<Integer> union = new HashSet<>(firstOwned);
+            union.addAll(secondOwned);
+            assertEquals(SHARDS, union.size());
+            assertEquals(SHARDS, firstOwned.size() + secondOwned.size());
+            assertFalse(firstOwned.isEmpty());
+            assertFalse(secondOwned.isEmpty());
+        }
+    }
+
+    @DisplayName("rendezvous hashing 으로 shard 담당 노드를 고르면, 노드 목록 순서와 관계없이 같은 노드가 선택된다.")
+    @Test
+    void chooseSameOwner_regardlessOfMemberOrder() {
+        // given
+        List<String> members = List.of("node-a", "node-b", "node-c");
+        List<String> reversed = List.of("node-c", "node-b", "node-a");
+
+        // when & then
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertEquals(PaymentSweepShards.ownerOf(shard, members), PaymentSweepShards.ownerOf(shard, reversed));
+        }
+    }
+
+    private static class InMemoryShardRepository implements PaymentShardRepository {
+        private final Set<String> members = new LinkedHashSet<>();
+        private final Map<Integer, String> leases = new HashMap<>();
+
+        @Override
+        public List<String> heartbeat(String nodeId, Duration timeout) {
+            members.add(nodeId);
+            return new ArrayList<>(members);
+        }
+
+        @Override
+        public boolean acquire(int shard, String nodeId, Duration leaseTimeout) {
+            return nodeId.equals(leases.computeIfAbsent(shard, key -> nodeId));
+        }
+
+        @Override
+        public void release(int shard, String nodeId) {
+            leases.remove(shard, nodeId);
+        }
+    }
+}
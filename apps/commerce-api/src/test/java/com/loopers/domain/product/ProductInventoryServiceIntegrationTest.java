@@ -0,0 +1,258 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doReturn;
+
+/**
+ * 반영/만료 스케줄러가 테스트 중에 차감분이나 예약을 가져가지 않도록 실행 주기를 늘린다.
+ */
+@SpringBootTest(properties = {
+        "product.inventory.reconcile-interval=1h",
+        "product.inventory.expire-interval=1h"
+})
+public class ProductInventoryServiceIntegrationTest {
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Autowired
+    private BrandService brandService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductInventoryService productInventoryService;
+    @Autowired
+    private ProductStockReconciler productStockReconciler;
+    @Autowired
+    private ProductInventoryRepository productInventoryRepository;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @MockitoSpyBean
+    private ProductInventoryProperties productInventoryProperties;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(ProductInventoryProperties.Mode.RESERVATION).when(productInventoryProperties).getMode();
+    }
+
+    private ProductEntity prepareProduct(long stock) {
+        BrandEntity brand = brandService.create("Test Brand");
+        ProductEntity product = productService.register(new ProductCommand.Register("Test Product", brand.getId(), 10000L, stock));
+        return productService.release(product.getId());
+    }
+
+    private void evictStock(ProductEntity product) {
+        redisTemplate.opsForHash().delete("{product_inventory-v2}:stock", product.getId().toString());
+    }
+
+    @DisplayName("재고 예약")
+    @Nested
+    class Reserve {
+        @DisplayName("하나라도 가용 재고가 부족하면, BAD_REQUEST 예외가 발생하고 어떤 상품도 예약되지 않는다.")
+        @Test
+        void reserveNothing_whenAnyStockLacking() {
+            // given
+            ProductEntity enough = prepareProduct(5L);
+            ProductEntity lacking = prepareProduct(1L);
+
+            // when
+            CoreException exception = assertThrows(CoreException.class,
+                    () -> productInventoryService.reserve(1L, Map.of(enough.getId(), 5L, lacking.getId(), 2L)));
+
+            // then
+            assertEquals(ErrorType.BAD_REQUEST, exception.getErrorType());
+            assertDoesNotThrow(() -> productInventoryService.reserve(2L, Map.of(enough.getId(), 5L, lacking.getId(), 1L)));
+        }
+
+        @DisplayName("같은 주문을 다시 예약하면, 재고를 한 번만 차감한다.")
+        @Test
+        void reserveOnce_whenSameOrderReservedAgain() {
+            // given
+            ProductEntity product = prepareProduct(2L);
+            productInventoryService.reserve(1L, Map.of(product.getId(), 1L));
+
+            // when
+            productInventoryService.reserve(1L, Map.of(product.getId(), 1L));
+
+            // then
+            assertDoesNotThrow(() -> productInventoryService.reserve(2L, Map.of(product.getId(), 1L)));
+        }
+
+        @DisplayName("예약을 해제하면, 가용 재고로 되돌아간다.")
+        @Test
+        void restoreStock_whenReleased() {
+            // given
+            ProductEntity product = prepareProduct(1L);
+            productInventoryService.reserve(1L, Map.of(product.getId(), 1L));
+
+            // when
+            boolean released = productInventoryService.release(1L);
+
+            // then
+            assertTrue(released);
+            assertDoesNotThrow(() -> productInventoryService.reserve(2L, Map.of(product.getId(), 1L)));
+        }
+
+        @DisplayName("한 상품을 여러 주문이 동시에 예약하면, 재고 수만큼만 예약된다.")
+        @Test
+        void reserveUpToStock_whenHotProductContended() throws InterruptedException {
+            // given
+            long stock = 100L;
+            int orderCount = 300;
+            ProductEntity product = prepareProduct(stock);
+            ExecutorService executor = Executors.newFixedThreadPool(32);
+            CountDownLatch latch = new CountDownLatch(orderCount);
+            AtomicInteger reserved = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < orderCount; i++) {
+                long orderId = i + 1;
+                executor.submit(() -> {
+                    try {
+                        productInventoryService.reserve(orderId, Map.of(product.getId(), 1L));
+                        reserved.incrementAndGet();
+                    } catch (CoreException ignored) {
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+
+            // then
+            assertEquals(stock, reserved.get());
+            assertEquals(stock, productService.find(product.getId()).orElseThrow().getStock());
+        }
+    }
+
+    @DisplayName("예약 확정과 반영")
+    @Nested
+    class Commit {
+        @DisplayName("확정된 예약을 반영하면, product 재고가 차감되고 0 이 되면 품절로 전환된다.")
+        @Test
+        void deductProductStock_whenReconciled() {
+            // given
+            ProductEntity soldOut = prepareProduct(1L);
+            ProductEntity remaining = prepareProduct(3L);
+            productInventoryService.reserve(1L, Map.of(soldOut.getId(), 1L, remaining.getId(), 1L));
+            productInventoryService.reserve(2L, Map.of(remaining.getId(), 1L));
+
+            // when
+            productInventoryService.commit(1L, Map.of(soldOut.getId(), 1L, remaining.getId(), 1L));
+            productInventoryService.commit(2L, Map.of(remaining.getId(), 1L));
+            int applied = productStockReconciler.reconcile();
+
+            // then
+            assertEquals(1, applied);
+            ProductEntity soldOutProduct = productService.find(soldOut.getId()).orElseThrow();
+            assertEquals(0L, soldOutProduct.getStock());
+            assertEquals(ProductEntity.State.StateType.OUT_OF_STOCK, soldOutProduct.getState().getValue());
+            assertEquals(1L, productService.find(remaining.getId()).orElseThrow().getStock());
+        }
+
+        @DisplayName("예약이 해제된 주문을 확정하면, 다시 예약한 뒤 확정한다.")
+        @Test
+        void reserveAgain_whenCommittingReleasedOrder() {
+            // given
+            ProductEntity product = prepareProduct(2L);
+            productInventoryService.reserve(1L, Map.of(product.getId(), 1L));
+            productInventoryService.release(1L);
+
+            // when
+            productInventoryService.commit(1L, Map.of(product.getId(), 1L));
+            productStockReconciler.reconcile();
+
+            // then
+            assertEquals(1L, productService.find(product.getId()).orElseThrow().getStock());
+            assertDoesNotThrow(() -> productInventoryService.reserve(2L, Map.of(product.getId(), 1L)));
+            assertThrows(CoreException.class, () -> productInventoryService.reserve(3L, Map.of(product.getId(), 1L)));
+        }
+    }
+
+    @DisplayName("가용 재고 재적재")
+    @Nested
+    class Initialize {
+        @DisplayName("가용 재고가 사라진 뒤 다시 적재하면, 남은 예약과 반영되지 않은 차감분을 빼고 적재한다.")
+        @Test
+        void subtractOutstanding_whenStockReinitialized() {
+            // given
+            ProductEntity product = prepareProduct(5L);
+            productInventoryService.reserve(1L, Map.of(product.getId(), 1L));
+            productInventoryService.commit(2L, Map.of(product.getId(), 1L));
+            productInventoryRepository.drain();
+            productInventoryService.commit(3L, Map.of(product.getId(), 1L));
+            evictStock(product);
+
+            // when
+            productInventoryService.reserve(4L, Map.of(product.getId(), 2L));
+
+            // then
+            assertThrows(CoreException.class, () -> productInventoryService.reserve(5L, Map.of(product.getId(), 1L)));
+            assertEquals(5L, productService.find(product.getId()).orElseThrow().getStock());
+        }
+
+        @DisplayName("풀린 예약은, 다시 적재할 때 빼지 않는다.")
+        @Test
+        void notSubtractReleased_whenStockReinitialized() {
+            // given
+            ProductEntity product = prepareProduct(3L);
+            productInventoryService.reserve(1L, Map.of(product.getId(), 2L));
+            productInventoryService.release(1L);
+            evictStock(product);
+
+            // when
+            productInventoryService.reserve(2L, Map.of(product.getId(), 3L));
+
+            // then
+            assertThrows(CoreException.class, () -> productInventoryService.reserve(3L, Map.of(product.getId(), 1L)));
+        }
+
+        @DisplayName("반영은 마쳤지만 확인되지 않은 배치는, 다시 적재할 때 두 번 빼지 않는다.")
+        @Test
+        void subtractOnce_whenBatchAppliedButNotAcknowledged() {
+            // given
+            ProductEntity product = prepareProduct(3L);
+            productInventoryService.commit(1L, Map.of(product.getId(), 1L));
+            productInventoryRepository.drain().forEach(productService::applyStockBatch);
+            evictStock(product);
+
+            // when
+            productInventoryService.reserve(2L, Map.of(product.getId(), 2L));
+
+            // then
+            assertThrows(CoreException.class, () -> productInventoryService.reserve(3L, Map.of(product.getId(), 1L)));
+            assertEquals(2L, productService.find(product.getId()).orElseThrow().getStock());
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.loopers.domain.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.brand.BrandEntity;
+import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.like.LikeCommand;
+import com.loopers.domain.like.LikeService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+public class ProductRankingServiceIntegrationTest {
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Autowired
+    private BrandService brandService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductFacade productFacade;
+    @Autowired
+    private LikeService likeService;
+    @Autowired
+    private ProductRankingService productRankingService;
+    @Autowired
+    private ProductRankingRepository productRankingRepository;
+    @MockitoSpyBean
+    private ProductReader productReader;
+
+    private List<ProductEntity> prepareProducts(BrandEntity brand, int count) {
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            var product = productService.register(new ProductCommand.Register("Test Product " + i, brand.getId(), 10000L, 1L));
+            productFacade.release(product.getId());
+            products.add(product);
+        }
+        return products;
+    }
+
+    private void like(ProductEntity product, int count) {
+        for (int i = 0; i < count; i++) {
+            likeService.register(new LikeCommand.Product((long) i + 1, product.getId()));
+        }
+    }
+
+    private ProductStatement byLikeCount() {
+        return ProductStatement.builder().orderBy(new ProductStatement.LikeCount()).build();
+    }
+
+    @DisplayName("랭킹 인덱스 조회")
+    @Nested
+    class Find {
+        @DisplayName("재구축 후 좋아요순 조회 시, DB 정렬 없이 좋아요 내림차순, 동점은 id 오름차순으로 반환된다.")
+        @Test
+        void returnRankedProducts_whenRebuilt() {
+            // given
+            BrandEntity brand = brandService.create("Test Brand");
+            List<ProductEntity> products = prepareProducts(brand, 4);
+            like(products.get(2), 3);
+            like(products.get(1), 1);
+            like(products.get(3), 1);
+            productRankingService.rebuild();
+            clearInvocations(productReader);
+
+            // when
+            var result = productService.findWithSignals(byLikeCount(), PageRequest.of(0, 10));
+
+            // then
+            assertEquals(
+                    List.of(products.get(2).getId(), products.get(1).getId(), products.get(3).getId(), products.get(0).getId()),
+                    result.stream().map(ProductInfo.ProductWithSignal::getId).toList());
+            assertEquals(3L, result.getFirst().getLikeCount());
+            verify(productReader, never()).findWithSignals(any(ProductStatement.class), any(Pageable.class));
+        }
+
+        @DisplayName("재구축 후 좋아요가 변경되면, 랭킹 인덱스 순서에 바로 반영된다.")
+        @Test
+        void reorder_whenLikeCountChanged() {
+            // given
+            BrandEntity brand = brandService.create("Test Brand");
+            List<ProductEntity> products = prepareProducts(brand, 3);
+            productRankingService.rebuild();
+
+            // when
+            like(products.get(2), 2);
+            like(products.get(1), 1);
+
+            // then
+            assertEquals(
+                    List.of(products.get(2).getId(), products.get(1).getId(), products.get(0).getId()),
+                    productRankingRepository.findIds(null, PageRequest.of(0, 10)));
+            assertEquals(
+                    List.of(products.get(2).getId(), products.get(1).getId(), products.get(0).getId()),
+                    productRankingRepository.findIds(brand.getId(), PageRequest.of(0, 10)));
+        }
+
+        @DisplayName("재구축 전에는 DB 정렬로 조회한다.")
+        @Test
+        void fallbackToDatabase_whenNotRebuilt() {
+            // given
+            BrandEntity brand = brandService.create("Test Brand");
+            prepareProducts(brand, 2);
+
+            // when
+            productService.findWithSignals(byLikeCount(), PageRequest.of(0, 10));
+
+            // then
+            assertFalse(productRankingRepository.isReady());
+            verify(productReader, times(1)).findWithSignals(any(ProductStatement.class), any(Pageable.class));
+        }
+    }
+
+    @DisplayName("랭킹 정합성 검사")
+    @Nested
+    class Check {
+        @DisplayName("재구축 직후에는 DB 와 일치한다.")
+        @Test
+        void consistent_whenRebuilt() {
+            // given
+            BrandEntity brand = brandService.create("Test Brand");
+            List<ProductEntity> products = prepareProducts(brand, 3);
+            like(products.get(1), 2);
+            productRankingService.rebuild();
+
+            // when
+            ProductInfo.RankingReport report = productRankingService.check(10);
+
+            // then
+            assertTrue(report.isConsistent());
+            assertEquals(3L, report.indexed());
+            assertEquals(3L, report.expected());
+        }
+
+        @DisplayName("인덱스에서 상품이 빠지면, 불일치로 보고된다.")
+        @Test
+        void inconsistent_whenProductMissing() {
+            // given
+            BrandEntity brand = brandService.create("Test Brand");
+            List<ProductEntity> products = prepareProducts(brand, 3);
+            like(products.get(1), 2);
+            productRankingService.rebuild();
+            productRankingRepository.remove(products.get(1).getId());
+
+            // when
+            ProductInfo.RankingReport report = productRankingService.check(10);
+
+            // then
+            assertFalse(report.isConsistent());
+            assertEquals(2L, report.indexed());
+            assertEquals(1, report.mismatched());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.domain.product;
 import com.loopers.application.product.ProductFacade;
 import com.loopers.domain.brand.BrandEntity;
 import com.loopers.domain.brand.BrandService;
+import com.loopers.infrastructure.product.ProductNearCache;
 import com.loopers.utils.DatabaseCleanUp;
 import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +15,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -48,6 +53,10 @@ public class ProductServiceIntegrationTest {
     private ProductCacheRepository productCacheRepository;
     @MockitoSpyBean
     private ProductReader productReader;
+    @Autowired
+    private ProductNearCache productNearCache;
+    @Autowired
+    private ProductCacheInvalidator productCacheInvalidator;
 
     private BrandEntity prepareBrand() {
         BrandEntity brand = brandService.create("Test Brand");
@@ -114,7 +123,7 @@ public class ProductServiceIntegrationTest {
                 assertEquals(20, list.size());
                 verify(productCacheRepository, times(1)).findWithSignal(any(ProductStatement.class), any(Pageable.class));
                 verify(productReader, times(1)).findWithSignals(any(ProductStatement.class), any(Pageable.class));
-                verify(productCacheRepository, times(1)).save(any(ProductStatement.class), any(Pageable.class), anyList());
+                verify(productCacheRepository, times(1)).save(any(ProductStatement.class), any(Pageable.class), anyLong(), anyList(), any(Duration.class));
 
                 // when
                 var productList = productService.findWithSignals(statement, Pageable.ofSize(20));
@@ -141,7 +150,7 @@ public class ProductServiceIntegrationTest {
                 assertEquals(20, list.size());
                 verify(productCacheRepository, times(1)).findWithSignal(any(ProductStatement.class), any(Pageable.class));
                 verify(productReader, times(1)).findWithSignals(any(ProductStatement.class), any(Pageable.class));
-                verify(productCacheRepository, times(1)).save(any(ProductStatement.class), any(Pageable.class), anyList());
+                verify(productCacheRepository, times(1)).save(any(ProductStatement.class), any(Pageable.class), anyLong(), anyList(), any(Duration.class));
 
                 // when
                 var productList = productService.findWithSignals(statement, Pageable.ofSize(20));
@@ -151,6 +160,148 @@ public class ProductServiceIntegrationTest {
                 assertEquals(20, productList.size());
                 verify(productCacheRepository, times(2)).findWithSignal(any(ProductStatement.class), any(Pageable.class)); // 총 2번 호출
             }
+
+            @DisplayName("상품 캐시 항목을 지우면, 다음 조회 때 그 상품만 DB 에서 다시 채워 같은 순서로 응답한다.")
+            @Test
+            void rehydrateEvictedProductOnly_whenEvicted() {
+                // given
+                BrandEntity preparedBrand = prepareBrand();
+                for (int i = 0; i < 20; i++) {
+                    prepareProduct(preparedBrand);
+                }
+                ProductStatement statement = ProductStatement.builder()
+                        .orderBy(new ProductStatement.CreatedAt(false))
+                        .build();
+                var cached = productService.findWithSignals(statement, Pageable.ofSize(20));
+                Long evictedId = cached.get(3).getId();
+                productCacheRepository.evict(List.of(evictedId));
+                productNearCache.invalidateAll();
+
+                // when
+                var productList = productService.findWithSignals(statement, Pageable.ofSize(20));
+
+                // then
+                assertEquals(
+                        cached.stream().map(ProductInfo.ProductWithSignal::getId).toList(),
+                        productList.stream().map(ProductInfo.ProductWithSignal::getId).toList());
+                verify(productReader, times(1)).findWithSignals(any(ProductStatement.class), any(Pageable.class));
+                verify(productReader, times(1)).findWithSignals(List.of(evictedId));
+            }
+
+            @DisplayName("상품이 출시되면, 반영 주기 뒤 목록 세대가 올라 캐시된 목록에 바로 보인다.")
+            @Test
+            void showReleasedProduct_whenInvalidationFlushed() {
+                // given
+                BrandEntity preparedBrand = prepareBrand();
+                for (int i = 0; i < 20; i++) {
+                    prepareProduct(preparedBrand);
+                }
+                productCacheInvalidator.flush();
+                ProductStatement statement = ProductStatement.builder()
+                        .brandId(preparedBrand.getId())
+                        .orderBy(new ProductStatement.CreatedAt(false))
+                        .build();
+                assertEquals(20, productService.findWithSignals(statement, Pageable.ofSize(30)).size());
+                prepareProduct(preparedBrand);
+                assertEquals(20, productService.findWithSignals(statement, Pageable.ofSize(30)).size());
+
+                // when
+                productCacheInvalidator.flush();
+
+                // then
+                assertEquals(21, productService.findWithSignals(statement, Pageable.ofSize(30)).size());
+            }
+
+            @DisplayName("같은 상품의 좋아요가 몰려도, 세대 증가는 한 번으로 합쳐지고 상품별 항목은 지우지 않는다.")
+            @Test
+            void coalesceInvalidations_whenLikesBurst() {
+                // given
+                ProductEntity product = prepareProduct(prepareBrand());
+                productCacheInvalidator.flush();
+                clearInvocations(productCacheRepository);
+                for (int i = 0; i < 500; i++) {
+                    productCacheInvalidator.liked(List.of(product.getId()));
+                }
+
+                // when
+                int invalidated = productCacheInvalidator.flush();
+
+                // then
+                assertEquals(0, invalidated);
+                verify(productCacheRepository, never()).evict(List.of(product.getId()));
+                verify(productCacheRepository, times(1)).bumpGenerations(Set.of(), Set.of(product.getBrandId()));
+            }
+
+            @DisplayName("결과가 빈 목록도 캐시되어, 다시 조회할 때 DB 를 조회하지 않는다.")
+            @Test
+            void returnCachedEmptyList_whenNoProducts() {
+                // given
+                BrandEntity preparedBrand = prepareBrand();
+                ProductStatement statement = ProductStatement.builder()
+                        .brandId(preparedBrand.getId())
+                        .orderBy(new ProductStatement.CreatedAt(false))
+                        .build();
+                assertTrue(productService.findWithSignals(statement, Pageable.ofSize(20)).isEmpty());
+
+                // when
+                var productList = productService.findWithSignals(statement, Pageable.ofSize(20));
+
+                // then
+                assertTrue(productList.isEmpty());
+                verify(productReader, times(1)).findWithSignals(any(ProductStatement.class), any(Pageable.class));
+            }
+        }
+
+        @DisplayName("상품 상세 캐시")
+        @Nested
+        class ProductDetailCacheTest {
+            @DisplayName("같은 상품을 다시 조회하면, DB 를 조회하지 않는다.")
+            @Test
+            void returnCachedDetail_whenQueryAgain() {
+                // given
+                ProductEntity product = prepareProduct(prepareBrand());
+                clearInvocations(productReader);
+                assertTrue(productService.findWithSignal(product.getId()).isPresent());
+
+                // when
+                var productWithSignal = productService.findWithSignal(product.getId());
+
+                // then
+                assertTrue(productWithSignal.isPresent());
+                assertEquals(product.getName(), productWithSignal.get().getName());
+                verify(productReader, times(1)).findWithSignal(product.getId());
+            }
+
+            @DisplayName("없는 상품을 다시 조회하면, DB 를 조회하지 않고 없음을 반환한다.")
+            @Test
+            void returnCachedNotFound_whenQueryAgain() {
+                // given
+                Long nonExistentId = 999L;
+                assertTrue(productService.findWithSignal(nonExistentId).isEmpty());
+
+                // when
+                var productWithSignal = productService.findWithSignal(nonExistentId);
+
+                // then
+                assertTrue(productWithSignal.isEmpty());
+                verify(productReader, times(1)).findWithSignal(nonExistentId);
+            }
+
+            @DisplayName("좋아요 수 변경분을 반영하면, 상품 항목을 다시 채우지 않고 새 좋아요 수가 조회된다.")
+            @Test
+            void mergeLikeCount_whenIncreased() {
+                // given
+                ProductEntity product = prepareProduct(prepareBrand());
+                clearInvocations(productReader);
+                assertEquals(0L, productService.findWithSignal(product.getId()).orElseThrow().getLikeCount());
+
+                // when
+                productService.increaseCachedLikeCount(product.getId(), 3L);
+
+                // then
+                assertEquals(3L, productService.findWithSignal(product.getId()).orElseThrow().getLikeCount());
+                verify(productReader, times(1)).findWithSignal(product.getId());
+            }
         }
 
 }
@@ -0,0 +1,77 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeEntity;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class LikedTargetSetImplIntegrationTest {
+    private static final Long USER_ID = 1L;
+    private static final LikeEntity.TargetType TARGET_TYPE = LikeEntity.TargetType.PRODUCT;
+
+    @Autowired
+    private LikedTargetSetImpl likedTargetSet;
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("likes 를 읽은 뒤 취소가 반영되면, 읽은 목록으로 채우지 않아 취소한 대상이 다시 들어가지 않는다.")
+    @Test
+    void notHydrate_whenRemovedAfterSnapshot() {
+        // given
+        long version = likedTargetSet.version(USER_ID, TARGET_TYPE);
+        List<Long> snapshot = List.of(10L, 20L);
+        likedTargetSet.remove(USER_ID, TARGET_TYPE, 10L);
+
+        // when
+        boolean hydrated = likedTargetSet.hydrate(USER_ID, TARGET_TYPE, version, snapshot);
+
+        // then
+        assertFalse(hydrated);
+        assertTrue(likedTargetSet.findLiked(USER_ID, TARGET_TYPE, List.of(10L, 20L)).isEmpty());
+    }
+
+    @DisplayName("읽는 동안 변경이 없으면, 집합을 읽은 목록으로 바꾸고 이후 변경을 반영한다.")
+    @Test
+    void hydrateAndApply_whenNoChangeDuringSnapshot() {
+        // given
+        long version = likedTargetSet.version(USER_ID, TARGET_TYPE);
+        likedTargetSet.hydrate(USER_ID, TARGET_TYPE, version, List.of(10L, 20L));
+
+        // when
+        likedTargetSet.remove(USER_ID, TARGET_TYPE, 10L);
+        likedTargetSet.add(USER_ID, TARGET_TYPE, 30L);
+
+        // then
+        Optional<Set<Long>> liked = likedTargetSet.findLiked(USER_ID, TARGET_TYPE, List.of(10L, 20L, 30L));
+        assertEquals(Optional.of(Set.of(20L, 30L)), liked);
+    }
+
+    @DisplayName("좋아요한 대상이 없어도 채우면, 채워진 빈 집합으로 조회된다.")
+    @Test
+    void returnEmpty_whenHydratedWithoutLikes() {
+        // given
+        long version = likedTargetSet.version(USER_ID, TARGET_TYPE);
+
+        // when
+        boolean hydrated = likedTargetSet.hydrate(USER_ID, TARGET_TYPE, version, List.of());
+
+        // then
+        assertTrue(hydrated);
+        assertEquals(Optional.of(Set.of()), likedTargetSet.findLiked(USER_ID, TARGET_TYPE, List.of(10L)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCacheSerializerTest {
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.of(2025, 8, 1, 9, 30, 0, 0, ZoneOffset.UTC);
+
+    private final ProductCacheSerializer.Deserializer deserializer = new ProductCacheSerializer.Deserializer();
+
+    private ProductCacheSerializer.Serializer serializerOf(ProductCacheProperties.Codec codec) {
+        return new ProductCacheSerializer.Serializer(new ProductCacheProperties(
+                new ProductCacheProperties.Near(10, Duration.ofMinutes(1)), codec, Duration.ofHours(1), Duration.ofHours(3),
+                Duration.ofMinutes(1), Duration.ofSeconds(10)));
+    }
+
+    private ProductCachePage preparePage(int size) {
+        List<ProductInfo.ProductWithSignal> products = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> ProductInfo.ProductWithSignal.of(
+                        id,
+                        "상품 " + id,
+                        id % 10,
+                        10_000L * id,
+                        id,
+                        CREATED_AT,
+                        CREATED_AT.plusMinutes(id),
+                        ProductEntity.State.of(id % 3 == 0 ? "OUT_OF_STOCK" : "OPEN", CREATED_AT.plusDays(1)),
+                        id * 3
+                ))
+                .toList();
+        return new ProductCachePage(products, 25L, 1_754_000_000_000L);
+    }
+
+    private void assertSamePage(ProductCachePage expected, ProductCachePage actual) {
+        assertEquals(expected.recomputeMillis(), actual.recomputeMillis());
+        assertEquals(expected.expireAtMillis(), actual.expireAtMillis());
+        assertEquals(expected.productWithSignals().size(), actual.productWithSignals().size());
+        for (int i = 0; i < expected.productWithSignals().size(); i++) {
+            ProductInfo.ProductWithSignal e = expected.productWithSignals().get(i);
+            ProductInfo.ProductWithSignal a = actual.productWithSignals().get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getBrandId(), a.getBrandId());
+            assertEquals(e.getPrice(), a.getPrice());
+            assertEquals(e.getStock(), a.getStock());
+            assertEquals(e.getCreatedAt().toInstant(), a.getCreatedAt().toInstant());
+            assertEquals(e.getUpdatedAt().toInstant(), a.getUpdatedAt().toInstant());
+            assertEquals(e.getState().getValue(), a.getState().getValue());
+            assertEquals(e.getState().getReleasedAt().toInstant(), a.getState().getReleasedAt().toInstant());
+            assertEquals(e.getLikeCount(), a.getLikeCount());
+        }
+    }
+
+    @DisplayName("이진 형식")
+    @Nested
+    class Binary {
+        @DisplayName("이진 형식으로 기록한 페이지를 읽으면, 같은 목록과 봉투가 복원된다.")
+        @Test
+        void restoreSamePage_whenBinaryEncoded() {
+            // given
+            ProductCachePage page = preparePage(20);
+
+            // when
+            ProductCachePage restored = deserializer.deserializePage(
+                    serializerOf(ProductCacheProperties.Codec.BINARY).serializePage(page));
+
+            // then
+            assertSamePage(page, restored);
+        }
+
+        @DisplayName("null 이 될 수 있는 값이 비어 있어도, 그대로 복원된다.")
+        @Test
+        void restoreNulls_whenFieldsMissing() {
+            // given
+            ProductCachePage page = new ProductCachePage(List.of(ProductInfo.ProductWithSignal.of(
+                    1L, null, null, null, null, null, null, null, 0L)), 0L, 0L);
+
+            // when
+            ProductCachePage restored = deserializer.deserializePage(
+                    serializerOf(ProductCacheProperties.Codec.BINARY).serializePage(page));
+
+            // then
+            ProductInfo.ProductWithSignal product = restored.productWithSignals().getFirst();
+            assertEquals(1L, product.getId());
+            assertNull(product.getName());
+            assertNull(product.getCreatedAt());
+            assertNull(product.getState());
+        }
+
+        @DisplayName("같은 페이지를 기록하면, JSON 형식보다 작다.")
+        @Test
+        void smallerThanJson_whenSamePage() {
+            // given
+            ProductCachePage page = preparePage(20);
+
+            // when
+            byte[] binary = serializerOf(ProductCacheProperties.Codec.BINARY).serializePage(page);
+            byte[] json = serializerOf(ProductCacheProperties.Codec.JSON).serializePage(page);
+
+            // then
+            assertTrue(binary.length * 2 < json.length, "binary: " + binary.length + ", json: " + json.length);
+        }
+    }
+
+    @DisplayName("id 목록 페이지와 상품별 항목")
+    @Nested
+    class Hydration {
+        @DisplayName("id 목록 페이지를 기록하고 읽으면, 같은 순서의 id 와 봉투가 복원된다.")
+        @Test
+        void restoreSameIds_whenIdPageEncoded() {
+            // given
+            ProductCacheIdPage page = new ProductCacheIdPage(List.of(42L, 7L, 1_000_000L), 25L, 1_754_000_000_000L);
+
+            // when
+            ProductCacheIdPage restored = deserializer.deserializeIds(
+                    serializerOf(ProductCacheProperties.Codec.JSON).serializeIds(page));
+
+            // then
+            assertEquals(page, restored);
+        }
+
+        @DisplayName("상품별 항목을 기록하고 읽으면, 같은 상품이 복원된다.")
+        @Test
+        void restoreSameProduct_whenEntryEncoded() {
+            // given
+            ProductCachePage page = preparePage(1);
+
+            // when
+            ProductInfo.ProductWithSignal restored = deserializer.deserializeProduct(
+                    serializerOf(ProductCacheProperties.Codec.BINARY).serializeProduct(page.productWithSignals().getFirst()));
+
+            // then
+            assertSamePage(page, new ProductCachePage(List.of(restored), page.recomputeMillis(), page.expireAtMillis()));
+        }
+
+        @DisplayName("같은 목록이면, id 목록 페이지가 전체 페이지보다 작다.")
+        @Test
+        void smallerThanFullPage_whenIdPageEncoded() {
+            // given
+            ProductCachePage page = preparePage(20);
+            ProductCacheSerializer.Serializer serializer = serializerOf(ProductCacheProperties.Codec.BINARY);
+
+            // when
+            byte[] ids = serializer.serializeIds(ProductCacheIdPage.from(page));
+            byte[] full = serializer.serializePage(page);
+
+            // then
+            assertTrue(ids.length * 10 < full.length, "ids: " + ids.length + ", full: " + full.length);
+        }
+    }
+
+    @DisplayName("이전 형식 읽기")
+    @Nested
+    class Legacy {
+        @DisplayName("-v1 JSON 봉투로 기록된 값을 읽으면, 같은 목록과 봉투가 복원된다.")
+        @Test
+        void restoreSamePage_whenJsonEncoded() {
+            // given
+            ProductCachePage page = preparePage(20);
+
+            // when
+            ProductCachePage restored = deserializer.deserializePage(
+                    serializerOf(ProductCacheProperties.Codec.JSON).serializePage(page));
+
+            // then
+            assertSamePage(page, restored);
+        }
+
+        @DisplayName("봉투 없는 JSON 배열을 읽으면, 조기 갱신 없이 TTL 까지 사용한다.")
+        @Test
+        void neverRefreshEarly_whenBareJsonArray() {
+            // given
+            byte[] encoded = "[]".getBytes(StandardCharsets.UTF_8);
+
+            // when
+            ProductCachePage restored = deserializer.deserializePage(encoded);
+
+            // then
+            assertTrue(restored.isEmpty());
+            assertEquals(Long.MAX_VALUE, restored.expireAtMillis());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductEntity;
+import com.loopers.domain.product.ProductInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProductNearCacheTest {
+    private static final String KEY = "product_with_signal-v1:order-LikeCount[]:page:0:size:20";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductNearCache nearCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        var properties = new ProductCacheProperties(
+                new ProductCacheProperties.Near(10, Duration.ofMinutes(1)), ProductCacheProperties.Codec.BINARY,
+                Duration.ofHours(1), Duration.ofHours(3), Duration.ofMinutes(1), Duration.ofSeconds(10));
+        nearCache = new ProductNearCache(redisTemplate, mock(RedisMessageListenerContainer.class), meterRegistry, properties);
+    }
+
+    private ProductCachePage preparePage() {
+        ProductEntity product = new ProductEntity("Test Product", 1L, 10000L, 1L);
+        return ProductCachePage.of(List.of(new ProductInfo.ProductWithSignal(product, 3L)), Duration.ofMillis(10), Duration.ofMinutes(1));
+    }
+
+    private DefaultMessage messageOf(String body) {
+        return new DefaultMessage(
+                ProductNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("L1 조회")
+    @Nested
+    class Get {
+        @DisplayName("저장한 페이지를 조회하면, 역직렬화 없이 같은 목록이 반환된다.")
+        @Test
+        void returnSamePage_whenPut() {
+            // given
+            var page = preparePage();
+            nearCache.put(KEY, page);
+
+            // when
+            var cached = nearCache.get(KEY);
+
+            // then
+            assertNotNull(cached);
+            assertEquals(page, cached);
+        }
+
+        @DisplayName("조회 결과가 hit/miss 메트릭으로 기록된다.")
+        @Test
+        void recordHitAndMiss_whenGet() {
+            // given
+            nearCache.put(KEY, preparePage());
+
+            // when
+            nearCache.get(KEY);
+            nearCache.get("unknown");
+
+            // then
+            assertEquals(1.0, meterRegistry.get("cache.gets")
+                    .tag("cache", ProductNearCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+            assertEquals(1.0, meterRegistry.get("cache.gets")
+                    .tag("cache", ProductNearCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+        }
+    }
+
+    @DisplayName("L1 무효화")
+    @Nested
+    class Invalidate {
+        @DisplayName("다른 노드의 무효화 메시지를 받으면, 해당 키가 제거된다.")
+        @Test
+        void evictKey_whenOtherNodePublishes() {
+            // given
+            nearCache.put(KEY, preparePage());
+
+            // when
+            nearCache.onMessage(messageOf("other-node|" + KEY), null);
+
+            // then
+            assertNull(nearCache.get(KEY));
+        }
+
+        @DisplayName("자신이 발행한 무효화 메시지는 무시한다.")
+        @Test
+        void keepKey_whenSelfPublishes() {
+            // given
+            nearCache.put(KEY, preparePage());
+            nearCache.publish(KEY);
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(ProductNearCache.INVALIDATION_CHANNEL), published.capture());
+
+            // when
+            nearCache.onMessage(messageOf(published.getValue()), null);
+
+            // then
+            assertNotNull(nearCache.get(KEY));
+        }
+
+        @DisplayName("전체 무효화 메시지를 받으면, 모든 키가 제거된다.")
+        @Test
+        void evictAll_whenOtherNodePublishesAll() {
+            // given
+            nearCache.put(KEY, preparePage());
+
+            // when
+            nearCache.onMessage(messageOf("other-node|*"), null);
+
+            // then
+            assertNull(nearCache.get(KEY));
+        }
+    }
+}
@@ -21,6 +21,7 @@ dependencies {
     implementation(project(":supports:jackson"))
     implementation(project(":supports:logging"))
     implementation(project(":supports:monitoring"))
+    implementation(project(":supports:uuid"))
 
     // kotlin
     implementation("org.jetbrains.kotlin:kotlin-reflect")
@@ -0,0 +1,13 @@
+package com.loopers.domain.payment
+
+import java.util.concurrent.CompletableFuture
+
+/**
+ * PG 처리 지연을 흉내 낸다.
+ */
+interface SimulatedDelay {
+    /**
+     * delayMillis 뒤에 task 를 실행하고, 그 결과로 완료되는 future 를 돌려준다.
+     */
+    fun <T> after(delayMillis: Long, task: () -> T): CompletableFuture<T>
+}
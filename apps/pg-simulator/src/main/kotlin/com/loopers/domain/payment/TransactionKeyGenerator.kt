@@ -1,10 +1,15 @@
 package com.loopers.domain.payment
 
+import com.loopers.util.uuid.TsidGenerator
 import org.springframework.stereotype.Component
 import java.time.LocalDateTime
 import java.time.format.DateTimeFormatter
-import java.util.UUID
 
+/**
+ * 트랜잭션 KEY 생성기
+ *
+ * 뒷부분은 시간순 64비트 ID(TSID)의 16진수 표현이다. 노드 안에서는 항상 증가하므로 부하가 몰려도 겹치지 않는다.
+ */
 @Component
 class TransactionKeyGenerator {
     companion object {
@@ -14,7 +19,7 @@ class TransactionKeyGenerator {
 
     fun generate(): String {
         val now = LocalDateTime.now()
-        val uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 6)
-        return "${DATETIME_FORMATTER.format(now)}:$KEY_TRANSACTION:$uuid"
+        val id = java.lang.Long.toHexString(TsidGenerator.generate())
+        return "${DATETIME_FORMATTER.format(now)}:$KEY_TRANSACTION:$id"
     }
 }
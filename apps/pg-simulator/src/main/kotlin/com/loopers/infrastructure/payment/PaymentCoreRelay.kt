@@ -3,14 +3,28 @@ package com.loopers.infrastructure.payment
 import com.loopers.application.payment.TransactionInfo
 import com.loopers.domain.payment.PaymentRelay
 import org.slf4j.LoggerFactory
+import org.springframework.http.client.JdkClientHttpRequestFactory
 import org.springframework.stereotype.Component
 import org.springframework.web.client.RestTemplate
+import java.net.http.HttpClient
+import java.time.Duration
 
 @Component
 class PaymentCoreRelay : PaymentRelay {
     companion object {
         private val logger = LoggerFactory.getLogger(PaymentCoreRelay::class.java)
-        private val restTemplate = RestTemplate()
+        /**
+         * 기본 HttpURLConnection 은 호스트당 keep-alive 연결을 5개만 남겨, 콜백이 몰리면 매번 새로 연결한다.
+         * JDK HttpClient 는 연결 수 제한 없이 재사용한다.
+         */
+        private val restTemplate = RestTemplate(
+            JdkClientHttpRequestFactory(
+                HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(3))
+                    .build(),
+            ).apply { setReadTimeout(Duration.ofSeconds(10)) },
+        )
     }
 
     override fun notify(callbackUrl: String, transactionInfo: TransactionInfo) {
@@ -2,10 +2,12 @@ package com.loopers.infrastructure.payment
 
 import com.loopers.domain.payment.Payment
 import com.loopers.domain.payment.PaymentRepository
+import org.springframework.context.annotation.Profile
 import org.springframework.stereotype.Component
 import org.springframework.transaction.annotation.Transactional
 import kotlin.jvm.optionals.getOrNull
 
+@Profile("!inmemory")
 @Component
 class PaymentCoreRepository(
     private val paymentJpaRepository: PaymentJpaRepository,
@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.payment
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * inmemory 프로필의 결제 저장소 설정
+ *
+ * @property retention 결제건을 보관하는 기간. 지나면 조회되지 않는다.
+ * @property sweepInterval 보관 기간이 지난 결제건을 지우는 주기
+ */
+@ConfigurationProperties("payment.memory")
+data class PaymentMemoryProperties(
+    val retention: Duration = Duration.ofMinutes(30),
+    val sweepInterval: Duration = Duration.ofSeconds(10),
+)
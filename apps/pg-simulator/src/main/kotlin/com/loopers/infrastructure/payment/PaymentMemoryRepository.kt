@@ -0,0 +1,84 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.Payment
+import com.loopers.domain.payment.PaymentRepository
+import jakarta.annotation.PreDestroy
+import org.springframework.context.annotation.Profile
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 부하 테스트용 메모리 저장소
+ *
+ * ConcurrentHashMap 은 bin 단위로 잠그므로, 서로 다른 결제건의 저장과 조회는 서로를 막지 않는다.
+ * 결제건은 같은 객체를 그대로 보관하므로 상태 변경이 따로 저장하지 않아도 반영된다.
+ * 메모리가 계속 늘지 않도록 보관 기간이 지난 결제건은 저장한 순서대로 지운다.
+ */
+@Profile("inmemory")
+@Component
+class PaymentMemoryRepository(
+    private val properties: PaymentMemoryProperties,
+) : PaymentRepository {
+    private val payments = ConcurrentHashMap<String, Payment>(1 shl 16)
+    private val paymentsByOrder = ConcurrentHashMap<String, MutableList<Payment>>(1 shl 16)
+    private val saved = ConcurrentLinkedQueue<Payment>()
+    private val sweeper = Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "pg-memory-sweeper").apply { isDaemon = true }
+    }
+
+    init {
+        val interval = properties.sweepInterval.toMillis()
+        sweeper.scheduleWithFixedDelay(::sweep, interval, interval, TimeUnit.MILLISECONDS)
+    }
+
+    override fun save(payment: Payment): Payment {
+        if (payments.putIfAbsent(payment.transactionKey, payment) == null) {
+            paymentsByOrder.compute(orderKey(payment.userId, payment.orderId)) { _, orderPayments ->
+                (orderPayments ?: CopyOnWriteArrayList()).apply { add(payment) }
+            }
+            saved.add(payment)
+        }
+        return payment
+    }
+
+    override fun findByTransactionKey(transactionKey: String): Payment? {
+        return payments[transactionKey]
+    }
+
+    override fun findByTransactionKey(userId: String, transactionKey: String): Payment? {
+        return payments[transactionKey]?.takeIf { it.userId == userId }
+    }
+
+    override fun findByOrderId(userId: String, orderId: String): List<Payment> {
+        return paymentsByOrder[orderKey(userId, orderId)].orEmpty()
+            .sortedByDescending { it.updatedAt }
+    }
+
+    private fun sweep() {
+        val expiredBefore = LocalDateTime.now().minus(properties.retention)
+        while (true) {
+            val payment = saved.peek() ?: return
+            if (payment.createdAt.isAfter(expiredBefore)) {
+                return
+            }
+            saved.poll()
+            payments.remove(payment.transactionKey)
+            paymentsByOrder.computeIfPresent(orderKey(payment.userId, payment.orderId)) { _, orderPayments ->
+                orderPayments.remove(payment)
+                orderPayments.ifEmpty { null }
+            }
+        }
+    }
+
+    private fun orderKey(userId: String, orderId: String) = "$userId:$orderId"
+
+    @PreDestroy
+    fun shutdown() {
+        sweeper.shutdown()
+    }
+}
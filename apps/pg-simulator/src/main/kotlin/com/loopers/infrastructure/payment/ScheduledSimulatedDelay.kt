@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.SimulatedDelay
+import jakarta.annotation.PreDestroy
+import org.springframework.context.annotation.Profile
+import org.springframework.stereotype.Component
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * 지연 동안 스레드를 붙잡지 않는다. 타이머 스레드 하나가 만기된 작업을 꺼내 가상 스레드로 넘긴다.
+ * 대기 중인 작업은 힙에 담기므로 초당 수만 건이 수 초씩 기다려도 스레드 수는 늘지 않는다.
+ */
+@Profile("inmemory")
+@Component
+class ScheduledSimulatedDelay : SimulatedDelay {
+    private val timer = ScheduledThreadPoolExecutor(1) { runnable ->
+        Thread(runnable, "pg-simulated-delay").apply { isDaemon = true }
+    }.apply { executeExistingDelayedTasksAfterShutdownPolicy = false }
+    private val executor = Executors.newVirtualThreadPerTaskExecutor()
+
+    override fun <T> after(delayMillis: Long, task: () -> T): CompletableFuture<T> {
+        val future = CompletableFuture<T>()
+        timer.schedule(Runnable {
+            executor.execute {
+                runCatching(task)
+                    .onSuccess { future.complete(it) }
+                    .onFailure { future.completeExceptionally(it) }
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS)
+        return future
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        timer.shutdown()
+        executor.shutdown()
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.SimulatedDelay
+import org.springframework.context.annotation.Profile
+import org.springframework.stereotype.Component
+import java.util.concurrent.CompletableFuture
+
+/**
+ * 호출한 스레드를 재운 뒤 그 자리에서 실행한다. task 의 예외는 호출한 쪽으로 그대로 전파된다.
+ */
+@Profile("!inmemory")
+@Component
+class SleepingSimulatedDelay : SimulatedDelay {
+    override fun <T> after(delayMillis: Long, task: () -> T): CompletableFuture<T> {
+        Thread.sleep(delayMillis)
+        return CompletableFuture.completedFuture(task())
+    }
+}
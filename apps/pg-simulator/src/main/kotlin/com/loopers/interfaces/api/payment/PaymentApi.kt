@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.payment
 
 import com.loopers.application.payment.PaymentApplicationService
 import com.loopers.interfaces.api.ApiResponse
+import com.loopers.domain.payment.SimulatedDelay
 import com.loopers.domain.user.UserInfo
 import com.loopers.support.error.CoreException
 import com.loopers.support.error.ErrorType
@@ -12,30 +13,32 @@ import org.springframework.web.bind.annotation.RequestBody
 import org.springframework.web.bind.annotation.RequestMapping
 import org.springframework.web.bind.annotation.RequestParam
 import org.springframework.web.bind.annotation.RestController
+import java.util.concurrent.CompletableFuture
 
 @RestController
 @RequestMapping("/api/v1/payments")
 class PaymentApi(
     private val paymentApplicationService: PaymentApplicationService,
+    private val simulatedDelay: SimulatedDelay,
 ) {
     @PostMapping
     fun request(
         userInfo: UserInfo,
         @RequestBody request: PaymentDto.PaymentRequest,
-    ): ApiResponse<PaymentDto.TransactionResponse> {
+    ): CompletableFuture<ApiResponse<PaymentDto.TransactionResponse>> {
         request.validate()
 
         // 100ms ~ 500ms 지연
-        Thread.sleep((100..500L).random())
+        return simulatedDelay.after((100..500L).random()) {
+            // 40% 확률로 요청 실패
+            if ((1..100).random() <= 40) {
+                throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
+            }
 
-        // 40% 확률로 요청 실패
-        if ((1..100).random() <= 40) {
-            throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
+            paymentApplicationService.createTransaction(request.toCommand(userInfo.userId))
+                .let { PaymentDto.TransactionResponse.from(it) }
+                .let { ApiResponse.success(it) }
         }
-
-        return paymentApplicationService.createTransaction(request.toCommand(userInfo.userId))
-            .let { PaymentDto.TransactionResponse.from(it) }
-            .let { ApiResponse.success(it) }
     }
 
     @GetMapping("/{transactionKey}")
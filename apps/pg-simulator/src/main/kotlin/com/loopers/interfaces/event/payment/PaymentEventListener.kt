@@ -2,6 +2,8 @@ package com.loopers.interfaces.event.payment
 
 import com.loopers.application.payment.PaymentApplicationService
 import com.loopers.domain.payment.PaymentEvent
+import com.loopers.domain.payment.SimulatedDelay
+import org.slf4j.LoggerFactory
 import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Component
 import org.springframework.transaction.event.TransactionPhase
@@ -10,14 +12,22 @@ import org.springframework.transaction.event.TransactionalEventListener
 @Component
 class PaymentEventListener(
     private val paymentApplicationService: PaymentApplicationService,
+    private val simulatedDelay: SimulatedDelay,
 ) {
+    companion object {
+        private val logger = LoggerFactory.getLogger(PaymentEventListener::class.java)
+    }
+
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     fun handle(event: PaymentEvent.PaymentCreated) {
         val thresholdMillis = (1000L..5000L).random()
-        Thread.sleep(thresholdMillis)
-
-        paymentApplicationService.handle(event.transactionKey)
+        simulatedDelay.after(thresholdMillis) { paymentApplicationService.handle(event.transactionKey) }
+            .whenComplete { _, e ->
+                if (e != null) {
+                    logger.error("결제 처리를 실패했습니다. (transactionKey: {})", event.transactionKey, e)
+                }
+            }
     }
 
     @Async
@@ -0,0 +1,3 @@
+-- PENDING 결제 재조회: state 로 거른 뒤 id 순 keyset 페이지네이션
+CREATE INDEX idx_payments_state_id
+    ON payments (state, id);
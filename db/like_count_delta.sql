@@ -0,0 +1,16 @@
+-- write-behind 좋아요 수 변경분 (좋아요와 같은 트랜잭션에서 추가, 반영 후 token 단위로 삭제)
+CREATE TABLE like_count_delta
+(
+    id          BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    target_id   BIGINT      NOT NULL,
+    target_type VARCHAR(20) NOT NULL,
+    delta       BIGINT      NOT NULL,
+    token       VARCHAR(36),
+    claimed_at  DATETIME(6),
+    created_at  DATETIME(6) NOT NULL
+);
+CREATE INDEX idx_lcd_token
+    ON like_count_delta (token);
+
+-- 이미 만든 테이블에는 배치를 떼어낸 시각 컬럼만 추가한다.
+-- ALTER TABLE like_count_delta ADD COLUMN claimed_at DATETIME(6) NULL AFTER token;
@@ -0,0 +1,8 @@
+-- write-behind 좋아요 수 배치 반영 기록 (같은 배치의 중복 반영 방지)
+CREATE TABLE like_count_flush
+(
+    token      VARCHAR(36) NOT NULL PRIMARY KEY,
+    applied_at DATETIME(6) NOT NULL
+);
+CREATE INDEX idx_lcf_applied_at
+    ON like_count_flush (applied_at);
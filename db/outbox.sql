@@ -0,0 +1,16 @@
+-- 주문/결제 이벤트 outbox (도메인 트랜잭션과 함께 기록, 발송 후 삭제)
+CREATE TABLE outbox
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_type      VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    deleted_at      DATETIME(6)
+);
+CREATE INDEX idx_outbox_status_next_attempt_at
+    ON outbox (status, next_attempt_at);
@@ -0,0 +1,25 @@
+-- PG 콜백 수신 큐 (콜백 요청에서 기록, 처리 후 보관 기간 동안 COMPLETED 로 남김)
+CREATE TABLE payment_callback
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    transaction_key    VARCHAR(100) NOT NULL,
+    order_key          VARCHAR(64)  NOT NULL,
+    card_type          VARCHAR(50),
+    card_no            VARCHAR(50),
+    amount             VARCHAR(30),
+    transaction_status VARCHAR(20),
+    reason             VARCHAR(500),
+    status             VARCHAR(20)  NOT NULL,
+    attempts           INT          NOT NULL,
+    next_attempt_at    DATETIME(6)  NOT NULL,
+    last_error         VARCHAR(500),
+    created_at         DATETIME(6)  NOT NULL,
+    updated_at         DATETIME(6)  NOT NULL,
+    deleted_at         DATETIME(6)
+);
+CREATE UNIQUE INDEX uk_payment_callback_transaction_key
+    ON payment_callback (transaction_key);
+CREATE INDEX idx_payment_callback_status_next_attempt_at
+    ON payment_callback (status, next_attempt_at);
+CREATE INDEX idx_payment_callback_status_updated_at
+    ON payment_callback (status, updated_at);
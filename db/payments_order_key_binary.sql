@@ -0,0 +1,33 @@
+-- payments.order_key 를 UUID 문자열(VARCHAR)에서 BINARY(16) 으로 옮긴다.
+-- 1~2 는 기존 버전이 떠 있는 동안 실행해도 된다.
+-- 3~4 는 기존 버전의 쓰기를 멈춘 뒤, BINARY(16) 을 쓰는 버전을 띄우기 전에 실행한다.
+-- 5 는 새 버전을 확인한 뒤 실행한다. 그 전에는 인덱스를 지우고 컬럼 이름을 되돌려 기존 버전으로 돌아갈 수 있다.
+
+-- 1. 새 컬럼 추가
+ALTER TABLE payments
+    ADD COLUMN order_key_bin BINARY(16) NULL AFTER order_key;
+
+-- 2. 채우기. 행이 많으면 id 범위로 나누어 반복한다.
+UPDATE payments
+SET order_key_bin = UNHEX(REPLACE(order_key, '-', ''))
+WHERE order_key_bin IS NULL
+    AND order_key IS NOT NULL;
+
+-- 3. 기존 버전의 쓰기를 멈춘 뒤 2 를 한 번 더 실행해 그 사이 들어온 행을 채우고,
+--    변환되지 않은 행이 없는지(0 건) 확인한 다음 컬럼을 바꾼다.
+SELECT COUNT(*)
+FROM payments
+WHERE order_key IS NOT NULL
+    AND (order_key_bin IS NULL OR LENGTH(REPLACE(order_key, '-', '')) <> 32);
+
+ALTER TABLE payments
+    RENAME COLUMN order_key TO order_key_old,
+    RENAME COLUMN order_key_bin TO order_key;
+
+-- 4. 유니크 인덱스
+CREATE UNIQUE INDEX uk_payments_order_key
+    ON payments (order_key);
+
+-- 5. 정리
+ALTER TABLE payments
+    DROP COLUMN order_key_old;
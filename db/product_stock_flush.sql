@@ -0,0 +1,8 @@
+-- 예약 재고 차감분 배치 반영 기록 (같은 배치의 중복 반영 방지)
+CREATE TABLE product_stock_flush
+(
+    token      VARCHAR(36) NOT NULL PRIMARY KEY,
+    applied_at DATETIME(6) NOT NULL
+);
+CREATE INDEX idx_psf_applied_at
+    ON product_stock_flush (applied_at);
@@ -0,0 +1,15 @@
+-- replica 전용 읽기 계정 (main 에는 없으므로 복제와 충돌하지 않는다)
+CREATE USER IF NOT EXISTS 'application_ro'@'%' IDENTIFIED BY 'application_ro';
+GRANT SELECT, REPLICATION CLIENT ON *.* TO 'application_ro'@'%';
+
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
+
+-- 복제 스레드 외의 쓰기 차단 (초기화 스크립트가 끝난 뒤 적용되도록 기동 옵션 대신 PERSIST 로 설정)
+SET PERSIST super_read_only = ON;
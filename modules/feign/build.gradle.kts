@@ -7,6 +7,7 @@ dependencies {
     // feign
     api("org.springframework.cloud:spring-cloud-starter-openfeign")
     api("org.springframework.cloud:spring-cloud-starter-circuitbreaker-resilience4j")
+    api("io.github.openfeign:feign-hc5")
 
     // test-fixtures
     testFixturesImplementation("org.springframework.cloud:spring-cloud-starter-openfeign")
@@ -8,8 +8,12 @@ dependencies {
     api("org.springframework.boot:spring-boot-starter-data-jpa")
     // querydsl
     api("com.querydsl:querydsl-jpa::jakarta")
+    // TSID 생성
+    implementation(project(":supports:uuid"))
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // replica 풀 / 라우팅 메트릭
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.testcontainers:mysql")
 
@@ -2,13 +2,25 @@ package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +28,57 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * replica 풀은 빈으로 등록되지 않아 Boot 의 커넥션 풀 메트릭 바인딩 대상이 아니므로, 풀 이름 태그로 직접 등록한다.
+     */
+    @Bean(destroyMethod = "close")
+    ReplicaLagMonitor mySqlReplicaLagMonitor(
+            DataSourceRoutingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (HikariConfig replicaConfig : properties.getReplicas()) {
+            replicaConfig.setReadOnly(true);
+            // replica 가 내려가 있어도 기동은 되도록 하고, 지연 확인에 실패하는 동안은 main 으로 읽는다.
+            replicaConfig.setInitializationFailTimeout(-1);
+            replicaConfig.setMetricRegistry(meterRegistry);
+            HikariDataSource replica = new HikariDataSource(replicaConfig);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(
+                replicas, properties.getMaxReplicaLag(), properties.getLagCheckInterval(), meterRegistry);
+        lagMonitor.start();
+        return lagMonitor;
+    }
+
+    @Primary
+    @Bean
+    DataSource mySqlRoutingDataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            @Qualifier("mySqlReplicaLagMonitor") ReplicaLagMonitor lagMonitor,
+            DataSourceRoutingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(mainDataSource.getPoolName(), mainDataSource);
+        targets.putAll(lagMonitor.replicas());
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                mainDataSource.getPoolName(),
+                List.copyOf(lagMonitor.replicas().keySet()),
+                lagMonitor,
+                new PrimaryStickyWindow(properties.getStickyPrimaryWindow()),
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(mainDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
 }
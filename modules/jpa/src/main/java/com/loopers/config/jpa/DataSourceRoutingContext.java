@@ -0,0 +1,52 @@
+package com.loopers.config.jpa;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 요청 주체(사용자 등)를 라우팅에 알린다.
+ * 키가 바인딩된 상태에서 쓰기 트랜잭션이 커밋되면, 같은 키의 읽기는 잠시 main 으로 고정된다.
+ */
+public final class DataSourceRoutingContext {
+    private static final ThreadLocal<String> SESSION_KEY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void bind(String sessionKey) {
+        SESSION_KEY.set(sessionKey);
+    }
+
+    public static void clear() {
+        SESSION_KEY.remove();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이어도 main 에서 읽는다. 다른 세션의 쓰기를 놓치면 안 되는 읽기(캐시 채우기 등)에 쓴다.
+     * 커넥션은 트랜잭션의 첫 쿼리에서 고르므로, 이미 커넥션을 잡은 트랜잭션 안이 아니라 새 트랜잭션 안에서 호출해야 한다.
+     */
+    public static <T> T onPrimary(Supplier<T> reader) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY.get() != null;
+    }
+
+    /**
+     * @return 바인딩되지 않았으면 null
+     */
+    static String currentSessionKey() {
+        return SESSION_KEY.get();
+    }
+}
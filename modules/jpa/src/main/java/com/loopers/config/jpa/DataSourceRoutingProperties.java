@@ -0,0 +1,32 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.routing")
+public class DataSourceRoutingProperties {
+    /**
+     * 읽기 전용 트랜잭션을 분산할 replica 커넥션 풀. 비어 있으면 모든 요청이 main 으로 간다.
+     */
+    private final List<HikariConfig> replicas;
+    /**
+     * 자신의 쓰기가 커밋된 뒤 main 에서 읽도록 고정하는 시간 (read-your-writes)
+     */
+    private final Duration stickyPrimaryWindow;
+    /**
+     * 이 값보다 복제 지연이 큰 replica 는 라우팅 대상에서 제외한다.
+     */
+    private final Duration maxReplicaLag;
+    private final Duration lagCheckInterval;
+
+    public List<HikariConfig> getReplicas() {
+        return replicas == null ? List.of() : replicas;
+    }
+}
@@ -1,13 +1,40 @@
 package com.loopers.config.jpa;
 
+import com.loopers.util.uuid.TsidGenerator;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+@Slf4j
 @Configuration
 @EnableTransactionManagement
 @EntityScan({"com.loopers"})
 @EnableJpaRepositories({"com.loopers.infrastructure"})
 public class JpaConfig {
+
+    /**
+     * TSID node 를 기동 시에 정해, 설정이 빠졌으면 첫 INSERT 가 아니라 기동에서 실패하게 한다.
+     * 명령행 인자, application.yml, SPRING_APPLICATION_JSON 으로 준 프로파일과 tsid.node(TSID_NODE) 도 반영되도록 Environment 에서 읽는다.
+     */
+    JpaConfig(Environment environment) {
+        long node = TsidGenerator.configure(resolveTsidNode(environment));
+        log.info("TSID node - {}", node);
+    }
+
+    /**
+     * EntityManagerFactory 를 이 설정 뒤에 만들어, ID 생성이 node 가 정해진 뒤에만 일어나게 한다.
+     */
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor tsidNodeDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(JpaConfig.class);
+    }
+
+    static long resolveTsidNode(Environment environment) {
+        return TsidGenerator.resolveNode(environment.getProperty("tsid.node"), String.join(",", environment.getActiveProfiles()));
+    }
 }
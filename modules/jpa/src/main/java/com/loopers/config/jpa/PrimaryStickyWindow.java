@@ -0,0 +1,49 @@
+package com.loopers.config.jpa;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 세션 키별 마지막 쓰기 커밋 시각. 노드 로컬 상태이므로, 같은 사용자의 요청이 다른 노드로 가면 보장되지 않는다.
+ */
+class PrimaryStickyWindow {
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> writtenAt = new ConcurrentHashMap<>();
+
+    PrimaryStickyWindow(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    PrimaryStickyWindow(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    void markWritten(String sessionKey) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        writtenAt.put(sessionKey, now);
+        if (writtenAt.size() > SWEEP_THRESHOLD) {
+            writtenAt.values().removeIf(at -> now - at >= windowNanos);
+        }
+    }
+
+    boolean isSticky(String sessionKey) {
+        Long at = writtenAt.get(sessionKey);
+        if (at == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - at < windowNanos) {
+            return true;
+        }
+        writtenAt.remove(sessionKey, at);
+        return false;
+    }
+}
@@ -0,0 +1,107 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * replica 별 복제 지연(Seconds_Behind_Source)을 주기적으로 확인해, 허용치 이내인 replica 만 라우팅 대상으로 노출한다.
+ * 확인 전이거나 조회에 실패한 replica 는 지연을 알 수 없으므로 제외한다.
+ */
+@Slf4j
+class ReplicaLagMonitor implements AutoCloseable {
+    static final long UNKNOWN_LAG = -1L;
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Map<String, AtomicLong> lagSeconds = new LinkedHashMap<>();
+    private final long maxLagSeconds;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService executor;
+    private volatile List<String> available = List.of();
+
+    ReplicaLagMonitor(Map<String, HikariDataSource> replicas, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.checkInterval = checkInterval;
+        replicas.keySet().forEach(pool -> {
+            AtomicLong lag = new AtomicLong(UNKNOWN_LAG);
+            lagSeconds.put(pool, lag);
+            Gauge.builder("jdbc.replica.lag", lag, AtomicLong::get)
+                    .description("replica 복제 지연(초), 확인 불가 시 -1")
+                    .baseUnit("seconds")
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+        });
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    Map<String, HikariDataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * @return 라우팅 가능한 replica 풀 이름. 모두 지연되었으면 빈 목록
+     */
+    List<String> availableReplicas() {
+        return available;
+    }
+
+    void check() {
+        replicas.forEach((pool, dataSource) -> lagSeconds.get(pool).set(lagOf(pool, dataSource)));
+        List<String> next = lagSeconds.entrySet().stream()
+                .filter(entry -> entry.getValue().get() != UNKNOWN_LAG && entry.getValue().get() <= maxLagSeconds)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!next.equals(available)) {
+            log.info("읽기 라우팅 대상 replica 변경 - {} -> {}", available, next);
+        }
+        available = next;
+    }
+
+    private long lagOf(String pool, HikariDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                // 복제 상태가 없는 노드(관리형 reader endpoint 등)는 지연 없음으로 본다.
+                return 0L;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            // SQL 스레드가 멈추면 NULL 이 반환된다.
+            return resultSet.wasNull() ? UNKNOWN_LAG : lag;
+        } catch (Exception e) {
+            log.warn("replica 복제 지연 조회 실패 - pool: {}", pool, e);
+            return UNKNOWN_LAG;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
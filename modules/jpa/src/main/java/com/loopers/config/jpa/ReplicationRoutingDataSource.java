@@ -0,0 +1,86 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 외는 main 으로 보낸다.
+ * {@link DataSourceRoutingContext#onPrimary} 안의 읽기는 읽기 전용이어도 main 으로 보낸다.
+ * 트랜잭션의 readOnly 여부는 시작 이후에 확정되므로, 반드시 LazyConnectionDataSourceProxy 뒤에 두어
+ * 첫 쿼리 시점에 커넥션을 고르도록 한다.
+ */
+class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    private final String primary;
+    private final ReplicaLagMonitor lagMonitor;
+    private final PrimaryStickyWindow stickyWindow;
+    private final Map<String, Counter> routedCounters;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    ReplicationRoutingDataSource(
+            String primary,
+            List<String> replicas,
+            ReplicaLagMonitor lagMonitor,
+            PrimaryStickyWindow stickyWindow,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        this.stickyWindow = stickyWindow;
+        this.routedCounters = Stream.concat(Stream.of(primary), replicas.stream())
+                .collect(Collectors.toUnmodifiableMap(pool -> pool, pool -> Counter.builder("jdbc.routing.connections")
+                        .description("라우팅된 물리 커넥션 획득 수")
+                        .tag("pool", pool)
+                        .register(meterRegistry)));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = resolveTarget();
+        routedCounters.get(target).increment();
+        return target;
+    }
+
+    private String resolveTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickOnCommit();
+            return primary;
+        }
+        if (DataSourceRoutingContext.isPrimaryRequired()) {
+            return primary;
+        }
+        String sessionKey = DataSourceRoutingContext.currentSessionKey();
+        if (sessionKey != null && stickyWindow.isSticky(sessionKey)) {
+            return primary;
+        }
+        List<String> available = lagMonitor.availableReplicas();
+        if (available.isEmpty()) {
+            return primary;
+        }
+        return available.get(Math.floorMod(cursor.getAndIncrement(), available.size()));
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면, 같은 세션의 이후 읽기가 복제 지연으로 자신의 쓰기를 놓치지 않도록 main 에 고정한다.
+     */
+    private void stickOnCommit() {
+        String sessionKey = DataSourceRoutingContext.currentSessionKey();
+        if (sessionKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyWindow.markWritten(sessionKey);
+            }
+        });
+    }
+}
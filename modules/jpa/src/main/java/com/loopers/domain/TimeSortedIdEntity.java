@@ -0,0 +1,18 @@
+package com.loopers.domain;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * INSERT 전에 시간순 64비트 ID(TSID)를 정한다. 한 번에 여러 건을 저장하는 엔티티가 JDBC 배치 INSERT 를 쓰도록 고른다.
+ * 컬럼은 기존과 같은 BIGINT 이며, AUTO_INCREMENT 컬럼에도 값을 지정해 넣을 수 있다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class TimeSortedIdEntity extends BaseTimeEntity {
+
+    @Id
+    @TimeSortedId
+    private final Long id = 0L;
+}
@@ -0,0 +1,40 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JpaConfigTest {
+
+    private static StandardEnvironment environmentOf(String... args) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        return environment;
+    }
+
+    @DisplayName("tsid.node 없이 명령행 인자로 local/test 가 아닌 프로파일을 주면, IllegalStateException 이 발생한다.")
+    @Test
+    void throwsException_whenProfileGivenByCommandLineWithoutNode() {
+        // given
+        StandardEnvironment environment = environmentOf("--spring.profiles.active=prd");
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> JpaConfig.resolveTsidNode(environment));
+    }
+
+    @DisplayName("명령행 인자로 tsid.node 를 주면, 그 값을 쓴다.")
+    @Test
+    void useNode_whenNodeGivenByCommandLine() {
+        // given
+        StandardEnvironment environment = environmentOf("--spring.profiles.active=prd", "--tsid.node=42");
+
+        // when
+        long node = JpaConfig.resolveTsidNode(environment);
+
+        // then
+        assertEquals(42, node);
+    }
+}
@@ -0,0 +1,321 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationRoutingDataSourceTest {
+    private static final String PRIMARY = "main";
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(1);
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private ReplicaLagMonitor lagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (lagMonitor != null) {
+            lagMonitor.close();
+        }
+    }
+
+    /**
+     * @param lagSeconds 복제 지연, null 이면 SQL 스레드가 멈춘 replica
+     */
+    private static HikariDataSource replicaWithLag(Long lagSeconds) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(lagSeconds == null ? 0L : lagSeconds);
+        when(resultSet.wasNull()).thenReturn(lagSeconds == null);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static HikariDataSource unreachableReplica() throws SQLException {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+        return dataSource;
+    }
+
+    private ReplicationRoutingDataSource routingOf(Map<String, HikariDataSource> replicas) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replicas, MAX_LAG, Duration.ofSeconds(1), meterRegistry);
+        lagMonitor.check();
+        return new ReplicationRoutingDataSource(PRIMARY, List.copyOf(replicas.keySet()), lagMonitor,
+                new PrimaryStickyWindow(STICKY_WINDOW, nanoClock::get), meterRegistry);
+    }
+
+    private ReplicationRoutingDataSource routingOfHealthyReplicas() throws SQLException {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replicaWithLag(0L));
+        replicas.put("replica-2", replicaWithLag(0L));
+        return routingOf(replicas);
+    }
+
+    private static Object routeRead(ReplicationRoutingDataSource routing) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return routing.determineCurrentLookupKey();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션에서 커넥션을 고른 뒤 커밋까지 마친 것처럼 동기화 콜백을 호출한다.
+     */
+    private static Object routeWriteAndCommit(ReplicationRoutingDataSource routing) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            Object target = routing.determineCurrentLookupKey();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return target;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("트랜잭션 종류")
+    @Nested
+    class TransactionType {
+        @DisplayName("쓰기 트랜잭션은, main 으로 보낸다.")
+        @Test
+        void routeToPrimary_whenReadWrite() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+
+            // when
+            Object target = routing.determineCurrentLookupKey();
+
+            // then
+            assertEquals(PRIMARY, target);
+        }
+
+        @DisplayName("읽기 전용 트랜잭션은, replica 들에 번갈아 보낸다.")
+        @Test
+        void routeToReplicasInTurn_whenReadOnly() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+
+            // when
+            List<Object> targets = List.of(routeRead(routing), routeRead(routing), routeRead(routing));
+
+            // then
+            assertEquals(List.of("replica-1", "replica-2", "replica-1"), targets);
+        }
+    }
+
+    @DisplayName("read-your-writes")
+    @Nested
+    class StickyAfterWrite {
+        @DisplayName("쓰기를 커밋한 세션의 읽기는, 고정 시간 동안 main 으로 보낸다.")
+        @Test
+        void routeToPrimary_whenReadWithinWindowAfterWrite() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+            DataSourceRoutingContext.bind("user-1");
+            routeWriteAndCommit(routing);
+            nanoClock.addAndGet(STICKY_WINDOW.toNanos() - 1);
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertEquals(PRIMARY, target);
+        }
+
+        @DisplayName("고정 시간이 지나면, 다시 replica 로 보낸다.")
+        @Test
+        void routeToReplica_whenWindowExpired() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+            DataSourceRoutingContext.bind("user-1");
+            routeWriteAndCommit(routing);
+            nanoClock.addAndGet(STICKY_WINDOW.toNanos());
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertNotEquals(PRIMARY, target);
+        }
+
+        @DisplayName("다른 세션의 읽기는, 고정 시간 안이어도 replica 로 보낸다.")
+        @Test
+        void routeToReplica_whenOtherSessionWrote() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+            DataSourceRoutingContext.bind("user-1");
+            routeWriteAndCommit(routing);
+            DataSourceRoutingContext.bind("user-2");
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertNotEquals(PRIMARY, target);
+        }
+
+        @DisplayName("쓰기 트랜잭션이 커밋되지 않으면, 읽기를 main 에 고정하지 않는다.")
+        @Test
+        void routeToReplica_whenWriteNotCommitted() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+            DataSourceRoutingContext.bind("user-1");
+            TransactionSynchronizationManager.initSynchronization();
+            routing.determineCurrentLookupKey();
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertNotEquals(PRIMARY, target);
+        }
+    }
+
+    @DisplayName("main 지정 읽기")
+    @Nested
+    class PrimaryRead {
+        @DisplayName("다른 세션이 쓰기를 커밋한 뒤 캐시를 채우는 읽기는, 읽기 전용이어도 main 으로 보낸다.")
+        @Test
+        void routeToPrimary_whenRefillAfterOtherSessionWrote() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+            DataSourceRoutingContext.bind("user-1");
+            routeWriteAndCommit(routing);
+            DataSourceRoutingContext.bind("user-2");
+
+            // when
+            Object refill = DataSourceRoutingContext.onPrimary(() -> routeRead(routing));
+            Object after = routeRead(routing);
+
+            // then
+            assertEquals(PRIMARY, refill);
+            assertNotEquals(PRIMARY, after);
+        }
+
+        @DisplayName("main 지정 읽기는, 세션을 main 에 고정하지 않는다.")
+        @Test
+        void notStick_whenReadOnPrimary() throws SQLException {
+            // given
+            ReplicationRoutingDataSource routing = routingOfHealthyReplicas();
+            DataSourceRoutingContext.bind("user-1");
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                DataSourceRoutingContext.onPrimary(() -> routeRead(routing));
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertNotEquals(PRIMARY, target);
+        }
+    }
+
+    @DisplayName("replica 상태")
+    @Nested
+    class ReplicaHealth {
+        @DisplayName("복제 지연이 허용치를 넘은 replica 는, 라우팅에서 제외한다.")
+        @Test
+        void excludeReplica_whenLagging() throws SQLException {
+            // given
+            Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+            replicas.put("replica-1", replicaWithLag(MAX_LAG.toSeconds() + 1));
+            replicas.put("replica-2", replicaWithLag(MAX_LAG.toSeconds()));
+            ReplicationRoutingDataSource routing = routingOf(replicas);
+
+            // when
+            List<Object> targets = List.of(routeRead(routing), routeRead(routing));
+
+            // then
+            assertEquals(List.of("replica-2", "replica-2"), targets);
+        }
+
+        @DisplayName("지연을 알 수 없는 replica 는, 라우팅에서 제외한다.")
+        @Test
+        void excludeReplica_whenLagUnknown() throws SQLException {
+            // given
+            Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+            replicas.put("replica-1", replicaWithLag(null));
+            replicas.put("replica-2", unreachableReplica());
+            replicas.put("replica-3", replicaWithLag(0L));
+            ReplicationRoutingDataSource routing = routingOf(replicas);
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertEquals("replica-3", target);
+        }
+
+        @DisplayName("정상인 replica 가 없으면, 읽기 전용 트랜잭션도 main 으로 보낸다.")
+        @Test
+        void routeToPrimary_whenNoReplicaHealthy() throws SQLException {
+            // given
+            Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+            replicas.put("replica-1", replicaWithLag(MAX_LAG.toSeconds() + 1));
+            replicas.put("replica-2", unreachableReplica());
+            ReplicationRoutingDataSource routing = routingOf(replicas);
+
+            // when
+            Object target = routeRead(routing);
+
+            // then
+            assertEquals(PRIMARY, target);
+        }
+
+        @DisplayName("지연이 회복되면, 다음 확인부터 다시 라우팅한다.")
+        @Test
+        void includeReplica_whenLagRecovered() throws SQLException {
+            // given
+            HikariDataSource replica = replicaWithLag(MAX_LAG.toSeconds() + 1);
+            ReplicationRoutingDataSource routing = routingOf(Map.of("replica-1", replica));
+            Object before = routeRead(routing);
+            HikariDataSource recovered = replicaWithLag(0L);
+            Connection connection = recovered.getConnection();
+            when(replica.getConnection()).thenReturn(connection);
+
+            // when
+            lagMonitor.check();
+
+            // then
+            assertEquals(PRIMARY, before);
+            assertEquals("replica-1", routeRead(routing));
+        }
+    }
+}
@@ -4,10 +4,13 @@ import io.lettuce.core.ReadFrom;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -20,7 +23,9 @@ import java.util.function.Consumer;
 public class RedisConfig {
 
     private static final String CONNECTION_MASTER = "redisConnectionMaster";
+    private static final String CONNECTION_PUB_SUB = "redisConnectionPubSub";
     public static final String REDIS_TEMPLATE_MASTER = "redisTemplateMaster";
+    public static final String REDIS_TEMPLATE_BINARY = "redisTemplateBinary";
 
     private final RedisProperties redisProperties;
 
@@ -54,6 +59,27 @@ public class RedisConfig {
         );
     }
 
+    /**
+     * Master/Replica 커넥션은 Pub/Sub 을 지원하지 않으므로, 구독은 master 에 직접 연결한다.
+     */
+    @Bean
+    @Qualifier(CONNECTION_PUB_SUB)
+    public LettuceConnectionFactory pubSubRedisConnectionFactory() {
+        RedisNodeInfo master = redisProperties.getMaster();
+        RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(master.getHost(), master.getPort());
+        standalone.setDatabase(redisProperties.getDatabase());
+        return new LettuceConnectionFactory(standalone);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            @Qualifier(CONNECTION_PUB_SUB) LettuceConnectionFactory lettuceConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        return container;
+    }
+
     @Primary
     @Bean
     public RedisTemplate<String, String> defaultRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
@@ -70,6 +96,20 @@ public class RedisConfig {
         return defaultRedisTemplate(template, lettuceConnectionFactory);
     }
 
+    /**
+     * 값을 문자열로 변환하지 않고 byte[] 그대로 읽고 쓴다. 이진 형식으로 인코딩한 값에 사용한다.
+     */
+    @Bean
+    @Qualifier(REDIS_TEMPLATE_BINARY)
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(LettuceConnectionFactory lettuceConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setConnectionFactory(lettuceConnectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
     private LettuceConnectionFactory lettuceConnectionFactory(
             int database,
             RedisNodeInfo master,
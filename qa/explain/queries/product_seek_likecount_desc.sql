@@ -0,0 +1,55 @@
+-- MySQL 실행계획 확인
+-- 커서(seek) 조회: 좋아요가 있는 구간은 idx_ls_type_like_tid, 좋아요가 없는 구간은 idx_product_state_id 로 seek 한다.
+-- 첫 페이지와 깊은 페이지 모두 20건 근처만 읽어야 한다.
+EXPLAIN ANALYZE
+SELECT
+    p.id, p.brand_id, p.created_at, p.name, p.price,
+    p.released_at, p.state, p.stock, p.updated_at, ls.like_count
+FROM like_summary ls FORCE INDEX (idx_ls_type_like_tid)
+INNER JOIN product p ON p.id = ls.target_id
+WHERE ls.target_type = 'PRODUCT'
+    AND ls.like_count > 0
+    AND p.state = 'OPEN'
+ORDER BY ls.like_count DESC, ls.target_id
+LIMIT 20;
+
+-- 깊은 페이지의 커서 값 (측정 대상 아님)
+SELECT ls.like_count, ls.target_id INTO @cursor_like_count, @cursor_id
+FROM like_summary ls
+WHERE ls.target_type = 'PRODUCT'
+    AND ls.like_count > 0
+ORDER BY ls.like_count DESC, ls.target_id
+LIMIT 1 OFFSET 100000;
+
+EXPLAIN ANALYZE
+SELECT
+    p.id, p.brand_id, p.created_at, p.name, p.price,
+    p.released_at, p.state, p.stock, p.updated_at, ls.like_count
+FROM like_summary ls FORCE INDEX (idx_ls_type_like_tid)
+INNER JOIN product p ON p.id = ls.target_id
+WHERE ls.target_type = 'PRODUCT'
+    AND ls.like_count > 0
+    AND (ls.like_count < @cursor_like_count OR (ls.like_count = @cursor_like_count AND ls.target_id > @cursor_id))
+    AND p.state = 'OPEN'
+ORDER BY ls.like_count DESC, ls.target_id
+LIMIT 20;
+
+-- 좋아요가 없는 구간 (id seek)
+SELECT id INTO @cursor_id
+FROM product
+WHERE state = 'OPEN'
+ORDER BY id
+LIMIT 1 OFFSET 500000;
+
+EXPLAIN ANALYZE
+SELECT
+    p.id, p.brand_id, p.created_at, p.name, p.price,
+    p.released_at, p.state, p.stock, p.updated_at, 0 AS like_count
+FROM product p FORCE INDEX (idx_product_state_id)
+LEFT JOIN like_summary ls
+    ON ls.target_id = p.id AND ls.target_type = 'PRODUCT'
+WHERE p.state = 'OPEN'
+    AND p.id > @cursor_id
+    AND (ls.target_id IS NULL OR ls.like_count = 0)
+ORDER BY p.id
+LIMIT 20;
@@ -0,0 +1,28 @@
+-- MySQL 실행계획 확인
+-- 커서(seek) 조회: 첫 페이지와 50만 번째 행 이후 페이지의 실행계획/비용 비교
+-- idx_product_state_rel_id (state, released_at DESC, id) 범위 스캔으로 20건만 읽어야 한다.
+EXPLAIN ANALYZE
+select
+    pe1_0.id,pe1_0.brand_id,pe1_0.created_at,pe1_0.deleted_at,pe1_0.name,pe1_0.price,pe1_0.released_at,pe1_0.state,pe1_0.stock,pe1_0.updated_at,lse1_0.like_count
+from product pe1_0
+left join like_summary lse1_0 on pe1_0.id=lse1_0.target_id and lse1_0.target_type='PRODUCT'
+where pe1_0.state = 'OPEN'
+order by pe1_0.released_at desc,pe1_0.id
+limit 20;
+
+-- 깊은 페이지의 커서 값 (측정 대상 아님)
+SELECT released_at, id INTO @cursor_released_at, @cursor_id
+FROM product
+WHERE state = 'OPEN'
+ORDER BY released_at DESC, id
+LIMIT 1 OFFSET 500000;
+
+EXPLAIN ANALYZE
+select
+    pe1_0.id,pe1_0.brand_id,pe1_0.created_at,pe1_0.deleted_at,pe1_0.name,pe1_0.price,pe1_0.released_at,pe1_0.state,pe1_0.stock,pe1_0.updated_at,lse1_0.like_count
+from product pe1_0
+left join like_summary lse1_0 on pe1_0.id=lse1_0.target_id and lse1_0.target_type='PRODUCT'
+where pe1_0.state = 'OPEN'
+  and (pe1_0.released_at < @cursor_released_at or (pe1_0.released_at = @cursor_released_at and pe1_0.id > @cursor_id))
+order by pe1_0.released_at desc,pe1_0.id
+limit 20;
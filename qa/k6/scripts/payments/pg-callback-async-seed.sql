@@ -0,0 +1,20 @@
+-- PG 콜백 부하 테스트용 데이터
+-- 콜백 1건마다 서로 다른 주문을 완료시키도록, 결제 대기 중인 주문/결제를 미리 만들어 둔다.
+-- payments.id 와 orders.id 를 같게 맞춰 콜백의 주문 조회가 그대로 이어지게 한다.
+-- order_key 는 BINARY(16) UUID 이므로, n 번째 키를 00000000-0000-7000-8000-{n 12자리} 로 만든다 (pg-callback-async.js 의 orderKeyOf 와 같은 규칙).
+SET SESSION cte_max_recursion_depth = 100000;
+
+DELETE FROM payments WHERE id BETWEEN 900001 AND 920000;
+DELETE FROM orders WHERE id BETWEEN 900001 AND 920000;
+DELETE FROM member WHERE id = 900001;
+
+INSERT INTO member (id, login_id, gender, email, birth_date, created_at, updated_at)
+VALUES (900001, 'k6callback', 'MALE', 'k6callback@example.com', '1990-01-01', NOW(), NOW());
+
+INSERT INTO orders (id, user_id, state, version, payment_type, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT 900000 + n, 900001, 0, 0, 'PG', NOW(), NOW() FROM seq;
+
+INSERT INTO payments (id, order_id, user_id, order_key, amount, state, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT 900000 + n, 900000 + n, 900001, UNHEX(CONCAT('00000000000070008000', LPAD(n, 12, '0'))), 10000, 'PENDING', NOW(), NOW() FROM seq;
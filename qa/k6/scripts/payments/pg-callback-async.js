@@ -0,0 +1,113 @@
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+// PG 콜백 처리 부하 테스트 설정
+// 콜백 처리 중 PG 주문 조회를 기다리는 동안 Tomcat 워커 스레드가 얼마나 점유되는지, 응답 p99 와 함께 확인한다.
+// 사전 준비: pg-callback-async-seed.sql 적용, commerce-api(8080) 와 pg-simulator(8082) 기동.
+// 동기/비동기 비교는 같은 데이터를 다시 적용한 뒤, 변경 전 빌드와 변경 후 빌드에서 각각 실행한다.
+const ORDER_COUNT = parseInt(__ENV.ORDER_COUNT || '5000');
+const USER_ID = __ENV.USER_ID || '900001';
+
+export const options = {
+  setupTimeout: '10m',
+  scenarios: {
+    callbacks: {
+      executor: 'shared-iterations',
+      vus: 400,
+      iterations: ORDER_COUNT,
+      maxDuration: '5m',
+      exec: 'callback',
+    },
+    tomcat_threads: {
+      executor: 'constant-arrival-rate',
+      rate: 1,
+      timeUnit: '1s',
+      duration: '5m',
+      preAllocatedVUs: 1,
+      exec: 'scrapeTomcatThreads',
+    },
+  },
+  thresholds: {
+    'http_req_duration{name:callback}': ['p(99)<1000'],
+    'http_req_failed{name:callback}': ['rate<0.01'], // 에러율 1% 미만
+    checks: ['rate>0.99'],                             // 체크 성공률 99% 이상
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PG_URL = __ENV.PG_URL || 'http://localhost:8082';
+const METRICS_URL = __ENV.METRICS_URL || 'http://localhost:8081/actuator/prometheus';
+const BUSY_THREADS_METRIC = 'tomcat_threads_busy_threads';
+const CARD_TYPE = 'SAMSUNG';
+const CARD_NO = '1234-5678-9814-1451';
+const AMOUNT = 10000;
+
+const tomcatBusyThreads = new Trend('tomcat_threads_busy');
+
+// 시드의 order_key(BINARY(16) UUID)와 같은 규칙
+function orderKeyOf(index) {
+  return `00000000-0000-7000-8000-${String(index + 1).padStart(12, '0')}`;
+}
+
+// 콜백이 조회할 거래를 PG 에 먼저 만들어 둔다. PG 가 요청의 일부를 일부러 실패시키므로 성공할 때까지 다시 보낸다.
+// PG 의 자체 콜백은 존재하지 않는 경로로 보내, 측정 구간의 콜백과 섞이지 않게 한다.
+export function setup() {
+  const transactionKeys = new Array(ORDER_COUNT);
+  let pending = [...Array(ORDER_COUNT).keys()];
+  while (pending.length > 0) {
+    const chunk = pending.slice(0, 200);
+    const responses = http.batch(chunk.map((index) => ({
+      method: 'POST',
+      url: `${PG_URL}/api/v1/payments`,
+      body: JSON.stringify({
+        orderId: orderKeyOf(index),
+        cardType: CARD_TYPE,
+        cardNo: CARD_NO,
+        amount: AMOUNT,
+        callbackUrl: `${BASE_URL}/k6/ignored`,
+      }),
+      params: { headers: { 'Content-Type': 'application/json', 'X-USER-ID': USER_ID }, tags: { name: 'setup' } },
+    })));
+    const failed = [];
+    responses.forEach((response, i) => {
+      if (response.status === 200) {
+        transactionKeys[chunk[i]] = response.json('data.transactionKey');
+      } else {
+        failed.push(chunk[i]);
+      }
+    });
+    pending = failed.concat(pending.slice(chunk.length));
+  }
+  return { transactionKeys };
+}
+
+// 반복마다 서로 다른 주문의 결제 성공 콜백을 보낸다.
+export function callback(data) {
+  const index = exec.scenario.iterationInTest;
+  const response = http.post(`${BASE_URL}/api/v1/payments/transactions`, JSON.stringify({
+    transactionKey: data.transactionKeys[index],
+    orderId: orderKeyOf(index),
+    cardType: CARD_TYPE,
+    cardNo: CARD_NO,
+    amount: String(AMOUNT),
+    status: 'SUCCESS',
+    reason: null,
+  }), { headers: { 'Content-Type': 'application/json' }, tags: { name: 'callback' } });
+  check(response, {
+    'PG 콜백 처리 성공': (r) => r.status === 200,
+  });
+}
+
+// 초당 한 번 Tomcat 의 점유 중인 워커 스레드 수를 기록한다.
+export function scrapeTomcatThreads() {
+  const response = http.get(METRICS_URL, { tags: { name: 'prometheus' } });
+  if (response.status !== 200) {
+    return;
+  }
+  const line = response.body.split('\n').find((l) => l.startsWith(BUSY_THREADS_METRIC));
+  if (line) {
+    tomcatBusyThreads.add(parseFloat(line.split(' ').pop()));
+  }
+}
@@ -1,5 +1,6 @@
 import http from 'k6/http';
 import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
 
 // 랜덤 정수 생성 함수 (k6/utils 대신 직접 구현)
 function randomIntBetween(min, max) {
@@ -7,7 +8,13 @@ function randomIntBetween(min, max) {
 }
 
 // 상품 좋아요 상호작용 테스트 설정 (10000개 상품 대상)
+// 변경 전후 비교 시 같은 데이터셋으로 RUN_LABEL 만 바꿔 두 번 실행한다.
+//   k6 run -e RUN_LABEL=baseline product-likes-interaction.js
+//   k6 run -e RUN_LABEL=upsert product-likes-interaction.js
 export const options = {
+  tags: {
+    run: __ENV.RUN_LABEL || 'default',
+  },
   vus: 1000,       // 1000명의 사용자 (동시 테스트)
   duration: '1m', // 1분 실행
   thresholds: {
@@ -28,6 +35,13 @@ export const options = {
 const REQUEST_DURATION = 500;
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
 const MAX_PRODUCTS = 1000; // 최대 상품 수
+const HEADERS = (userId) => ({
+  'X-USER-ID': userId.toString(),
+  'Content-Type': 'application/json',
+});
+
+const likeDuration = new Trend('like_duration', true);
+const unlikeDuration = new Trend('unlike_duration', true);
 
 // 상품 좋아요 상호작용 테스트 시나리오 (10000개 상품 자유 테스트)
 export default function () {
@@ -43,18 +57,28 @@ export default function () {
   for (let i = 0; i < productIds.length; i++) {
     const productId = productIds[i];
     const likeResponse = http.post(`${BASE_URL}/api/v1/like/products/${productId}`, null, {
-      headers: {
-        'X-USER-ID': userId.toString(),
-        'Content-Type': 'application/json',
-      },
+      headers: HEADERS(userId),
     });
-    
+    likeDuration.add(likeResponse.timings.duration);
+
     check(likeResponse, {
       [`상품 ${productId} 좋아요 성공`]: (r) => r.status === 200,
       [`상품 ${productId} 좋아요 응답 시간 체크`]: (r) => r.timings.duration < REQUEST_DURATION,
       [`상품 ${productId} 좋아요 응답 크기 체크`]: (r) => r.body.length > 0,
     });
 
+    // 시나리오 2: 절반은 바로 취소해 좋아요/취소 토글을 섞는다
+    if (randomIntBetween(0, 1) === 1) {
+      const unlikeResponse = http.del(`${BASE_URL}/api/v1/like/products/${productId}`, null, {
+        headers: HEADERS(userId),
+      });
+      unlikeDuration.add(unlikeResponse.timings.duration);
+
+      check(unlikeResponse, {
+        [`상품 ${productId} 좋아요 취소 성공`]: (r) => r.status === 200,
+      });
+    }
+
     sleep(0.5);
   }
 
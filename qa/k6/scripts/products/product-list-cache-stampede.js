@@ -0,0 +1,57 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+// 상품 목록 캐시 스탬피드 테스트 설정
+// 캐시 TTL(60s)을 넘겨 동일 키에 일정한 도착률로 요청하며, 만료 시점에 DB 재계산이 몇 번 일어나는지 확인한다.
+export const options = {
+  scenarios: {
+    hot_key: {
+      executor: 'constant-arrival-rate',
+      rate: 500,
+      timeUnit: '1s',
+      duration: '150s',
+      preAllocatedVUs: 200,
+      maxVUs: 500,
+    },
+  },
+  thresholds: {
+    http_req_duration: ['p(99)<500'],
+    http_req_failed: ['rate<0.01'],    // 에러율 1% 미만
+    checks: ['rate>0.99'],             // 체크 성공률 99% 이상
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const METRICS_URL = __ENV.METRICS_URL || 'http://localhost:8081/actuator/prometheus';
+const RECOMPUTE_METRIC = 'product_cache_recompute_seconds_count';
+
+const recomputeCount = new Counter('product_cache_recompute');
+
+function scrapeRecomputeCount() {
+  const response = http.get(METRICS_URL, { tags: { name: 'prometheus' } });
+  if (response.status !== 200) {
+    return 0;
+  }
+  const line = response.body.split('\n').find((l) => l.startsWith(RECOMPUTE_METRIC));
+  return line ? parseFloat(line.split(' ').pop()) : 0;
+}
+
+export function setup() {
+  return { recomputeBefore: scrapeRecomputeCount() };
+}
+
+// 모든 VU 가 같은 캐시 키(좋아요순 첫 페이지)를 조회한다.
+export default function () {
+  const response = http.get(`${BASE_URL}/api/v1/products?sort=likes_desc&page=0&size=20`);
+  check(response, {
+    '상품 목록 조회 성공': (r) => r.status === 200,
+  });
+}
+
+// 테스트 구간 동안의 재계산 횟수. 보호가 동작하면 만료 주기(60s)당 1~2회 수준이어야 한다.
+export function teardown(data) {
+  const recomputed = scrapeRecomputeCount() - data.recomputeBefore;
+  recomputeCount.add(recomputed);
+  console.log(`상품 목록 캐시 재계산 횟수: ${recomputed}`);
+}
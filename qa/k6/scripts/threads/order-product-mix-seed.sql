@@ -0,0 +1,16 @@
+-- 주문 + 상품 목록 혼합 부하 테스트용 데이터
+-- 상품은 qa/sample 데이터를 그대로 쓰고, 주문할 상품 1~100 번의 재고와 주문자 포인트만 넉넉히 맞춘다.
+SET SESSION cte_max_recursion_depth = 100000;
+
+DELETE FROM point WHERE user_id BETWEEN 910001 AND 911000;
+DELETE FROM member WHERE id BETWEEN 910001 AND 911000;
+
+INSERT INTO member (id, login_id, gender, email, birth_date, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT 910000 + n, CONCAT('k6mix', n), 'MALE', CONCAT('k6mix', n, '@example.com'), '1990-01-01', NOW(), NOW() FROM seq;
+
+INSERT INTO point (user_id, amount, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT 910000 + n, 1000000000, NOW(), NOW() FROM seq;
+
+UPDATE product SET stock = 100000000 WHERE id BETWEEN 1 AND 100;
@@ -0,0 +1,110 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+// 주문 + 상품 목록 혼합 부하에서 플랫폼/가상 스레드 모드 비교
+// Tomcat 워커 200 개를 넘는 동시 요청(최대 VUS, 기본 600)까지 올리며 처리량과 p99, 스레드/커넥션 풀 대기를 함께 본다.
+// 사전 준비: order-product-mix-seed.sql 적용, commerce-api(8080) 기동.
+// 비교: 같은 데이터로 VIRTUAL_THREADS_ENABLED=false / true 로 각각 기동한 뒤 RUN_LABEL 을 바꿔 실행한다.
+//   k6 run -e RUN_LABEL=platform order-product-mix.js
+//   k6 run -e RUN_LABEL=virtual order-product-mix.js
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '600');
+const ORDER_RATIO = parseFloat(__ENV.ORDER_RATIO || '0.2');
+const USER_COUNT = 1000;
+const PRODUCT_COUNT = 100;
+
+export const options = {
+  tags: { run: __ENV.RUN_LABEL || 'default' },
+  scenarios: {
+    mix: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 100 },
+        { duration: '1m', target: 200 }, // Tomcat 기본 워커 수
+        { duration: '1m', target: 400 },
+        { duration: '1m', target: MAX_VUS },
+        { duration: '30s', target: 0 },
+      ],
+      exec: 'mix',
+    },
+    server_metrics: {
+      executor: 'constant-arrival-rate',
+      rate: 1,
+      timeUnit: '1s',
+      duration: '4m',
+      preAllocatedVUs: 1,
+      exec: 'scrapeServerMetrics',
+    },
+  },
+  thresholds: {
+    'http_req_duration{name:order}': ['p(99)<2000'],
+    'http_req_duration{name:products}': ['p(99)<1000'],
+    'http_req_failed{name:order}': ['rate<0.01'],
+    'http_req_failed{name:products}': ['rate<0.01'],
+    checks: ['rate>0.99'],
+  },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const METRICS_URL = __ENV.METRICS_URL || 'http://localhost:8081/actuator/prometheus';
+const HEADERS = { 'Content-Type': 'application/json' };
+
+// 모드에 따라 없는 지표는 기록되지 않는다 (플랫폼 모드에는 pinning 지표가 없다).
+const SERVER_METRICS = {
+  tomcat_threads_busy_threads: new Trend('tomcat_threads_busy'),
+  hikaricp_connections_pending: new Trend('hikaricp_pending'), // 모든 풀 합계
+  jvm_threads_live_threads: new Trend('jvm_threads_live'),
+  jvm_threads_virtual_pinned_seconds_count: new Trend('virtual_pinned_count'),
+};
+
+function randomInt(max) {
+  return Math.floor(Math.random() * max) + 1;
+}
+
+export function mix() {
+  if (Math.random() < ORDER_RATIO) {
+    order();
+  } else {
+    products();
+  }
+}
+
+function products() {
+  const response = http.get(`${BASE_URL}/api/v1/products?sort=likes_desc&page=${randomInt(5) - 1}&size=20`, {
+    tags: { name: 'products' },
+  });
+  check(response, {
+    '상품 목록 조회 성공': (r) => r.status === 200,
+  });
+}
+
+function order() {
+  const userId = 910000 + randomInt(USER_COUNT);
+  const response = http.post(`${BASE_URL}/api/v1/orders`, JSON.stringify({
+    userId,
+    paymentType: 'POINT',
+    items: [{ productId: randomInt(PRODUCT_COUNT), quantity: 1 }],
+    coupons: [],
+  }), { headers: { ...HEADERS, 'X-USER-ID': String(userId) }, tags: { name: 'order' } });
+  check(response, {
+    '주문 성공': (r) => r.status === 200,
+  });
+}
+
+// 초당 한 번 서버의 스레드/커넥션 풀 지표를 기록한다.
+export function scrapeServerMetrics() {
+  const response = http.get(METRICS_URL, { tags: { name: 'prometheus' } });
+  if (response.status !== 200) {
+    return;
+  }
+  const lines = response.body.split('\n');
+  Object.entries(SERVER_METRICS).forEach(([prefix, trend]) => {
+    const values = lines
+      .filter((l) => l.startsWith(prefix))
+      .map((l) => parseFloat(l.split(' ').pop()));
+    if (values.length > 0) {
+      trend.add(values.reduce((sum, v) => sum + v, 0));
+    }
+  });
+}
@@ -0,0 +1,82 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 모드에서 carrier 스레드 고정(pinning)을 JFR 이벤트로 구독해 지표로 남긴다.
+ * synchronized 안에서의 블로킹(드라이버 내부 락, 커넥션 풀 대기 등)이 carrier 를 붙잡으면 가상 스레드의 처리량 이점이 사라진다.
+ * source 태그는 JDK 가 아닌 첫 프레임의 클래스로, 어느 라이브러리/코드에서 고정되었는지 구분한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20); // JFR 기본 임계값
+    private static final String UNKNOWN_SOURCE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSources = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        String source = sourceOf(event);
+        Timer.builder(PINNED_METRIC)
+                .description("carrier 스레드에 고정된 채 블로킹된 시간")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (reportedSources.add(source)) {
+            // source 별 첫 발생만 스택과 함께 남긴다.
+            log.warn("가상 스레드 pinning 감지 - source: {}, duration: {}, stack: {}",
+                    source, event.getDuration(), event.getStackTrace());
+        }
+    }
+
+    private String sourceOf(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return UNKNOWN_SOURCE;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type;
+            }
+        }
+        return UNKNOWN_SOURCE;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
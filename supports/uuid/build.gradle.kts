@@ -0,0 +1,5 @@
+dependencies {
+    // BINARY(16) 컬럼 변환기. JPA 를 쓰는 모듈에서만 사용한다
+    compileOnly("jakarta.persistence:jakarta.persistence-api")
+    testImplementation("jakarta.persistence:jakarta.persistence-api")
+}
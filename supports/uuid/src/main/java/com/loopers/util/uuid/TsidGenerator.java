@@ -0,0 +1,92 @@
+package com.loopers.util.uuid;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 정렬되는 64비트 ID (TSID) 생성기.
+ *
+ * <pre>
+ * | 0 (1) | EPOCH 이후 ms (41) | node (10) | counter (12) |
+ * </pre>
+ *
+ * DB 에 가기 전에 ID 를 정할 수 있어 IDENTITY 와 달리 JDBC 배치 INSERT 가 가능하다.
+ * 노드 안에서는 항상 증가한다. 한 밀리초에 4096 개를 넘기거나 시계가 뒤로 가면, 카운터가 시각으로 올림되어 다음 밀리초를 당겨 쓴다.
+ * node (0~1023) 는 노드마다 다르게 정해야 하며, 기동 시 {@link #configure(long)} 로 한 번 정한 뒤에 생성할 수 있다.
+ * 설정이 없으면 local/test 프로파일에서만 무작위로 고르고, 그 외에는 노드끼리 ID 가 겹칠 수 있으므로 기동에 실패한다.
+ */
+public class TsidGenerator {
+    static final long EPOCH = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int COUNTER_BITS = 12;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final Set<String> RANDOM_NODE_PROFILES = Set.of("local", "test");
+
+    private static volatile TsidGenerator defaultGenerator;
+
+    private final LongSupplier clock;
+    private final long node;
+    /**
+     * (EPOCH 이후 ms << COUNTER_BITS) | counter
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    TsidGenerator(LongSupplier clock, long node) {
+        if (node < 0 || node > NODE_MASK) {
+            throw new IllegalArgumentException("node 는 0 이상 " + NODE_MASK + " 이하여야 합니다: " + node);
+        }
+        this.clock = clock;
+        this.node = node;
+    }
+
+    /**
+     * @throws IllegalStateException node 가 아직 정해지지 않은 경우
+     */
+    public static long generate() {
+        TsidGenerator generator = defaultGenerator;
+        if (generator == null) {
+            throw new IllegalStateException("TSID node 가 정해지지 않았습니다. 기동 시 TsidGenerator.configure 를 먼저 호출해야 합니다.");
+        }
+        return generator.next();
+    }
+
+    /**
+     * 이미 정해졌으면 바꾸지 않는다. 같은 JVM 에서 생성기를 바꾸면 카운터가 초기화되어 ID 가 겹칠 수 있기 때문이다.
+     *
+     * @return 실제로 쓰이는 node
+     */
+    public static synchronized long configure(long node) {
+        if (defaultGenerator == null) {
+            defaultGenerator = new TsidGenerator(System::currentTimeMillis, node);
+        }
+        return defaultGenerator.node;
+    }
+
+    long next() {
+        long candidate = (clock.getAsLong() - EPOCH) << COUNTER_BITS;
+        long next = state.updateAndGet(prev -> candidate > prev ? candidate : prev + 1);
+        return ((next >>> COUNTER_BITS) << (NODE_BITS + COUNTER_BITS))
+                | (node << COUNTER_BITS)
+                | (next & COUNTER_MASK);
+    }
+
+    /**
+     * @param configured 설정된 node, 없으면 null
+     * @param profiles   쉼표로 구분한 활성 프로파일. 비어 있으면 애플리케이션 기본값(local)으로 본다.
+     */
+    public static long resolveNode(String configured, String profiles) {
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim());
+        }
+        boolean randomAllowed = profiles == null || profiles.isBlank()
+                || Arrays.stream(profiles.split(",")).map(String::trim).anyMatch(RANDOM_NODE_PROFILES::contains);
+        if (!randomAllowed) {
+            throw new IllegalStateException("TSID node 가 설정되지 않았습니다. tsid.node 또는 TSID_NODE 를 노드마다 다르게 지정해야 합니다 - profiles: " + profiles);
+        }
+        return ThreadLocalRandom.current().nextLong(NODE_MASK + 1);
+    }
+}
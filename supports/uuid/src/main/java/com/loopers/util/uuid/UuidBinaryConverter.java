@@ -0,0 +1,39 @@
+package com.loopers.util.uuid;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID 를 BINARY(16) 컬럼에 저장한다. 36자 문자열보다 작고, v7 은 바이트 순서가 곧 생성 순서라 인덱스에 순차로 쌓인다.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<UUID, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(UUID attribute) {
+        return attribute == null ? null : toBytes(attribute);
+    }
+
+    @Override
+    public UUID convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : fromBytes(dbData);
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID 는 16바이트여야 합니다: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.util.uuid;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * 외부 연동 때문에 문자열로 다루는 UUID 를 BINARY(16) 컬럼에 저장한다.
+ * UUID 형식이 아닌 값은 저장할 수 없으므로, 조회 전에 {@link #isUuid(String)} 로 걸러야 한다.
+ */
+@Converter
+public class UuidStringBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : UuidBinaryConverter.toBytes(UUID.fromString(attribute));
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : UuidBinaryConverter.fromBytes(dbData).toString();
+    }
+
+    /**
+     * @return 저장했다가 읽었을 때 같은 문자열로 돌아오는 표준 형식(소문자 8-4-4-4-12)이면 true
+     */
+    public static boolean isUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return false;
+        }
+        try {
+            return UUID.fromString(value).toString().equals(value);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
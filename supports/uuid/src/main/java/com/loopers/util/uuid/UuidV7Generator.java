@@ -1,33 +1,105 @@
 package com.loopers.util.uuid;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
 
+/**
+ * RFC 9562 UUIDv7 생성기.
+ *
+ * <pre>
+ * | unix_ts_ms (48) | ver (4) | counter 상위 (12) | var (2) | counter 하위 (6) | random (56) |
+ * </pre>
+ *
+ * 상태(마지막 시각, 카운터)를 스레드별로 두어 공유 난수/락 경합 없이 생성한다.
+ * 같은 스레드에서 생성한 값은 항상 증가한다.
+ * <ul>
+ *     <li>같은 밀리초 안에서는 18비트 카운터를 1씩 올린다. 카운터 시작값은 무작위이되 최상위 비트를 비워 오버플로 여유를 둔다.</li>
+ *     <li>카운터가 넘치거나 시계가 뒤로 가면, 마지막 시각을 1ms 앞당겨(또는 유지하고) 계속 증가시킨다.</li>
+ * </ul>
+ * 스레드 간에는 카운터가 독립이므로, 스레드마다 새로 뽑는 56비트 난수로 충돌을 피한다.
+ */
 public class UuidV7Generator {
+    private static final UuidV7Generator DEFAULT = new UuidV7Generator(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 18;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+    private static final long COUNTER_SEED_MASK = COUNTER_MAX >>> 1;
+    private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+    private static final long RANDOM_MASK = (1L << 56) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> states = ThreadLocal.withInitial(State::new);
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
     public static UUID generateUuidV7() {
-        // 1. 현재 타임스탬프 (epoch milliseconds) 가져오기
-        long epochMillis = Instant.now().toEpochMilli();
-
-        // 2. 무작위 값 생성
-        // SecureRandom을 사용하는 것이 더 안전하지만, 예제에서는 Random을 사용
-        long randomA = (long) (Math.random() * (1L << 12)); // 12비트 랜덤
-        long randomB = (long) (Math.random() * (1L << 62)); // 62비트 랜덤
-
-        // 3. 비트 마스킹 및 쉬프트 연산으로 UUID 구조 맞추기
-
-        // 'most significant bits' (MSB) - 상위 64비트
-        // 타임스탬프(48비트) + 버전(4비트) + 랜덤A(12비트)
-        long msb = 0L;
-        msb |= (epochMillis & 0xFFFFFFFFFFFFL) << 16;
-        msb |= 0x7000; // 버전 7 (0111)
-        msb |= randomA;
-
-        // 'least significant bits' (LSB) - 하위 64비트
-        // 변형(2비트) + 랜덤B(62비트)
-        long lsb = 0L;
-        lsb |= 0x8000000000000000L; // 변형 (10xx)
-        lsb |= randomB;
-
-        return new UUID(msb, lsb);
+        return DEFAULT.next();
+    }
+
+    /**
+     * 시각 조회와 스레드 상태 조회를 한 번만 하고 count 개를 연속으로 생성한다.
+     *
+     * @return 생성 순서대로 증가하는 UUID 목록
+     */
+    public static List<UUID> generateUuidV7s(int count) {
+        return DEFAULT.nextN(count);
+    }
+
+    UUID next() {
+        State state = states.get();
+        state.advance(clock.getAsLong());
+        return state.toUuid();
+    }
+
+    List<UUID> nextN(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("생성할 개수는 음수일 수 없습니다: " + count);
+        }
+        State state = states.get();
+        long now = clock.getAsLong();
+        List<UUID> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            state.advance(now);
+            uuids.add(state.toUuid());
+        }
+        return uuids;
+    }
+
+    private static final class State {
+        private long lastMillis = -1L;
+        private long counter;
+
+        void advance(long now) {
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = ThreadLocalRandom.current().nextLong() & COUNTER_SEED_MASK;
+                return;
+            }
+            // 같은 밀리초이거나 시계가 뒤로 간 경우: 마지막 시각을 유지한 채 카운터를 올린다.
+            if (counter < COUNTER_MAX) {
+                counter++;
+                return;
+            }
+            // 카운터가 넘치면 다음 밀리초를 미리 당겨 쓴다.
+            lastMillis++;
+            counter = ThreadLocalRandom.current().nextLong() & COUNTER_SEED_MASK;
+        }
+
+        UUID toUuid() {
+            long msb = ((lastMillis & TIMESTAMP_MASK) << 16)
+                    | VERSION
+                    | (counter >>> 6);
+            long lsb = VARIANT
+                    | ((counter & 0x3FL) << 56)
+                    | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+            return new UUID(msb, lsb);
+        }
     }
 }
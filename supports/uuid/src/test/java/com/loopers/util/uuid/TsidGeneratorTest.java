@@ -0,0 +1,149 @@
+package com.loopers.util.uuid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TsidGeneratorTest {
+
+    private static long millisOf(long id) {
+        return (id >>> (TsidGenerator.NODE_BITS + TsidGenerator.COUNTER_BITS)) + TsidGenerator.EPOCH;
+    }
+
+    @DisplayName("형식")
+    @Nested
+    class Format {
+        @DisplayName("양수이고, 상위 비트에 생성 시각, 그 아래에 node 가 담긴다.")
+        @Test
+        void hasTimestampAndNode() {
+            // given
+            TsidGenerator generator = new TsidGenerator(() -> 1_760_000_000_000L, 513);
+
+            // when
+            long id = generator.next();
+
+            // then
+            assertTrue(id > 0);
+            assertEquals(1_760_000_000_000L, millisOf(id));
+            assertEquals(513, (id >>> TsidGenerator.COUNTER_BITS) & ((1 << TsidGenerator.NODE_BITS) - 1));
+        }
+
+        @DisplayName("node 가 범위를 벗어나면, IllegalArgumentException 이 발생한다.")
+        @Test
+        void throwsException_whenNodeOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(System::currentTimeMillis, 1024));
+        }
+    }
+
+    @DisplayName("단조 증가")
+    @Nested
+    class Monotonic {
+        @DisplayName("한 밀리초에 카운터 범위를 넘게 생성해도, 다음 밀리초를 당겨 쓰며 증가한다.")
+        @Test
+        void increase_whenCounterOverflows() {
+            // given
+            TsidGenerator generator = new TsidGenerator(() -> 1_760_000_000_000L, 1);
+
+            // when
+            long[] ids = new long[10_000];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = generator.next();
+            }
+
+            // then
+            for (int i = 1; i < ids.length; i++) {
+                assertTrue(ids[i - 1] < ids[i]);
+            }
+            assertTrue(millisOf(ids[ids.length - 1]) > 1_760_000_000_000L);
+        }
+
+        @DisplayName("시계가 뒤로 가도, 마지막 시각을 이어 증가한다.")
+        @Test
+        void increase_whenClockRollsBack() {
+            // given
+            AtomicLong clock = new AtomicLong(1_760_000_000_000L);
+            TsidGenerator generator = new TsidGenerator(clock::get, 1);
+            long before = generator.next();
+
+            // when
+            clock.set(1_759_999_999_000L);
+            long after = generator.next();
+
+            // then
+            assertTrue(before < after);
+        }
+    }
+
+    @DisplayName("node 결정")
+    @Nested
+    class ResolveNode {
+        @DisplayName("node 가 설정되어 있으면, 그 값을 쓴다.")
+        @Test
+        void useConfiguredNode_whenConfigured() {
+            assertEquals(7, TsidGenerator.resolveNode(" 7 ", "prd"));
+        }
+
+        @DisplayName("node 설정 없이 local/test 가 아닌 프로파일로 기동하면, IllegalStateException 이 발생한다.")
+        @Test
+        void throwsException_whenNodeMissingOutsideLocalOrTest() {
+            assertThrows(IllegalStateException.class, () -> TsidGenerator.resolveNode(null, "prd"));
+            assertThrows(IllegalStateException.class, () -> TsidGenerator.resolveNode(" ", "dev,qa"));
+        }
+
+        @DisplayName("node 설정 없이 local/test 프로파일로 기동하면, 범위 안에서 무작위로 고른다.")
+        @Test
+        void pickRandomNode_whenNodeMissingInLocalOrTest() {
+            for (String profiles : new String[]{null, "", "local", "test", "local, inmemory"}) {
+                long node = TsidGenerator.resolveNode(null, profiles);
+                assertTrue(node >= 0 && node < (1 << TsidGenerator.NODE_BITS));
+            }
+        }
+    }
+
+    @DisplayName("64개 스레드가 동시에 생성해도, 중복이 없다.")
+    @Test
+    void unique_whenGeneratedConcurrently() throws Exception {
+        // given
+        int threadCount = 64;
+        int perThread = 1 << 14;
+        TsidGenerator generator = new TsidGenerator(System::currentTimeMillis, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] ids = new long[perThread];
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.next();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+        long[] all = new long[threadCount * perThread];
+        for (int t = 0; t < threadCount; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * perThread, perThread);
+        }
+        executor.shutdown();
+
+        // then
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i]);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.loopers.util.uuid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+    private static final Comparator<UUID> UNSIGNED_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static void assertIncreasing(List<UUID> uuids) {
+        for (int i = 1; i < uuids.size(); i++) {
+            assertTrue(UNSIGNED_ORDER.compare(uuids.get(i - 1), uuids.get(i)) < 0,
+                    "증가하지 않음: " + uuids.get(i - 1) + " -> " + uuids.get(i));
+        }
+    }
+
+    @DisplayName("형식")
+    @Nested
+    class Format {
+        @DisplayName("버전 7, RFC 9562 변형이고, 상위 48비트에 생성 시각(ms)이 담긴다.")
+        @Test
+        void hasVersion7AndTimestamp() {
+            // given
+            UuidV7Generator generator = new UuidV7Generator(() -> 1_722_500_000_000L);
+
+            // when
+            UUID uuid = generator.next();
+
+            // then
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertEquals(1_722_500_000_000L, timestampOf(uuid));
+        }
+    }
+
+    @DisplayName("단조 증가")
+    @Nested
+    class Monotonic {
+        @DisplayName("같은 밀리초 안에서 생성해도, 생성 순서대로 증가한다.")
+        @Test
+        void increase_whenSameMillisecond() {
+            // given
+            UuidV7Generator generator = new UuidV7Generator(() -> 1_000L);
+
+            // when
+            List<UUID> uuids = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                uuids.add(generator.next());
+            }
+
+            // then
+            assertIncreasing(uuids);
+            assertEquals(1_000L, timestampOf(uuids.get(0)));
+        }
+
+        @DisplayName("시계가 뒤로 가도, 마지막 시각을 유지하며 증가한다.")
+        @Test
+        void increase_whenClockRollsBack() {
+            // given
+            AtomicLong clock = new AtomicLong(5_000L);
+            UuidV7Generator generator = new UuidV7Generator(clock::get);
+            UUID before = generator.next();
+
+            // when
+            clock.set(4_000L);
+            UUID after = generator.next();
+
+            // then
+            assertTrue(UNSIGNED_ORDER.compare(before, after) < 0);
+            assertEquals(5_000L, timestampOf(after));
+        }
+
+        @DisplayName("한 밀리초에 카운터 범위를 넘게 생성하면, 다음 밀리초를 당겨 쓰며 증가한다.")
+        @Test
+        void borrowNextMillisecond_whenCounterOverflows() {
+            // given
+            UuidV7Generator generator = new UuidV7Generator(() -> 1_000L);
+
+            // when
+            List<UUID> uuids = generator.nextN(1 << 18);
+
+            // then
+            assertIncreasing(uuids);
+            assertTrue(timestampOf(uuids.get(uuids.size() - 1)) > 1_000L);
+        }
+
+        @DisplayName("여러 개를 한 번에 생성하면, 요청한 개수만큼 증가하는 순서로 반환된다.")
+        @Test
+        void returnIncreasingList_whenNextN() {
+            // given
+            UuidV7Generator generator = new UuidV7Generator(System::currentTimeMillis);
+            UUID first = generator.next();
+
+            // when
+            List<UUID> uuids = generator.nextN(1_000);
+
+            // then
+            assertEquals(1_000, uuids.size());
+            assertTrue(UNSIGNED_ORDER.compare(first, uuids.get(0)) < 0);
+            assertIncreasing(uuids);
+        }
+    }
+
+    @DisplayName("동시 생성")
+    @Nested
+    class Concurrency {
+        @DisplayName("64개 스레드가 수백만 개를 동시에 생성해도, 중복이 없고 스레드별로 증가한다.")
+        @Test
+        void unique_whenGeneratedConcurrently() throws Exception {
+            // given
+            int threadCount = 64;
+            int perThread = 1 << 15; // 총 2,097,152 개
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            List<Future<UUID[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    UUID[] uuids = new UUID[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        uuids[i] = UuidV7Generator.generateUuidV7();
+                    }
+                    return uuids;
+                }));
+            }
+            start.countDown();
+            UUID[] all = new UUID[threadCount * perThread];
+            for (int t = 0; t < threadCount; t++) {
+                UUID[] uuids = futures.get(t).get();
+                assertIncreasing(Arrays.asList(uuids));
+                System.arraycopy(uuids, 0, all, t * perThread, perThread);
+            }
+            executor.shutdown();
+
+            // then
+            Arrays.sort(all, UNSIGNED_ORDER);
+            for (int i = 1; i < all.length; i++) {
+                assertNotEquals(all[i - 1], all[i]);
+            }
+        }
+    }
+
+    @DisplayName("BINARY(16) 변환")
+    @Nested
+    class Binary {
+        @DisplayName("바이트로 변환했다가 되돌리면 같은 값이고, 바이트 순서는 생성 순서를 따른다.")
+        @Test
+        void roundTripAndKeepOrder() {
+            // given
+            UuidV7Generator generator = new UuidV7Generator(() -> 1_000L);
+            UUID first = generator.next();
+            UUID second = generator.next();
+            UuidStringBinaryConverter converter = new UuidStringBinaryConverter();
+
+            // when
+            byte[] firstBytes = converter.convertToDatabaseColumn(first.toString());
+            byte[] secondBytes = converter.convertToDatabaseColumn(second.toString());
+
+            // then
+            assertEquals(16, firstBytes.length);
+            assertEquals(first.toString(), converter.convertToEntityAttribute(firstBytes));
+            assertTrue(Arrays.compareUnsigned(firstBytes, secondBytes) < 0);
+        }
+
+        @DisplayName("표준 형식이 아닌 문자열은 UUID 로 보지 않는다.")
+        @Test
+        void rejectNonCanonical() {
+            assertFalse(UuidStringBinaryConverter.isUuid("k6-callback-1"));
+            assertFalse(UuidStringBinaryConverter.isUuid("1-1-1-1-1"));
+            assertFalse(UuidStringBinaryConverter.isUuid(null));
+            assertTrue(UuidStringBinaryConverter.isUuid(UuidV7Generator.generateUuidV7().toString()));
+        }
+    }
+}